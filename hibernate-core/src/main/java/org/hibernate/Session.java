@@ -15,6 +15,7 @@ import jakarta.persistence.PessimisticLockScope;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.jdbc.Work;
 import org.hibernate.query.Query;
+import org.hibernate.query.QueryBatch;
 import org.hibernate.stat.SessionStatistics;
 
 import jakarta.persistence.EntityGraph;
@@ -1515,6 +1516,18 @@ public interface Session extends SharedSessionContract, EntityManager {
 		void lock(Object object);
 	}
 
+	/**
+	 * Create a {@link QueryBatch}, allowing several independent selection
+	 * queries to be executed together, in a single round trip to the database
+	 * if the database supports it.
+	 *
+	 * @return a new {@link QueryBatch}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	QueryBatch createQueryBatch();
+
 	/**
 	 * Add one or more listeners to the Session
 	 *
@@ -71,6 +71,40 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	Object insert(String entityName, Object entity);
 
+	/**
+	 * Insert multiple rows of the same entity type, using the
+	 * {@linkplain org.hibernate.dialect.Dialect#getBulkInsertSupport()
+	 * bulk loading capabilities} of the database, for example,
+	 * {@code copy} on PostgreSQL, or multi-row {@code insert}
+	 * statements.
+	 * <p>
+	 * Entities which cannot be loaded in bulk, for example, entities
+	 * with identifiers generated by the database, or mapped to more
+	 * than one table, are inserted one at a time, as if by
+	 * {@link #insert(Object)}.
+	 *
+	 * @param entities new transient instances of the same entity type
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	void bulkInsert(Iterable<?> entities);
+
+	/**
+	 * Insert multiple rows of the given entity type, using the
+	 * {@linkplain org.hibernate.dialect.Dialect#getBulkInsertSupport()
+	 * bulk loading capabilities} of the database.
+	 *
+	 * @param entityName The entityName for the entities to be inserted
+	 * @param entities new transient instances
+	 *
+	 * @see #bulkInsert(Iterable)
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	void bulkInsert(String entityName, Iterable<?> entities);
+
 	/**
 	 * Update a row.
 	 *
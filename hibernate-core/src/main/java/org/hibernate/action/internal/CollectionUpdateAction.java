@@ -27,6 +27,13 @@ public final class CollectionUpdateAction extends CollectionAction {
 
 	private final boolean emptySnapshot;
 
+	/**
+	 * What is done to the rows of the collection, as decided by {@link #executeRowDeletes()}
+	 */
+	private enum RowOperation { NONE, RECREATE, ROWS }
+
+	private RowOperation rowOperation;
+
 	/**
 	 * Constructs a CollectionUpdateAction
 	 * @param collection The collection to update
@@ -47,6 +54,38 @@ public final class CollectionUpdateAction extends CollectionAction {
 
 	@Override
 	public void execute() throws HibernateException {
+		if ( rowOperation == null ) {
+			executeRowDeletes();
+			executeRowUpdates();
+			executeRowInserts();
+		}
+
+		final SharedSessionContractImplementor session = getSession();
+		final CollectionPersister persister = getPersister();
+		final PersistentCollection<?> collection = getCollection();
+
+		session.getPersistenceContextInternal().getCollectionEntry( collection ).afterAction( collection );
+		evict();
+		postUpdate();
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.updateCollection( persister.getRole() );
+		}
+	}
+
+	/**
+	 * The first phase of the execution of this action: notify the listeners, and
+	 * delete the rows removed from the collection, or all its rows if it has to be
+	 * removed or recreated.
+	 * <p>
+	 * The {@link org.hibernate.engine.spi.ActionQueue} may execute this phase for
+	 * all updated collections before it executes the {@linkplain #executeRowUpdates()
+	 * next one}, so that the row operations for collections of the same role, but
+	 * different owners, are batched together. Otherwise, {@link #execute()} executes
+	 * all the phases.
+	 */
+	public void executeRowDeletes() throws HibernateException {
 		final Object id = getKey();
 		final SharedSessionContractImplementor session = getSession();
 		final CollectionPersister persister = getPersister();
@@ -63,11 +102,13 @@ public final class CollectionUpdateAction extends CollectionAction {
 				throw new AssertionFailure( "collection is not dirty" );
 			}
 			//do nothing - we only need to notify the cache... 
+			rowOperation = RowOperation.NONE;
 		}
 		else if ( !affectedByFilters && collection.empty() ) {
 			if ( !emptySnapshot ) {
 				persister.remove( id, session );
 			}
+			rowOperation = RowOperation.NONE;
 		}
 		else if ( collection.needsRecreate( persister ) ) {
 			if ( affectedByFilters ) {
@@ -78,24 +119,42 @@ public final class CollectionUpdateAction extends CollectionAction {
 			if ( !emptySnapshot ) {
 				persister.remove( id, session );
 			}
-			persister.recreate( collection, id, session );
+			rowOperation = RowOperation.RECREATE;
 		}
 		else {
 			persister.deleteRows( collection, id, session );
-			persister.updateRows( collection, id, session );
-			persister.insertRows( collection, id, session );
+			rowOperation = RowOperation.ROWS;
 		}
+	}
 
-		session.getPersistenceContextInternal().getCollectionEntry( collection ).afterAction( collection );
-		evict();
-		postUpdate();
+	/**
+	 * The second phase of the execution of this action: update the changed rows.
+	 *
+	 * @see #executeRowDeletes()
+	 */
+	public void executeRowUpdates() throws HibernateException {
+		assert rowOperation != null;
+		if ( rowOperation == RowOperation.ROWS ) {
+			getPersister().updateRows( getCollection(), getKey(), getSession() );
+		}
+	}
 
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-		if ( statistics.isStatisticsEnabled() ) {
-			statistics.updateCollection( persister.getRole() );
+	/**
+	 * The third phase of the execution of this action: insert the added rows, or
+	 * all rows if the collection has to be recreated.
+	 *
+	 * @see #executeRowDeletes()
+	 */
+	public void executeRowInserts() throws HibernateException {
+		assert rowOperation != null;
+		if ( rowOperation == RowOperation.RECREATE ) {
+			getPersister().recreate( getCollection(), getKey(), getSession() );
+		}
+		else if ( rowOperation == RowOperation.ROWS ) {
+			getPersister().insertRows( getCollection(), getKey(), getSession() );
 		}
 	}
-	
+
 	private void preUpdate() {
 		getFastSessionServices().eventListenerGroup_PRE_COLLECTION_UPDATE
 				.fireLazyEventOnEachListener( this::newPreCollectionUpdateEvent,
@@ -411,13 +411,14 @@ public class MetadataSources implements Serializable {
 
 	/**
 	 * Add a cached mapping file. A cached file is a serialized representation of
-	 * the DOM structure of a particular mapping. It is saved from a previous call
+	 * the bound, and possibly transformed, mapping. It is saved from a previous call
 	 * as a file with the name {@code {xmlFile}.bin} where {@code {xmlFile}} is the
 	 * name of the original mapping file.
 	 * <p>
-	 * If a cached {@code {xmlFile}.bin} exists and is newer than {@code {xmlFile}},
-	 * the {@code {xmlFile}.bin} file will be read directly. Otherwise {@code {xmlFile}}
-	 * is read and then serialized to {@code {xmlFile}.bin} for use the next time.
+	 * If a cached {@code {xmlFile}.bin} exists and was written for the current content
+	 * of {@code {xmlFile}}, the {@code {xmlFile}.bin} file will be read directly.
+	 * Otherwise {@code {xmlFile}} is read and then serialized to {@code {xmlFile}.bin}
+	 * for use the next time.
 	 *
 	 * @param file The cacheable mapping file to be added, {@code {xmlFile}} in above discussion.
 	 *
@@ -429,13 +430,14 @@ public class MetadataSources implements Serializable {
 
 	/**
 	 * Add a cached mapping file.  A cached file is a serialized representation of
-	 * the DOM structure of a particular mapping. It is saved from a previous call
+	 * the bound, and possibly transformed, mapping. It is saved from a previous call
 	 * as a file with the name {@code {xmlFile}.bin} where {@code {xmlFile}} is the
 	 * name of the original mapping file.
 	 * <p>
-	 * If a cached {@code {xmlFile}.bin} exists and is newer than {@code {xmlFile}},
-	 * the {@code {xmlFile}.bin} file will be read directly. Otherwise {@code {xmlFile}}
-	 * is read and then serialized to {@code {xmlFile}.bin} for use the next time.
+	 * If a cached {@code {xmlFile}.bin} exists and was written for the current content
+	 * of {@code {xmlFile}}, the {@code {xmlFile}.bin} file will be read directly.
+	 * Otherwise {@code {xmlFile}} is read and then serialized to {@code {xmlFile}.bin}
+	 * for use the next time.
 	 *
 	 * @param file The cacheable mapping file to be added, {@code {xmlFile}} in above discussion.
 	 *
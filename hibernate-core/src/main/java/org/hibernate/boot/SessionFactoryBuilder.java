@@ -333,8 +333,9 @@ public interface SessionFactoryBuilder {
 	 * Specify whether ordering of inserts should be enabled.
 	 * <p>
 	 * This allows more efficient SQL execution via the use of batching
-	 * for the inserts; the cost is that the determination of the ordering
-	 * is far less efficient than not ordering.
+	 * for the inserts; the cost is the determination of the ordering,
+	 * which is based on dependencies between entity types computed once
+	 * for the {@code SessionFactory}.
 	 *
 	 * @param enabled {@code true} indicates that ordering should be enabled; {@code false} indicates not
 	 *
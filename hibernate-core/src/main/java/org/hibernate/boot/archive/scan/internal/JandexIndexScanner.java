@@ -0,0 +1,245 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.archive.scan.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.hibernate.Incubating;
+import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
+import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.spi.AbstractScannerImpl;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.ClassFileArchiveEntryHandler;
+import org.hibernate.boot.archive.scan.spi.NonClassFileArchiveEntryHandler;
+import org.hibernate.boot.archive.scan.spi.PackageInfoArchiveEntryHandler;
+import org.hibernate.boot.archive.spi.ArchiveContext;
+import org.hibernate.boot.archive.spi.ArchiveDescriptor;
+import org.hibernate.boot.archive.spi.ArchiveDescriptorFactory;
+import org.hibernate.boot.archive.spi.ArchiveEntry;
+import org.hibernate.boot.archive.spi.ArchiveEntryHandler;
+import org.hibernate.boot.archive.spi.ArchiveException;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.jboss.logging.Logger;
+
+import static org.hibernate.internal.util.io.ChecksumHelper.checksum;
+
+/**
+ * A {@link org.hibernate.boot.archive.scan.spi.Scanner} which discovers the managed classes
+ * of an archive from a Jandex index, instead of reading every class file of the archive.
+ * <p>
+ * The index is read from the {@value #INDEX_LOCATION} entry of the archive, as produced by
+ * the Jandex build plugins. When an archive has no such entry, and a cache directory was
+ * specified using {@value org.hibernate.cfg.PersistenceSettings#SCANNER_INDEX_CACHE_DIRECTORY},
+ * the index of a jar file is built while the jar is scanned, and is stored in the cache
+ * directory under the SHA-256 checksum of the jar, so that later scans of the same jar can
+ * read it. Otherwise, the archive is scanned like {@link StandardScanner} does.
+ * <p>
+ * Packages and mapping files are still discovered by visiting the entries of the archive.
+ * <p>
+ * A prebuilt index must be rebuilt whenever the classes of the archive change, since the
+ * scanner trusts its content.
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#SCANNER
+ * @see org.hibernate.cfg.PersistenceSettings#SCANNER_INDEX_CACHE_DIRECTORY
+ */
+@Incubating
+public class JandexIndexScanner extends AbstractScannerImpl {
+	private static final Logger log = Logger.getLogger( JandexIndexScanner.class );
+
+	/**
+	 * The location of a prebuilt index within an archive.
+	 */
+	public static final String INDEX_LOCATION = "META-INF/jandex.idx";
+
+	private final Path indexCacheDirectory;
+
+	public JandexIndexScanner() {
+		this( StandardArchiveDescriptorFactory.INSTANCE );
+	}
+
+	public JandexIndexScanner(ArchiveDescriptorFactory archiveDescriptorFactory) {
+		this( archiveDescriptorFactory, null );
+	}
+
+	/**
+	 * @param archiveDescriptorFactory The factory for the descriptors of the scanned archives
+	 * @param indexCacheDirectory The directory in which the indexes built for jar files without
+	 * a prebuilt index are stored, or {@code null} to not build indexes
+	 */
+	public JandexIndexScanner(ArchiveDescriptorFactory archiveDescriptorFactory, Path indexCacheDirectory) {
+		super( archiveDescriptorFactory );
+		this.indexCacheDirectory = indexCacheDirectory;
+	}
+
+	@Override
+	protected void visitArchive(URL url, ArchiveDescriptor descriptor, boolean isRootUrl, ScanResultCollector collector) {
+		try ( URLClassLoader archiveLoader = new URLClassLoader( new URL[] { url }, null ) ) {
+			final Index prebuiltIndex = readIndex( archiveLoader.findResource( INDEX_LOCATION ) );
+			if ( prebuiltIndex != null ) {
+				log.debugf( "Discovering classes of archive [%s] from its index", url );
+				descriptor.visitArchive( new IndexedArchiveContext( isRootUrl, collector, null ) );
+				handleIndexedClasses( prebuiltIndex, archiveLoader, isRootUrl, collector );
+				return;
+			}
+
+			final Path jarFile = jarFile( url );
+			if ( jarFile != null ) {
+				final Path cachedIndexFile = indexCacheDirectory.resolve( checksum( jarFile ) + ".idx" );
+				final Index cachedIndex = Files.exists( cachedIndexFile )
+						? readIndex( cachedIndexFile.toUri().toURL() )
+						: null;
+				if ( cachedIndex != null ) {
+					log.debugf( "Discovering classes of archive [%s] from the cached index [%s]", url, cachedIndexFile );
+					descriptor.visitArchive( new IndexedArchiveContext( isRootUrl, collector, null ) );
+					handleIndexedClasses( cachedIndex, archiveLoader, isRootUrl, collector );
+				}
+				else {
+					final Indexer indexer = new Indexer();
+					descriptor.visitArchive( new IndexedArchiveContext( isRootUrl, collector, indexer ) );
+					final Index index = indexer.complete();
+					writeIndex( index, cachedIndexFile );
+					handleIndexedClasses( index, archiveLoader, isRootUrl, collector );
+				}
+				return;
+			}
+		}
+		catch (IOException e) {
+			throw new ArchiveException( "Could not index archive : " + url, e );
+		}
+
+		super.visitArchive( url, descriptor, isRootUrl, collector );
+	}
+
+	private static void handleIndexedClasses(
+			Index index,
+			URLClassLoader archiveLoader,
+			boolean isRootUrl,
+			ScanResultCollector collector) {
+		for ( ClassInfo classInfo : index.getKnownClasses() ) {
+			final ClassDescriptor.Categorization categorization = ClassFileArchiveEntryHandler.categorize( classInfo );
+			if ( categorization != ClassDescriptor.Categorization.OTHER ) {
+				final String className = classInfo.name().toString();
+				final URL classFile = archiveLoader.findResource( className.replace( '.', '/' ) + ".class" );
+				collector.handleClass(
+						new ClassDescriptorImpl(
+								className,
+								categorization,
+								classFile == null ? null : new UrlInputStreamAccess( classFile )
+						),
+						isRootUrl
+				);
+			}
+		}
+	}
+
+	/**
+	 * Read the index at the given URL, or return {@code null} if there is no readable index.
+	 */
+	private static Index readIndex(URL indexUrl) {
+		if ( indexUrl == null ) {
+			return null;
+		}
+		try ( InputStream inputStream = indexUrl.openStream() ) {
+			return new IndexReader( inputStream ).read();
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Ignoring unreadable index [%s]", indexUrl );
+			return null;
+		}
+	}
+
+	private static void writeIndex(Index index, Path indexFile) throws IOException {
+		Files.createDirectories( indexFile.getParent() );
+		// write to a temporary file first, so that a concurrent scan never reads a partial index
+		final Path temporaryFile = Files.createTempFile( indexFile.getParent(), "jandex", ".tmp" );
+		try ( OutputStream outputStream = Files.newOutputStream( temporaryFile ) ) {
+			new IndexWriter( outputStream ).write( index );
+		}
+		Files.move( temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING );
+	}
+
+	/**
+	 * The jar file at the given URL, if indexes should be cached and the URL is a local jar file.
+	 */
+	private Path jarFile(URL url) {
+		if ( indexCacheDirectory == null || !"file".equals( url.getProtocol() ) ) {
+			return null;
+		}
+		try {
+			final File file = new File( url.toURI() );
+			return file.isFile() ? file.toPath() : null;
+		}
+		catch (URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Collects the packages and mapping files of an archive whose classes are discovered from
+	 * an index, and optionally builds that index.
+	 */
+	private static class IndexedArchiveContext implements ArchiveContext {
+		private final boolean isRootUrl;
+		private final Indexer indexer;
+
+		private final PackageInfoArchiveEntryHandler packageEntryHandler;
+		private final ArchiveEntryHandler fileEntryHandler;
+
+		private IndexedArchiveContext(boolean isRootUrl, ScanResultCollector collector, Indexer indexer) {
+			this.isRootUrl = isRootUrl;
+			this.indexer = indexer;
+			this.packageEntryHandler = new PackageInfoArchiveEntryHandler( collector );
+			this.fileEntryHandler = new NonClassFileArchiveEntryHandler( collector );
+		}
+
+		@Override
+		public boolean isRootUrl() {
+			return isRootUrl;
+		}
+
+		@Override
+		public ArchiveEntryHandler obtainArchiveEntryHandler(ArchiveEntry entry) {
+			final String nameWithinArchive = entry.getNameWithinArchive();
+
+			if ( nameWithinArchive.endsWith( "package-info.class" ) ) {
+				return packageEntryHandler;
+			}
+			else if ( nameWithinArchive.endsWith( "module-info.class" ) ) {
+				return NoopEntryHandler.NOOP_INSTANCE;
+			}
+			else if ( nameWithinArchive.endsWith( ".class" ) ) {
+				return indexer == null ? NoopEntryHandler.NOOP_INSTANCE : this::indexEntry;
+			}
+			else {
+				return fileEntryHandler;
+			}
+		}
+
+		private void indexEntry(ArchiveEntry entry, ArchiveContext context) {
+			try ( InputStream inputStream = entry.getStreamAccess().accessInputStream() ) {
+				indexer.index( inputStream );
+			}
+			catch (IOException e) {
+				throw new ArchiveException( "Could not index class file : " + entry.getName(), e );
+			}
+		}
+	}
+}
@@ -35,22 +35,38 @@ public abstract class AbstractScannerImpl implements Scanner {
 		final ScanResultCollector collector = new ScanResultCollector( environment, options, parameters );
 
 		if ( environment.getNonRootUrls() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( false, collector );
 			for ( URL url : environment.getNonRootUrls() ) {
 				final ArchiveDescriptor descriptor = buildArchiveDescriptor( url, environment, false );
-				descriptor.visitArchive( context );
+				visitArchive( adjustUrl( url, environment, false ), descriptor, false, collector );
 			}
 		}
 
 		if ( environment.getRootUrl() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( true, collector );
 			final ArchiveDescriptor descriptor = buildArchiveDescriptor( environment.getRootUrl(), environment, true );
-			descriptor.visitArchive( context );
+			visitArchive( environment.getRootUrl(), descriptor, true, collector );
 		}
 
 		return collector.toScanResult();
 	}
 
+	/**
+	 * Visit the entries of an archive, collecting its classes, packages and mapping files.
+	 *
+	 * @param url The URL of the archive
+	 * @param descriptor The descriptor of the archive
+	 * @param isRootUrl Whether the archive is the root of the persistence unit
+	 * @param collector The collector of the scan results
+	 */
+	protected void visitArchive(URL url, ArchiveDescriptor descriptor, boolean isRootUrl, ScanResultCollector collector) {
+		descriptor.visitArchive( new ArchiveContextImpl( isRootUrl, collector ) );
+	}
+
+	private URL adjustUrl(URL url, ScanEnvironment environment, boolean isRootUrl) {
+		if ( !isRootUrl && archiveDescriptorFactory instanceof JarFileEntryUrlAdjuster ) {
+			return ( (JarFileEntryUrlAdjuster) archiveDescriptorFactory ).adjustJarFileEntryUrl( url, environment.getRootUrl() );
+		}
+		return url;
+	}
 
 	private ArchiveDescriptor buildArchiveDescriptor(
 			URL url,
@@ -59,12 +75,10 @@ public abstract class AbstractScannerImpl implements Scanner {
 		final ArchiveDescriptor descriptor;
 		final ArchiveDescriptorInfo descriptorInfo = archiveDescriptorCache.get( url );
 		if ( descriptorInfo == null ) {
-			if ( !isRootUrl && archiveDescriptorFactory instanceof JarFileEntryUrlAdjuster ) {
-				url = ( (JarFileEntryUrlAdjuster) archiveDescriptorFactory ).adjustJarFileEntryUrl( url, environment.getRootUrl() );
-			}
-			descriptor = archiveDescriptorFactory.buildArchiveDescriptor( url );
+			final URL archiveUrl = adjustUrl( url, environment, isRootUrl );
+			descriptor = archiveDescriptorFactory.buildArchiveDescriptor( archiveUrl );
 			archiveDescriptorCache.put(
-					url,
+					archiveUrl,
 					new ArchiveDescriptorInfo( descriptor, isRootUrl )
 			);
 		}
@@ -20,6 +20,7 @@ import org.hibernate.boot.archive.spi.ArchiveEntry;
 import org.hibernate.boot.archive.spi.ArchiveEntryHandler;
 import org.hibernate.boot.archive.spi.ArchiveException;
 
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.ClassSummary;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
@@ -72,25 +73,35 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 	}
 
 	private ClassDescriptor toClassDescriptor(ClassSummary classSummary, Index index, ArchiveEntry entry) {
-		ClassDescriptor.Categorization categorization = ClassDescriptor.Categorization.OTHER;
+		return new ClassDescriptorImpl(
+				classSummary.name().toString(),
+				categorize( index.getClassByName( classSummary.name() ) ),
+				entry.getStreamAccess()
+		);
+	}
 
-		if ( isModel( index ) ) {
-			categorization = ClassDescriptor.Categorization.MODEL;
+	/**
+	 * Determine the {@linkplain ClassDescriptor.Categorization categorization} of an indexed class.
+	 */
+	public static ClassDescriptor.Categorization categorize(ClassInfo classInfo) {
+		if ( isModel( classInfo ) ) {
+			return ClassDescriptor.Categorization.MODEL;
 		}
-		else if ( isConverter( index ) ) {
-			categorization = ClassDescriptor.Categorization.CONVERTER;
+		else if ( isConverter( classInfo ) ) {
+			return ClassDescriptor.Categorization.CONVERTER;
+		}
+		else {
+			return ClassDescriptor.Categorization.OTHER;
 		}
-
-		return new ClassDescriptorImpl( classSummary.name().toString(), categorization, entry.getStreamAccess() );
 	}
 
-	private boolean isConverter(Index index) {
-		return !index.getAnnotations( CONVERTER ).isEmpty();
+	private static boolean isConverter(ClassInfo classInfo) {
+		return classInfo.hasDeclaredAnnotation( CONVERTER );
 	}
 
-	private boolean isModel(Index index) {
+	private static boolean isModel(ClassInfo classInfo) {
 		for ( DotName model : MODELS ) {
-			if ( !index.getAnnotations( model ).isEmpty() ) {
+			if ( classInfo.hasDeclaredAnnotation( model ) ) {
 				return true;
 			}
 		}
@@ -29,6 +29,7 @@ import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.boot.spi.BootstrapPhaseTracker;
 import org.hibernate.boot.spi.ClassLoaderAccess;
 import org.hibernate.boot.spi.MetadataBuildingOptions;
 import org.hibernate.cfg.AvailableSettings;
@@ -79,6 +80,7 @@ public class BootstrapContextImpl implements BootstrapContext {
 	private HashMap<Class<?>, ConverterDescriptor> attributeConverterDescriptorMap;
 	private ArrayList<CacheRegionDefinition> cacheRegionDefinitions;
 	private final ManagedTypeRepresentationResolver representationStrategySelector;
+	private final BootstrapPhaseTracker bootstrapPhaseTracker;
 
 	public BootstrapContextImpl(
 			StandardServiceRegistry serviceRegistry,
@@ -86,6 +88,7 @@ public class BootstrapContextImpl implements BootstrapContext {
 		this.serviceRegistry = serviceRegistry;
 		this.classmateContext = new ClassmateContext();
 		this.metadataBuildingOptions = metadataBuildingOptions;
+		this.bootstrapPhaseTracker = BootstrapPhaseTracker.create( serviceRegistry );
 
 		this.classLoaderAccess = new ClassLoaderAccessImpl( serviceRegistry.getService( ClassLoaderService.class ) );
 		this.hcannReflectionManager = generateHcannReflectionManager();
@@ -222,6 +225,11 @@ public class BootstrapContextImpl implements BootstrapContext {
 
 	private final Map<String,BasicType<?>> adHocBasicTypeRegistrations = new HashMap<>();
 
+	@Override
+	public BootstrapPhaseTracker getBootstrapPhaseTracker() {
+		return bootstrapPhaseTracker;
+	}
+
 	@Override
 	public void registerAdHocBasicType(BasicType<?> basicType) {
 		adHocBasicTypeRegistrations.put( basicType.getName(), basicType );
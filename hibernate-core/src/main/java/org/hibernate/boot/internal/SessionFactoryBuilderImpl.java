@@ -69,8 +69,8 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 				metadata.getMetadataBuildingOptions().getServiceRegistry()
 						.getService( BytecodeProvider.class );
 		addSessionFactoryObservers( new SessionFactoryObserverForBytecodeEnhancer( bytecodeProvider ) );
-		addSessionFactoryObservers( new SessionFactoryObserverForNamedQueryValidation( metadata ) );
-		addSessionFactoryObservers( new SessionFactoryObserverForSchemaExport( metadata ) );
+		addSessionFactoryObservers( new SessionFactoryObserverForNamedQueryValidation( metadata, context.getBootstrapPhaseTracker() ) );
+		addSessionFactoryObservers( new SessionFactoryObserverForSchemaExport( metadata, context.getBootstrapPhaseTracker() ) );
 		addSessionFactoryObservers( new SessionFactoryObserverForRegistration() );
 	}
 
@@ -6,13 +6,22 @@
  */
 package org.hibernate.boot.internal;
 
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
 import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
-import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapPhase;
+import org.hibernate.boot.spi.BootstrapPhaseTracker;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.spi.QueryEngine;
 
+import static org.hibernate.cfg.QuerySettings.QUERY_PARALLEL_STARTUP_CHECKING;
+import static org.hibernate.internal.util.ForkJoinPoolHelper.createBootstrapPool;
+import static org.hibernate.internal.util.ForkJoinPoolHelper.shutdown;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+
 /**
  * Responsible for triggering {@linkplain QueryEngine#validateNamedQueries()
  * named query validation} when the {@link SessionFactory} is created.
@@ -24,19 +33,41 @@ import org.hibernate.query.spi.QueryEngine;
  * @author Gavin King
  */
 class SessionFactoryObserverForNamedQueryValidation implements SessionFactoryObserver {
-	private final Metadata metadata;
+	private final MetadataImplementor metadata;
+	private final BootstrapPhaseTracker phaseTracker;
 
-	SessionFactoryObserverForNamedQueryValidation(MetadataImplementor metadata) {
+	SessionFactoryObserverForNamedQueryValidation(MetadataImplementor metadata, BootstrapPhaseTracker phaseTracker) {
 		this.metadata = metadata;
+		this.phaseTracker = phaseTracker;
 	}
 
 	@Override
 	public void sessionFactoryCreated(SessionFactory factory) {
 		SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
 		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		final BootstrapPhaseTracker.Measurement measurement = phaseTracker.begin( BootstrapPhase.NAMED_QUERY_VALIDATION );
 		queryEngine.getNamedObjectRepository().prepare( sessionFactory, metadata );
 		if ( sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingEnabled() ) {
-			queryEngine.validateNamedQueries();
+			final ForkJoinPool pool = createValidationPool( sessionFactory.getProperties() );
+			if ( pool == null ) {
+				queryEngine.validateNamedQueries();
+			}
+			else {
+				try {
+					queryEngine.getNamedObjectRepository().validateNamedQueries( queryEngine, pool );
+				}
+				finally {
+					shutdown( pool );
+				}
+			}
 		}
+		phaseTracker.end( measurement );
+	}
+
+	private static ForkJoinPool createValidationPool(Map<String, Object> settings) {
+		return createBootstrapPool(
+				getBoolean( QUERY_PARALLEL_STARTUP_CHECKING, settings ),
+				"hibernate-named-query-validation-"
+		);
 	}
 }
@@ -8,6 +8,8 @@ package org.hibernate.boot.internal;
 
 import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
+import org.hibernate.boot.spi.BootstrapPhase;
+import org.hibernate.boot.spi.BootstrapPhaseTracker;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
@@ -26,20 +28,24 @@ import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
  */
 class SessionFactoryObserverForSchemaExport implements SessionFactoryObserver {
 	private final MetadataImplementor metadata;
+	private final BootstrapPhaseTracker phaseTracker;
 	private DelayedDropAction delayedDropAction;
 
-	SessionFactoryObserverForSchemaExport(MetadataImplementor metadata) {
+	SessionFactoryObserverForSchemaExport(MetadataImplementor metadata, BootstrapPhaseTracker phaseTracker) {
 		this.metadata = metadata;
+		this.phaseTracker = phaseTracker;
 	}
 
 	@Override
 	public void sessionFactoryCreated(SessionFactory factory) {
+		final BootstrapPhaseTracker.Measurement measurement = phaseTracker.begin( BootstrapPhase.SCHEMA_TOOLING );
 		SchemaManagementToolCoordinator.process(
 				metadata,
 				getRegistry( factory ),
 				factory.getProperties(),
 				action -> delayedDropAction = action
 		);
+		phaseTracker.end( measurement );
 	}
 
 	@Override
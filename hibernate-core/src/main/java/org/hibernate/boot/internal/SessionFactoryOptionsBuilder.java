@@ -41,6 +41,7 @@ import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.context.spi.TenantSchemaMapper;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.jdbc.env.internal.JdbcEnvironmentImpl;
@@ -106,6 +107,7 @@ import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
+import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_SCHEMA_MAPPER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
@@ -213,6 +215,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	// multi-tenancy
 	private boolean multiTenancyEnabled;
 	private CurrentTenantIdentifierResolver<Object> currentTenantIdentifierResolver;
+	private TenantSchemaMapper<Object> tenantSchemaMapper;
 
 	// Queries
 	private SqmFunctionRegistry sqmFunctionRegistry;
@@ -372,6 +375,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				CurrentTenantIdentifierResolver.class,
 				configurationSettings.get( MULTI_TENANT_IDENTIFIER_RESOLVER )
 		);
+		this.tenantSchemaMapper = strategySelector.resolveStrategy(
+				TenantSchemaMapper.class,
+				configurationSettings.get( MULTI_TENANT_SCHEMA_MAPPER )
+		);
 
 		this.batchFetchStyle = BatchFetchStyle.interpret( configurationSettings.get( BATCH_FETCH_STYLE ) );
 		this.delayBatchFetchLoaderCreations = configurationService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
@@ -392,7 +399,6 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		}
 
 		this.orderUpdatesEnabled = getBoolean( ORDER_UPDATES, configurationSettings );
-		this.orderInsertsEnabled = getBoolean( ORDER_INSERTS, configurationSettings );
 
 		this.callbacksEnabled = getBoolean( JPA_CALLBACKS_ENABLED, configurationSettings, true );
 
@@ -519,6 +525,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		if ( disallowBatchUpdates( dialect, meta ) ) {
 			this.jdbcBatchSize = 0;
 		}
+		// ordering inserts is only worthwhile when they are batched
+		this.orderInsertsEnabled = getBoolean( ORDER_INSERTS, configurationSettings, jdbcBatchSize > 1 );
 
 		this.jdbcBatchVersionedData = getBoolean( BATCH_VERSIONED_DATA, configurationSettings, true );
 		this.scrollableResultSetsEnabled = getBoolean(
@@ -1053,6 +1061,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return currentTenantIdentifierResolver;
 	}
 
+	@Override
+	public TenantSchemaMapper<Object> getTenantSchemaMapper() {
+		return tenantSchemaMapper;
+	}
+
 	@Override
 	public boolean isJtaTrackByThread() {
 		return jtaTrackByThread;
@@ -10,6 +10,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.Serializable;
 
 import org.hibernate.boot.MappingException;
@@ -21,9 +22,20 @@ import org.hibernate.boot.jaxb.spi.XmlSource;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.internal.util.io.ChecksumHelper;
 import org.hibernate.type.SerializationException;
 
 /**
+ * An {@link XmlSource} for a mapping file whose {@link Binding} is cached in a
+ * serialized file, so that binding an unchanged mapping file skips both the JAXB
+ * unmarshalling and the {@code hbm.xml} transformation, if enabled.
+ * <p>
+ * The cached file records the SHA-256 checksum of the content of the mapping file,
+ * and whether {@code hbm.xml} documents were transformed, and is only used when
+ * both still match. Touching or copying the mapping file does not invalidate it.
+ * The content is only hashed when the size or the timestamp of the mapping file
+ * differ from the ones recorded in the cached file.
+ *
  * @author Steve Ebersole
  */
 public class CacheableFileXmlSource extends XmlSource {
@@ -47,12 +59,6 @@ public class CacheableFileXmlSource extends XmlSource {
 						origin
 				);
 			}
-			if ( isSerfileObsolete() ) {
-				throw new MappingException(
-						String.format( "Cached file [%s] could not be used as the mapping file is newer", origin.getName() ),
-						origin
-				);
-			}
 		}
 	}
 
@@ -61,11 +67,12 @@ public class CacheableFileXmlSource extends XmlSource {
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public Binding doBind(Binder binder) {
+		final boolean transformHbmMappings = isTransformHbmMappings( binder );
 		if ( strict ) {
+			final Object cached;
 			try {
-				return new Binding( readSerFile(), getOrigin() );
+				cached = readSerFile();
 			}
 			catch ( SerializationException e ) {
 				throw new MappingException(
@@ -81,11 +88,23 @@ public class CacheableFileXmlSource extends XmlSource {
 						getOrigin()
 				);
 			}
+			final Binding binding = cachedBinding( cached, transformHbmMappings );
+			if ( binding == null ) {
+				throw new MappingException(
+						String.format( "Cached file [%s] could not be used as the mapping file has changed", getOrigin().getName() ),
+						getOrigin()
+				);
+			}
+			return binding;
 		}
 		else {
-			if ( !isSerfileObsolete() ) {
+			if ( serFile.exists() ) {
 				try {
-					return readSerFile();
+					final Binding binding = cachedBinding( readSerFile(), transformHbmMappings );
+					if ( binding != null ) {
+						return binding;
+					}
+					log.cachedFileObsolete( serFile );
 				}
 				catch ( SerializationException e ) {
 					log.unableToDeserializeCache( serFile.getName(), e );
@@ -94,44 +113,91 @@ public class CacheableFileXmlSource extends XmlSource {
 					log.cachedFileNotFound( serFile.getName(), e );
 				}
 			}
-			else {
-				log.cachedFileObsolete( serFile );
-			}
 
 			log.readingMappingsFromFile( xmlFile.getPath() );
 			final Binding binding = FileXmlSource.doBind( binder, xmlFile, getOrigin() );
 
-			writeSerFile( binding );
+			writeSerFile( binding, transformHbmMappings );
 
 			return binding;
 		}
 	}
 
-	private <T> T readSerFile() throws SerializationException, FileNotFoundException {
+	/**
+	 * The binding held by the given cached object, or {@code null} if it does not
+	 * correspond to the current content of the mapping file.
+	 */
+	private Binding cachedBinding(Object cached, boolean transformHbmMappings) {
+		if ( cached instanceof CachedBinding ) {
+			final CachedBinding cachedBinding = (CachedBinding) cached;
+			if ( cachedBinding.transformHbmMappings != transformHbmMappings ) {
+				return null;
+			}
+			// a cached file may be used without its mapping file
+			if ( !xmlFile.exists() || cachedBinding.isUnmodified( xmlFile ) ) {
+				return cachedBinding.binding;
+			}
+			final String checksum = checksum( xmlFile );
+			if ( !cachedBinding.checksum.equals( checksum ) ) {
+				return null;
+			}
+			if ( !strict ) {
+				// the mapping file was touched or copied, but its content is unchanged,
+				// so record its new size and timestamp to avoid hashing it again next time
+				writeSerFile( new CachedBinding( checksum, xmlFile, transformHbmMappings, cachedBinding.binding ), xmlFile, serFile );
+			}
+			return cachedBinding.binding;
+		}
+		else if ( cached instanceof Binding ) {
+			// written before checksums were recorded, so fall back to the timestamps
+			return isSerfileObsolete() ? null : (Binding) cached;
+		}
+		else {
+			throw new SerializationException( "Unexpected content in cached file " + serFile.getName(), null );
+		}
+	}
+
+	private Object readSerFile() throws SerializationException, FileNotFoundException {
 		log.readingCachedMappings( serFile );
 		return SerializationHelper.deserialize( new FileInputStream( serFile ) );
 	}
 
-	private void writeSerFile(Object binding) {
-		writeSerFile( (Serializable) binding, xmlFile, serFile );
+	private void writeSerFile(Binding binding, boolean transformHbmMappings) {
+		writeSerFile( binding, transformHbmMappings, xmlFile, serFile );
+	}
+
+	private static void writeSerFile(Binding binding, boolean transformHbmMappings, File xmlFile, File serFile) {
+		final CachedBinding cachedBinding;
+		try {
+			cachedBinding = new CachedBinding( checksum( xmlFile ), xmlFile, transformHbmMappings, binding );
+		}
+		catch ( Exception e ) {
+			log.unableToWriteCachedFile( serFile.getAbsolutePath(), e.getMessage() );
+			return;
+		}
+		writeSerFile( cachedBinding, xmlFile, serFile );
 	}
 
-	private static void writeSerFile(Serializable binding, File xmlFile, File serFile) {
+	private static void writeSerFile(CachedBinding cachedBinding, File xmlFile, File serFile) {
 		try ( FileOutputStream fos = new FileOutputStream( serFile ) ) {
 			if ( log.isDebugEnabled() ) {
 				log.debugf( "Writing cache file for: %s to: %s", xmlFile.getAbsolutePath(), serFile.getAbsolutePath() );
 			}
-			SerializationHelper.serialize( binding, fos );
-			boolean success = serFile.setLastModified( System.currentTimeMillis() );
-			if ( !success ) {
-				log.warn( "Could not update cacheable hbm.xml bin file timestamp" );
-			}
+			SerializationHelper.serialize( cachedBinding, fos );
+			touch( serFile );
 		}
 		catch ( Exception e ) {
 			log.unableToWriteCachedFile( serFile.getAbsolutePath(), e.getMessage() );
 		}
 	}
 
+	private static void touch(File serFile) {
+		boolean success = serFile.setLastModified( System.currentTimeMillis() );
+		if ( !success ) {
+			log.warn( "Could not update cacheable hbm.xml bin file timestamp" );
+		}
+	}
+
 	public static void createSerFile(File xmlFile, Binder binder) {
 		createSerFile( xmlFile, determineCachedFile( xmlFile ), binder );
 	}
@@ -140,13 +206,54 @@ public class CacheableFileXmlSource extends XmlSource {
 		final Origin origin = new Origin( SourceType.FILE, xmlFile.getAbsolutePath() );
 		writeSerFile(
 				FileXmlSource.doBind( binder, xmlFile, origin ),
+				isTransformHbmMappings( binder ),
 				xmlFile,
 				outputFile
 		);
 	}
-	
+
+	private static boolean isTransformHbmMappings(Binder binder) {
+		return binder instanceof MappingBinder && ( (MappingBinder) binder ).isTransformHbmMappings();
+	}
+
+	private static String checksum(File file) {
+		try {
+			return ChecksumHelper.checksum( file.toPath() );
+		}
+		catch (IOException e) {
+			throw new MappingException( "Unable to read mapping file", e, new Origin( SourceType.FILE, file.getPath() ) );
+		}
+	}
+
 	private boolean isSerfileObsolete() {
 		return xmlFile.exists() && serFile.exists() && xmlFile.lastModified() > serFile.lastModified();
 	}
 
+	/**
+	 * The content of a cached file.
+	 */
+	private static final class CachedBinding implements Serializable {
+		private final String checksum;
+		private final long length;
+		private final long lastModified;
+		private final boolean transformHbmMappings;
+		private final Binding binding;
+
+		private CachedBinding(String checksum, File xmlFile, boolean transformHbmMappings, Binding binding) {
+			this.checksum = checksum;
+			this.length = xmlFile.length();
+			this.lastModified = xmlFile.lastModified();
+			this.transformHbmMappings = transformHbmMappings;
+			this.binding = binding;
+		}
+
+		/**
+		 * Whether the given mapping file still has the recorded size and timestamp,
+		 * in which case its content is assumed to be unchanged.
+		 */
+		private boolean isUnmodified(File xmlFile) {
+			return xmlFile.length() == length && xmlFile.lastModified() == lastModified;
+		}
+	}
+
 }
@@ -199,6 +199,14 @@ public class MappingBinder extends AbstractBinder<BindableMappingDescriptor> {
 		return optionsAccess.get().validateMappings();
 	}
 
+	/**
+	 * Whether {@code hbm.xml} documents are transformed into {@code orm.xml}
+	 * documents when they are bound.
+	 */
+	boolean isTransformHbmMappings() {
+		return optionsAccess.get().transformHbmMappings();
+	}
+
 	@Override
 	protected <X extends BindableMappingDescriptor> Binding<X> doBind(
 			XMLEventReader staxEventReader,
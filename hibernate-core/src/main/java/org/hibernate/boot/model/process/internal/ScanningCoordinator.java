@@ -6,8 +6,11 @@
  */
 package org.hibernate.boot.model.process.internal;
 
+import java.io.File;
 import java.lang.reflect.Constructor;
 import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -16,6 +19,7 @@ import java.util.Set;
 import org.hibernate.boot.MappingException;
 import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
 import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.JandexIndexScanner;
 import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
 import org.hibernate.boot.archive.scan.internal.StandardScanner;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
@@ -32,11 +36,16 @@ import org.hibernate.boot.model.convert.internal.ClassBasedConverterDescriptor;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
 import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.boot.spi.BootstrapPhase;
+import org.hibernate.boot.spi.BootstrapPhaseTracker;
 import org.hibernate.boot.spi.ClassLoaderAccess;
 import org.hibernate.boot.spi.XmlMappingBinderAccess;
+import org.hibernate.engine.config.spi.ConfigurationService;
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.cfg.PersistenceSettings.SCANNER_INDEX_CACHE_DIRECTORY;
+
 /**
  * Coordinates the process of executing {@link Scanner} (if enabled)
  * and applying the resources (classes, packages and mappings) discovered.
@@ -69,14 +78,19 @@ public class ScanningCoordinator {
 
 		// NOTE : the idea with JandexInitializer/JandexInitManager was to allow adding classes
 		// to the index as we discovered them via scanning and .  Currently
+		final BootstrapPhaseTracker phaseTracker = bootstrapContext.getBootstrapPhaseTracker();
+		final BootstrapPhaseTracker.Measurement scanning = phaseTracker.begin( BootstrapPhase.SCANNING );
 		final Scanner scanner = buildScanner( bootstrapContext, classLoaderAccess );
 		final ScanResult scanResult = scanner.scan(
 				bootstrapContext.getScanEnvironment(),
 				bootstrapContext.getScanOptions(),
 				StandardScanParameters.INSTANCE
 		);
+		phaseTracker.end( scanning );
 
+		final BootstrapPhaseTracker.Measurement xmlBinding = phaseTracker.begin( BootstrapPhase.XML_BINDING );
 		applyScanResultsToManagedResources( managedResources, scanResult, bootstrapContext, xmlMappingBinderAccess );
+		phaseTracker.end( xmlBinding );
 	}
 
 	private static final Class<?>[] SINGLE_ARG = new Class[] { ArchiveDescriptorFactory.class };
@@ -117,6 +131,14 @@ public class ScanningCoordinator {
 				scannerImplClass = classLoaderAccess.classForName( scannerSetting.toString() );
 			}
 
+			if ( scannerImplClass == JandexIndexScanner.class ) {
+				return new JandexIndexScanner(
+						archiveDescriptorFactory == null
+								? StandardArchiveDescriptorFactory.INSTANCE
+								: archiveDescriptorFactory,
+						indexCacheDirectory( bootstrapContext )
+				);
+			}
 
 			if ( archiveDescriptorFactory != null ) {
 				// find the single-arg constructor - it's an error if none exists
@@ -181,6 +203,23 @@ public class ScanningCoordinator {
 		}
 	}
 
+	private static Path indexCacheDirectory(BootstrapContext bootstrapContext) {
+		final Object setting = bootstrapContext.getServiceRegistry().requireService( ConfigurationService.class )
+				.getSettings().get( SCANNER_INDEX_CACHE_DIRECTORY );
+		if ( setting == null ) {
+			return null;
+		}
+		else if ( setting instanceof Path ) {
+			return (Path) setting;
+		}
+		else if ( setting instanceof File ) {
+			return ( (File) setting ).toPath();
+		}
+		else {
+			return Paths.get( setting.toString() );
+		}
+	}
+
 	public void applyScanResultsToManagedResources(
 			ManagedResourcesImpl managedResources,
 			ScanResult scanResult,
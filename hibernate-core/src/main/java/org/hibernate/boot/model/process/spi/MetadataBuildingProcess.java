@@ -52,6 +52,8 @@ import org.hibernate.boot.spi.AdditionalJaxbMappingProducer;
 import org.hibernate.boot.spi.AdditionalMappingContributions;
 import org.hibernate.boot.spi.AdditionalMappingContributor;
 import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.boot.spi.BootstrapPhase;
+import org.hibernate.boot.spi.BootstrapPhaseTracker;
 import org.hibernate.boot.spi.InFlightMetadataCollector;
 import org.hibernate.boot.spi.MetadataBuildingOptions;
 import org.hibernate.boot.spi.MetadataContributor;
@@ -192,23 +194,33 @@ public class MetadataBuildingProcess {
 
 		final IndexView jandexView = bootstrapContext.getJandexView();
 
+		final BootstrapPhaseTracker phaseTracker = bootstrapContext.getBootstrapPhaseTracker();
+
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// Set up the processors and start binding
 		//		NOTE : this becomes even more simplified after we move purely
 		// 		to unified model
 
-		final MetadataSourceProcessor processor = new MetadataSourceProcessor() {
-			private final MetadataSourceProcessor hbmProcessor =
-						options.isXmlMappingEnabled()
-							? new HbmMetadataSourceProcessorImpl( managedResources, rootMetadataBuildingContext )
-							: new NoOpMetadataSourceProcessorImpl();
-
-			private final AnnotationMetadataSourceProcessorImpl annotationProcessor = new AnnotationMetadataSourceProcessorImpl(
-					managedResources,
-					rootMetadataBuildingContext,
-					jandexView
-			);
+		// the hbm.xml mappings are measured as XML binding, while the orm.xml
+		// mappings are applied by the annotation processor, as overrides of
+		// the annotations, and so are measured as annotation binding
+		final BootstrapPhaseTracker.Measurement hbmProcessorCreation = phaseTracker.begin( BootstrapPhase.XML_BINDING );
+		final MetadataSourceProcessor hbmProcessor =
+				options.isXmlMappingEnabled()
+						? new HbmMetadataSourceProcessorImpl( managedResources, rootMetadataBuildingContext )
+						: new NoOpMetadataSourceProcessorImpl();
+		phaseTracker.end( hbmProcessorCreation );
+
+		final BootstrapPhaseTracker.Measurement annotationProcessorCreation =
+				phaseTracker.begin( BootstrapPhase.ANNOTATION_BINDING );
+		final AnnotationMetadataSourceProcessorImpl annotationProcessor = new AnnotationMetadataSourceProcessorImpl(
+				managedResources,
+				rootMetadataBuildingContext,
+				jandexView
+		);
+		phaseTracker.end( annotationProcessorCreation );
 
+		final MetadataSourceProcessor processor = new MetadataSourceProcessor() {
 			@Override
 			public void prepare() {
 				hbmProcessor.prepare();
@@ -309,8 +321,13 @@ public class MetadataBuildingProcess {
 			}
 		};
 
-		processor.prepare();
+		// the same as processor.prepare(), but measured separately
+		final BootstrapPhaseTracker.Measurement xmlBinding = phaseTracker.begin( BootstrapPhase.XML_BINDING );
+		hbmProcessor.prepare();
+		phaseTracker.end( xmlBinding );
 
+		final BootstrapPhaseTracker.Measurement binding = phaseTracker.begin( BootstrapPhase.ANNOTATION_BINDING );
+		annotationProcessor.prepare();
 		processor.processTypeDefinitions();
 		processor.processQueryRenames();
 		processor.processAuxiliaryDatabaseObjectDefinitions();
@@ -331,8 +348,13 @@ public class MetadataBuildingProcess {
 			contributor.contribute( metadataCollector, jandexView );
 		}
 
+		phaseTracker.end( binding );
+
+		final BootstrapPhaseTracker.Measurement secondPasses = phaseTracker.begin( BootstrapPhase.SECOND_PASSES );
 		metadataCollector.processSecondPasses( rootMetadataBuildingContext );
+		phaseTracker.end( secondPasses );
 
+		final BootstrapPhaseTracker.Measurement finishBinding = phaseTracker.begin( BootstrapPhase.ANNOTATION_BINDING );
 		// Make sure collections are fully bound before processing named queries as hbm result set mappings require it
 		processor.processNamedQueries();
 
@@ -343,7 +365,9 @@ public class MetadataBuildingProcess {
 
 		applyExtraQueryImports( managedResources, metadataCollector );
 
-		return metadataCollector.buildMetadataInstance( rootMetadataBuildingContext );
+		final MetadataImplementor metadata = metadataCollector.buildMetadataInstance( rootMetadataBuildingContext );
+		phaseTracker.end( finishBinding );
+		return metadata;
 	}
 
 	private static void processAdditionalMappingContributions(
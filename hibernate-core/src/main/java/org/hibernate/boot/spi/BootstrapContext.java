@@ -224,6 +224,16 @@ public interface BootstrapContext {
 	 */
 	ManagedTypeRepresentationResolver getRepresentationStrategySelector();
 
+	/**
+	 * The tracker measuring the {@linkplain BootstrapPhase phases} of the bootstrap.
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default BootstrapPhaseTracker getBootstrapPhaseTracker() {
+		return BootstrapPhaseTracker.NONE;
+	}
+
 	/**
 	 * Releases the "bootstrap only" resources held by this {@code BootstrapContext}.
 	 */
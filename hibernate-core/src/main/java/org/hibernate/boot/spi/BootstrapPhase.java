@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * The phases of building a {@link org.hibernate.SessionFactory}, as measured by
+ * the {@link BootstrapPhaseTracker}.
+ *
+ * @since 6.5
+ */
+@Incubating
+public enum BootstrapPhase {
+	/**
+	 * Discovery of the managed classes and mapping files of the persistence unit.
+	 */
+	SCANNING( "scanning" ),
+	/**
+	 * Binding of the discovered XML mapping documents, and preparation of the
+	 * {@code hbm.xml} mappings.
+	 */
+	XML_BINDING( "xml-binding" ),
+	/**
+	 * Binding of the boot model from the annotations, as overridden by the
+	 * {@code orm.xml} mappings, and from the prepared {@code hbm.xml} mappings.
+	 */
+	ANNOTATION_BINDING( "annotation-binding" ),
+	/**
+	 * The second passes of the {@link InFlightMetadataCollector}.
+	 */
+	SECOND_PASSES( "second-passes" ),
+	/**
+	 * Creation of the entity and collection persisters.
+	 */
+	PERSISTER_CREATION( "persister-creation" ),
+	/**
+	 * Creation of the runtime mapping model.
+	 */
+	MAPPING_MODEL_CREATION( "mapping-model-creation" ),
+	/**
+	 * Preparation of the loaders and SQL of the persisters.
+	 */
+	LOADER_PREPARATION( "loader-preparation" ),
+	/**
+	 * Preparation and validation of the named queries.
+	 */
+	NAMED_QUERY_VALIDATION( "named-query-validation" ),
+	/**
+	 * Schema management, for example schema export or validation.
+	 */
+	SCHEMA_TOOLING( "schema-tooling" );
+
+	private final String label;
+
+	BootstrapPhase(String label) {
+		this.label = label;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+	@Override
+	public String toString() {
+		return label;
+	}
+}
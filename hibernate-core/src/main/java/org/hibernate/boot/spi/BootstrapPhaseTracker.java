@@ -0,0 +1,206 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.spi;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Locale;
+
+import org.hibernate.Incubating;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.service.ServiceRegistry;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Measures the time spent and the memory allocated in each {@link BootstrapPhase}.
+ * <p>
+ * Each measurement is reported to the {@link EventManager}, and the totals of each
+ * phase are {@linkplain #logReport() logged} once the {@code SessionFactory} is built
+ * when {@value StatisticsSettings#LOG_BOOTSTRAP_PHASES} is enabled.
+ * <p>
+ * Allocations are those of the bootstrapping thread, so work that a phase hands off
+ * to other threads is not accounted for, and they are reported as {@code -1} when the
+ * JVM cannot measure them, since they are read through the non-standard
+ * {@code com.sun.management.ThreadMXBean}.
+ *
+ * @since 6.5
+ */
+@Incubating
+public class BootstrapPhaseTracker {
+	private static final Logger log = Logger.getLogger( BootstrapPhaseTracker.class );
+
+	/**
+	 * A tracker which measures nothing.
+	 */
+	public static final BootstrapPhaseTracker NONE = new BootstrapPhaseTracker( null, false );
+
+	// the methods of com.sun.management.ThreadMXBean, which is not part of
+	// the Java SE API, and so is accessed reflectively, or null if unavailable
+	private static final Method IS_THREAD_ALLOCATED_MEMORY_ENABLED;
+	private static final Method GET_THREAD_ALLOCATED_BYTES;
+
+	static {
+		Method isEnabled = null;
+		Method getAllocatedBytes = null;
+		try {
+			final Class<?> allocationMXBeanClass = Class.forName( "com.sun.management.ThreadMXBean" );
+			final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+			if ( allocationMXBeanClass.isInstance( threadMXBean )
+					&& (Boolean) allocationMXBeanClass.getMethod( "isThreadAllocatedMemorySupported" )
+							.invoke( threadMXBean ) ) {
+				isEnabled = allocationMXBeanClass.getMethod( "isThreadAllocatedMemoryEnabled" );
+				getAllocatedBytes = allocationMXBeanClass.getMethod( "getThreadAllocatedBytes", long.class );
+			}
+		}
+		catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+			log.debugf( "Allocations cannot be measured: %s", e );
+		}
+		IS_THREAD_ALLOCATED_MEMORY_ENABLED = isEnabled;
+		GET_THREAD_ALLOCATED_BYTES = getAllocatedBytes;
+	}
+
+	private final EventManager eventManager;
+	private final boolean logReport;
+
+	private final long[] durations = new long[BootstrapPhase.values().length];
+	private final long[] allocations = new long[BootstrapPhase.values().length];
+	private final int[] counts = new int[BootstrapPhase.values().length];
+
+	/**
+	 * @param eventManager the {@link EventManager} to report the measurements to, or
+	 *                     {@code null} if they are not reported
+	 * @param logReport whether to log the totals of each phase
+	 */
+	public BootstrapPhaseTracker(EventManager eventManager, boolean logReport) {
+		this.eventManager = eventManager;
+		this.logReport = logReport;
+	}
+
+	/**
+	 * Create a tracker reporting to the {@link EventManager} service, if any.
+	 */
+	public static BootstrapPhaseTracker create(ServiceRegistry serviceRegistry) {
+		final Collection<EventManager> eventManagers =
+				serviceRegistry.requireService( ClassLoaderService.class ).loadJavaServices( EventManager.class );
+		final boolean logReport = serviceRegistry.requireService( ConfigurationService.class ).getSetting(
+				StatisticsSettings.LOG_BOOTSTRAP_PHASES,
+				StandardConverters.BOOLEAN,
+				false
+		);
+		return new BootstrapPhaseTracker(
+				eventManagers.isEmpty() ? null : eventManagers.iterator().next(),
+				logReport
+		);
+	}
+
+	/**
+	 * Start measuring a phase.
+	 *
+	 * @return the measurement to pass to {@link #end(Measurement)}, or {@code null}
+	 * if nothing is measured
+	 */
+	public Measurement begin(BootstrapPhase phase) {
+		final HibernateMonitoringEvent event = eventManager == null ? null : eventManager.beginBootstrapPhaseEvent();
+		if ( event == null && !logReport ) {
+			return null;
+		}
+		return new Measurement( phase, event, System.nanoTime(), allocatedBytes() );
+	}
+
+	/**
+	 * Finish measuring a phase.
+	 */
+	public void end(Measurement measurement) {
+		if ( measurement != null ) {
+			final long duration = System.nanoTime() - measurement.startedAt;
+			final long allocated = measurement.allocatedBytesAtStart < 0
+					? -1
+					: allocatedBytes() - measurement.allocatedBytesAtStart;
+			if ( eventManager != null ) {
+				eventManager.completeBootstrapPhaseEvent( measurement.event, measurement.phase.getLabel(), allocated );
+			}
+			if ( logReport ) {
+				final int index = measurement.phase.ordinal();
+				synchronized ( this ) {
+					durations[index] += duration;
+					allocations[index] = allocated < 0 || allocations[index] < 0 ? -1 : allocations[index] + allocated;
+					counts[index]++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Log the totals of each measured phase, if enabled by {@value StatisticsSettings#LOG_BOOTSTRAP_PHASES}.
+	 */
+	public synchronized void logReport() {
+		if ( logReport ) {
+			final StringBuilder report = new StringBuilder( "SessionFactory bootstrap phases:" );
+			long totalDuration = 0;
+			for ( BootstrapPhase phase : BootstrapPhase.values() ) {
+				final int index = phase.ordinal();
+				if ( counts[index] > 0 ) {
+					totalDuration += durations[index];
+					report.append( String.format(
+							Locale.ROOT,
+							"%n    phase=%s duration_ms=%d allocated_bytes=%d count=%d",
+							phase.getLabel(),
+							durations[index] / 1_000_000,
+							allocations[index],
+							counts[index]
+					) );
+				}
+			}
+			report.append( String.format( Locale.ROOT, "%n    total_duration_ms=%d", totalDuration / 1_000_000 ) );
+			log.info( report.toString() );
+		}
+	}
+
+	private static long allocatedBytes() {
+		if ( GET_THREAD_ALLOCATED_BYTES != null ) {
+			try {
+				final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+				if ( (Boolean) IS_THREAD_ALLOCATED_MEMORY_ENABLED.invoke( threadMXBean ) ) {
+					return (Long) GET_THREAD_ALLOCATED_BYTES.invoke( threadMXBean, Thread.currentThread().getId() );
+				}
+			}
+			catch (ReflectiveOperationException | RuntimeException e) {
+				log.debugf( "Allocations cannot be measured: %s", e );
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * An ongoing measurement of a phase.
+	 */
+	public static final class Measurement {
+		private final BootstrapPhase phase;
+		private final HibernateMonitoringEvent event;
+		private final long startedAt;
+		private final long allocatedBytesAtStart;
+
+		private Measurement(
+				BootstrapPhase phase,
+				HibernateMonitoringEvent event,
+				long startedAt,
+				long allocatedBytesAtStart) {
+			this.phase = phase;
+			this.event = event;
+			this.startedAt = startedAt;
+			this.allocatedBytesAtStart = allocatedBytesAtStart;
+		}
+	}
+}
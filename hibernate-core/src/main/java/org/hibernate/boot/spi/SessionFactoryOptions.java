@@ -21,6 +21,7 @@ import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.context.spi.TenantSchemaMapper;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.BaselineSessionEventsListenerBuilder;
 import org.hibernate.jpa.spi.JpaCompliance;
@@ -159,6 +160,19 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	CurrentTenantIdentifierResolver<Object> getCurrentTenantIdentifierResolver();
 
+	/**
+	 * The {@link TenantSchemaMapper} used to switch the schema of the JDBC connections
+	 * of each tenant, or {@code null} if the schema is not switched.
+	 *
+	 * @see org.hibernate.cfg.MultiTenancySettings#MULTI_TENANT_SCHEMA_MAPPER
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default TenantSchemaMapper<Object> getTenantSchemaMapper() {
+		return null;
+	}
+
 	boolean isJtaTrackByThread();
 
 	boolean isNamedQueryStartupCheckingEnabled();
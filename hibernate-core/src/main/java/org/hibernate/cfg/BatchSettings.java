@@ -46,12 +46,16 @@ public interface BatchSettings {
 	String ORDER_UPDATES = "hibernate.order_updates";
 
 	/**
-	 * Enable ordering of insert statements by primary key value, for the purpose of more
+	 * Enable ordering of insert statements by entity type, for the purpose of more
 	 * efficient JDBC batching.
+	 * <p>
+	 * The order is derived from the foreign key dependencies between entity types,
+	 * which are computed once for the {@link org.hibernate.SessionFactory}.
 	 *
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applyOrderingOfInserts
 	 *
-	 * @settingDefault {@code false}
+	 * @settingDefault {@code true} if {@value #STATEMENT_BATCH_SIZE} is greater than 1,
+	 *                 {@code false} otherwise
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
@@ -65,6 +69,54 @@ public interface BatchSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, the execution of a JDBC batch is handed off to a background
+	 * thread as soon as the session starts binding the next batch, so that the
+	 * JDBC driver processes one batch while the parameters of the next one are
+	 * being bound. The outcome of each batch is still verified, in order, before
+	 * the flush completes.
+	 * <p/>
+	 * The two batches are executed via distinct {@link PreparedStatement}s of the
+	 * same connection, so this setting should only be enabled when the JDBC
+	 * driver tolerates concurrent use of a connection from two threads.
+	 *
+	 * @see org.hibernate.engine.jdbc.batch.spi.BatchBuilder#getPipelineExecutor()
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	String PIPELINED_EXECUTION = "hibernate.jdbc.batch.pipelined";
+
+	/**
+	 * Specifies a target execution time, in milliseconds, for a single JDBC batch.
+	 * When set, the size of the batches for each
+	 * {@linkplain org.hibernate.engine.jdbc.batch.spi.BatchKey batch key} is adapted
+	 * according to the execution times observed for that key, aiming for executions
+	 * which take about the given amount of time.
+	 * <p/>
+	 * The batch size chosen for a key is never larger than {@link #STATEMENT_BATCH_SIZE},
+	 * nor smaller than {@link #ADAPTIVE_MIN_BATCH_SIZE}. It is reconsidered after every
+	 * execution of a batch, including within a single flush.
+	 *
+	 * @see org.hibernate.stat.Statistics#getJdbcBatchSizes()
+	 *
+	 * @settingDefault {@code 0}, meaning batch sizes are not adapted
+	 *
+	 * @since 6.5
+	 */
+	String ADAPTIVE_TARGET_LATENCY = "hibernate.jdbc.batch.adaptive_target_latency";
+
+	/**
+	 * The smallest batch size to use when {@linkplain #ADAPTIVE_TARGET_LATENCY adapting}
+	 * batch sizes to the observed execution times.
+	 *
+	 * @settingDefault {@code 2}
+	 *
+	 * @since 6.5
+	 */
+	String ADAPTIVE_MIN_BATCH_SIZE = "hibernate.jdbc.batch.adaptive_min_size";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
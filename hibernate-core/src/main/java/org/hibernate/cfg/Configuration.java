@@ -577,9 +577,10 @@ public class Configuration {
 	 * name {@code xmlFile + ".bin"} where {@code xmlFile} is the name of the
 	 * original mapping file.
 	 * </p>
-	 * If a cached {@code xmlFile + ".bin"} exists and is newer than {@code xmlFile},
-	 * the {@code ".bin"} file will be read directly. Otherwise, {@code xmlFile} is
-	 * read and then serialized to {@code xmlFile + ".bin"} for use the next time.
+	 * If a cached {@code xmlFile + ".bin"} exists and was written for the current
+	 * content of {@code xmlFile}, the {@code ".bin"} file will be read directly.
+	 * Otherwise, {@code xmlFile} is read and then serialized to {@code xmlFile + ".bin"}
+	 * for use the next time.
 	 *
 	 * @param xmlFile The cacheable mapping file to be added.
 	 *
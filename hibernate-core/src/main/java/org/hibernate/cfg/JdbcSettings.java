@@ -362,6 +362,48 @@ public interface JdbcSettings extends C3p0Settings, ProxoolSettings {
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * When enabled, Hibernate records the number of rows returned by each SQL query,
+	 * smoothed across executions, and uses it as the JDBC fetch size the next time the
+	 * query is executed, so that a large result is fetched in a few round trips even if
+	 * the driver's default fetch size is small. The fetch size is bounded by
+	 * {@value #ADAPTIVE_FETCH_SIZE_MAX} and by {@value #ADAPTIVE_FETCH_SIZE_MAX_VALUES},
+	 * and is never smaller than the default fetch size of the driver.
+	 * <p>
+	 * The adaptive fetch size does not apply to a query with an explicit
+	 * {@linkplain org.hibernate.query.SelectionQuery#setFetchSize(int) fetch size},
+	 * and is disabled when {@value #STATEMENT_FETCH_SIZE} is set.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String ADAPTIVE_FETCH_SIZE = "hibernate.jdbc.adaptive_fetch_size";
+
+	/**
+	 * The largest fetch size chosen when {@value #ADAPTIVE_FETCH_SIZE} is enabled.
+	 *
+	 * @settingDefault {@code 1000}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String ADAPTIVE_FETCH_SIZE_MAX = "hibernate.jdbc.adaptive_fetch_size_max";
+
+	/**
+	 * A bound on the memory used to hold the rows of a single fetch when
+	 * {@value #ADAPTIVE_FETCH_SIZE} is enabled, expressed as the largest
+	 * number of column values, that is, the fetch size multiplied by the
+	 * number of columns of the result set.
+	 *
+	 * @settingDefault {@code 100000}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String ADAPTIVE_FETCH_SIZE_MAX_VALUES = "hibernate.jdbc.adaptive_fetch_size_max_values";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results - <ul>
 	 * 	 <li>
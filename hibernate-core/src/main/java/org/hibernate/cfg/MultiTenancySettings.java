@@ -6,7 +6,9 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.context.spi.TenantSchemaMapper;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
 
 /**
@@ -38,6 +40,23 @@ public interface MultiTenancySettings {
 	 */
 	String MULTI_TENANT_IDENTIFIER_RESOLVER = "hibernate.tenant_identifier_resolver";
 
+	/**
+	 * Specifies a {@link TenantSchemaMapper} to use, either:
+	 * <ul>
+	 *     <li>an instance of {@code TenantSchemaMapper},
+	 *     <li>a {@link Class} representing an class that implements {@code TenantSchemaMapper}, or
+	 *     <li>the name of a class that implements {@code TenantSchemaMapper}.
+	 * </ul>
+	 * <p>
+	 * When specified, the tenants share a single {@code SessionFactory} and the
+	 * schema of each JDBC connection is switched to the schema of the tenant of
+	 * the session for as long as the session holds the connection.
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String MULTI_TENANT_SCHEMA_MAPPER = "hibernate.multi_tenant.schema_mapper";
+
 	/**
 	 * During bootstrap, Hibernate needs access to any Connection for access to {@link java.sql.DatabaseMetaData}.
 	 * <p/>
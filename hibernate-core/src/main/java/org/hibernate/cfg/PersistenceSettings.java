@@ -101,11 +101,28 @@ public interface PersistenceSettings {
 	 *     <li>a {@link Class} representing a class that implements {@code Scanner}
 	 *     <li>the name of a class that implements {@code Scanner}.
 	 * </ul>
+	 * <p>
+	 * {@link org.hibernate.boot.archive.scan.internal.JandexIndexScanner} discovers the
+	 * managed classes from a prebuilt Jandex index instead of reading the class files.
 	 *
 	 * @see org.hibernate.boot.MetadataBuilder#applyScanner
 	 */
 	String SCANNER = "hibernate.archive.scanner";
 
+	/**
+	 * Specifies the directory in which {@link org.hibernate.boot.archive.scan.internal.JandexIndexScanner}
+	 * stores the Jandex indexes it builds for jar files which have no prebuilt index, so that
+	 * later scans of the same jar files read them instead of the class files. Either a
+	 * {@link java.nio.file.Path}, a {@link java.io.File}, or the path of the directory.
+	 * <p>
+	 * By default, no index is built and archives without a prebuilt index are scanned as usual.
+	 * Has no effect unless {@link #SCANNER} names {@code JandexIndexScanner}.
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String SCANNER_INDEX_CACHE_DIRECTORY = "hibernate.archive.index_cache_directory";
+
 	/**
 	 * Specifies an {@link org.hibernate.boot.archive.spi.ArchiveDescriptorFactory} to use
 	 * in the scanning process, either:
@@ -161,6 +178,43 @@ public interface PersistenceSettings {
 	 */
 	String SESSION_FACTORY_OBSERVER = "hibernate.session_factory_observer";
 
+	/**
+	 * When enabled, the loaders of each entity and collection persister, and
+	 * the insert, update and delete coordinators of each entity persister, are
+	 * built the first time they are needed, instead of eagerly when the
+	 * {@code SessionFactory} is created.
+	 * <p>
+	 * This reduces the startup time and the memory footprint of applications
+	 * with many entities, only some of which are used by a given instance, at
+	 * the cost of a slower first operation on each entity.
+	 * <p>
+	 * The row insert, update and delete operations of collections are built on
+	 * first use whether this setting is enabled or not, unless the static SQL
+	 * is logged.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String LAZY_PERSISTER_INITIALIZATION = "hibernate.persister.lazy_initialization";
+
+	/**
+	 * When enabled, the entity and collection persisters are created, and their
+	 * loaders prepared, concurrently on a temporary {@link java.util.concurrent.ForkJoinPool}
+	 * sized to the number of available processors. The mapping model itself is
+	 * still built sequentially, since it depends on the order of the associations.
+	 * <p>
+	 * This speeds up the creation of a {@code SessionFactory} for large models,
+	 * but requires custom persisters and types to tolerate concurrent construction.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String PARALLEL_PERSISTER_INITIALIZATION = "hibernate.persister.parallel_initialization";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
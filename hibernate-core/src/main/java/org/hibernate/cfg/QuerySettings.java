@@ -6,6 +6,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.query.NullPrecedence;
 import org.hibernate.query.spi.QueryPlan;
@@ -61,6 +62,23 @@ public interface QuerySettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * When enabled, the named HQL queries checked at startup, as specified by
+	 * {@value #QUERY_STARTUP_CHECKING}, are checked concurrently on a temporary
+	 * {@link java.util.concurrent.ForkJoinPool} sized to the number of available
+	 * processors.
+	 * <p>
+	 * The interpretations of the checked queries are kept in the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query plan cache},
+	 * unless it is disabled, whether or not this setting is enabled.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String QUERY_PARALLEL_STARTUP_CHECKING = "hibernate.query.parallel_startup_check";
+
 	/**
 	 * By default, a {@linkplain jakarta.persistence.criteria.CriteriaBuilder criteria
 	 * query} produces SQL with a JDBC bind parameter for any value specified via the
@@ -211,6 +229,44 @@ public interface QuerySettings {
 	 */
 	String CALLABLE_NAMED_PARAMS_ENABLED = "hibernate.query.proc.callable_named_params_enabled";
 
+	/**
+	 * When enabled, specifies that Hibernate should generate, using bytecode
+	 * generation, a {@linkplain org.hibernate.sql.results.spi.RowReader row reader}
+	 * specialized for the assemblers and initializers of each distinct query
+	 * result, instead of reading every row with a generic loop over them.
+	 * <p>
+	 * A specialized reader gives the JIT compiler call sites private to one result
+	 * shape, which can then be inlined. When a specialized reader cannot be
+	 * generated, the generic reader is used.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String SPECIALIZED_ROW_READERS = "hibernate.query.specialized_row_readers";
+
+	/**
+	 * Specifies the {@link java.util.concurrent.Executor} used to execute queries
+	 * {@linkplain org.hibernate.query.SelectionQuery#getResultListAsync() asynchronously}.
+	 * Accepts either:
+	 * <ul>
+	 *     <li>an instance of {@code Executor},
+	 *     <li>a {@link Class} object representing a class that implements {@code Executor}, or
+	 *     <li>the name of a class that implements {@code Executor}.
+	 * </ul>
+	 * <p>
+	 * An executor instantiated by Hibernate is shut down when the
+	 * {@link org.hibernate.SessionFactory} is closed.
+	 *
+	 * @settingDefault an executor which runs each query in a new virtual thread on
+	 *                 Java 21 and above, or in a pooled daemon thread otherwise
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String ASYNC_QUERY_EXECUTOR = "hibernate.query.async_executor";
+
 	/**
 	 * When enabled, specifies that {@linkplain QueryPlan query plans} should be
 	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache cached}.
@@ -6,6 +6,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.stat.spi.StatisticsFactory;
 
 /**
@@ -43,4 +44,20 @@ public interface StatisticsSettings {
 	 * @see org.hibernate.stat.Statistics#getQueries()
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
+
+	/**
+	 * When enabled, specifies that the time spent and the memory allocated in each
+	 * {@linkplain org.hibernate.boot.spi.BootstrapPhase phase} of building the
+	 * {@link org.hibernate.SessionFactory} should be logged once it is built.
+	 * <p>
+	 * Independently of this setting, each phase is reported as an event to the
+	 * {@link org.hibernate.event.spi.EventManager}, for example as a JFR event
+	 * when {@code hibernate-jfr} is available.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String LOG_BOOTSTRAP_PHASES = "hibernate.log_bootstrap_phases";
 }
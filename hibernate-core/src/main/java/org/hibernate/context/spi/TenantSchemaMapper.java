@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.context.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Maps a tenant identifier to the database schema holding the data of the tenant,
+ * for schema-based multitenancy with a single {@link org.hibernate.SessionFactory}.
+ * <p>
+ * When a mapper is registered, the schema of each JDBC connection obtained by a
+ * session with a tenant identifier is {@linkplain java.sql.Connection#setSchema set}
+ * to the schema of the tenant, and restored when the connection is released. The
+ * generated SQL does not depend on the tenant, so the mapping model, the query plan
+ * caches, and the SQL strings are shared by all tenants. The mapped tables must not
+ * be qualified with an explicit schema, and the JDBC driver must honor
+ * {@link java.sql.Connection#setSchema}, which MySQL Connector/J, for example,
+ * ignores.
+ * <p>
+ * An implementation may be selected by setting the configuration property
+ * {@value org.hibernate.cfg.AvailableSettings#MULTI_TENANT_SCHEMA_MAPPER}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#MULTI_TENANT_SCHEMA_MAPPER
+ *
+ * @since 6.5
+ */
+@Incubating
+public interface TenantSchemaMapper<T> {
+	/**
+	 * The name of the schema holding the data of the given tenant.
+	 *
+	 * @param tenantIdentifier The tenant identifier of the session
+	 *
+	 * @return The name of the schema, as expected by {@link java.sql.Connection#setSchema}
+	 */
+	String schemaName(T tenantIdentifier);
+}
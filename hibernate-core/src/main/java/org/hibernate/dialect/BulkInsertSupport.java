@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+
+/**
+ * Strategy for loading large numbers of rows into a single table, used by
+ * {@link org.hibernate.StatelessSession#bulkInsert(Iterable)}.
+ * <p>
+ * The rows are produced lazily from the entities being inserted, and so a
+ * strategy should consume them as it sends them to the database, instead
+ * of collecting them all first.
+ *
+ * @see Dialect#getBulkInsertSupport()
+ *
+ * @since 6.5
+ */
+@Incubating
+public interface BulkInsertSupport {
+	/**
+	 * Can the values of the given column be loaded using this strategy?
+	 */
+	boolean supportsColumn(ColumnReference column);
+
+	/**
+	 * Insert the given rows into the given table.
+	 *
+	 * @param tableName The name of the table
+	 * @param columns The columns of the table, in the order of the values of each row
+	 * @param rows The rows to insert, as relational values
+	 * @param session The session performing the insert
+	 *
+	 * @return The number of inserted rows
+	 */
+	long insertRows(
+			String tableName,
+			List<ColumnReference> columns,
+			Iterator<Object[]> rows,
+			SharedSessionContractImplementor session);
+}
@@ -5541,4 +5541,36 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return FunctionalDependencyAnalysisSupportImpl.NONE;
 	}
 
+	/**
+	 * The {@link BulkInsertSupport} used by {@link org.hibernate.StatelessSession#bulkInsert}
+	 * to load many rows into a table at once, or {@code null} if the rows should be
+	 * inserted one at a time, using JDBC batching.
+	 *
+	 * @return {@link ValuesListBulkInsertSupport} if this dialect
+	 *         {@linkplain #supportsValuesListForInsert() supports}
+	 *         multi-row inserts
+	 *
+	 * @since 6.5
+	 */
+	public BulkInsertSupport getBulkInsertSupport() {
+		return supportsValuesListForInsert() ? ValuesListBulkInsertSupport.INSTANCE : null;
+	}
+
+	/**
+	 * Does this dialect support executing several {@code select} statements,
+	 * separated by semicolons, as a single JDBC statement which returns one
+	 * result set for each {@code select}?
+	 * <p>
+	 * If so, the queries of a {@link org.hibernate.query.QueryBatch} are sent
+	 * to the database in one round trip.
+	 *
+	 * @return {@code true} if multiple result sets may be returned by a single
+	 *         prepared statement
+	 *
+	 * @since 6.5
+	 */
+	public boolean supportsMultipleResultSetsPerStatement() {
+		return false;
+	}
+
 }
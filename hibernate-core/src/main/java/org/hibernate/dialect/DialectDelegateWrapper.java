@@ -1637,4 +1637,14 @@ public class DialectDelegateWrapper extends Dialect {
 	public String getRowIdColumnString(String rowId) {
 		return wrapped.getRowIdColumnString( rowId );
 	}
+
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		return wrapped.getBulkInsertSupport();
+	}
+
+	@Override
+	public boolean supportsMultipleResultSetsPerStatement() {
+		return wrapped.supportsMultipleResultSetsPerStatement();
+	}
 }
@@ -0,0 +1,350 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect;
+
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.spi.StringBuilderSqlAppender;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_TIME;
+import static org.hibernate.type.SqlTypes.BIGINT;
+import static org.hibernate.type.SqlTypes.BINARY;
+import static org.hibernate.type.SqlTypes.BIT;
+import static org.hibernate.type.SqlTypes.BOOLEAN;
+import static org.hibernate.type.SqlTypes.CHAR;
+import static org.hibernate.type.SqlTypes.DATE;
+import static org.hibernate.type.SqlTypes.DECIMAL;
+import static org.hibernate.type.SqlTypes.DOUBLE;
+import static org.hibernate.type.SqlTypes.FLOAT;
+import static org.hibernate.type.SqlTypes.INTEGER;
+import static org.hibernate.type.SqlTypes.LONG32NVARCHAR;
+import static org.hibernate.type.SqlTypes.LONG32VARBINARY;
+import static org.hibernate.type.SqlTypes.LONG32VARCHAR;
+import static org.hibernate.type.SqlTypes.LONGNVARCHAR;
+import static org.hibernate.type.SqlTypes.LONGVARBINARY;
+import static org.hibernate.type.SqlTypes.LONGVARCHAR;
+import static org.hibernate.type.SqlTypes.NCHAR;
+import static org.hibernate.type.SqlTypes.NUMERIC;
+import static org.hibernate.type.SqlTypes.NVARCHAR;
+import static org.hibernate.type.SqlTypes.REAL;
+import static org.hibernate.type.SqlTypes.SMALLINT;
+import static org.hibernate.type.SqlTypes.TIME;
+import static org.hibernate.type.SqlTypes.TIMESTAMP;
+import static org.hibernate.type.SqlTypes.TIMESTAMP_UTC;
+import static org.hibernate.type.SqlTypes.TIMESTAMP_WITH_TIMEZONE;
+import static org.hibernate.type.SqlTypes.TINYINT;
+import static org.hibernate.type.SqlTypes.VARBINARY;
+import static org.hibernate.type.SqlTypes.VARCHAR;
+import static org.hibernate.type.descriptor.DateTimeUtils.appendAsTimestampWithMicros;
+
+/**
+ * A {@link BulkInsertSupport} which streams rows to PostgreSQL using
+ * {@code copy ... from stdin}, via the {@code CopyManager} of the
+ * PostgreSQL JDBC driver.
+ * <p>
+ * The driver is accessed reflectively, so that this class may be used
+ * without it on the classpath. When the connection is not a PgJDBC
+ * connection, rows are inserted using multi-row {@code insert} statements.
+ *
+ * @since 6.5
+ */
+public class PostgreSQLCopyBulkInsertSupport implements BulkInsertSupport {
+	public static final PostgreSQLCopyBulkInsertSupport INSTANCE = new PostgreSQLCopyBulkInsertSupport();
+
+	@Override
+	public boolean supportsColumn(ColumnReference column) {
+		switch ( column.getJdbcMapping().getJdbcType().getDefaultSqlTypeCode() ) {
+			case BIT:
+			case BOOLEAN:
+			case TINYINT:
+			case SMALLINT:
+			case INTEGER:
+			case BIGINT:
+			case REAL:
+			case FLOAT:
+			case DOUBLE:
+			case NUMERIC:
+			case DECIMAL:
+			case CHAR:
+			case NCHAR:
+			case VARCHAR:
+			case NVARCHAR:
+			case LONGVARCHAR:
+			case LONGNVARCHAR:
+			case LONG32VARCHAR:
+			case LONG32NVARCHAR:
+			case DATE:
+			case TIME:
+			case TIMESTAMP:
+			case TIMESTAMP_WITH_TIMEZONE:
+			case TIMESTAMP_UTC:
+			case SqlTypes.UUID:
+			case BINARY:
+			case VARBINARY:
+			case LONGVARBINARY:
+			case LONG32VARBINARY:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	@Override
+	public long insertRows(
+			String tableName,
+			List<ColumnReference> columns,
+			Iterator<Object[]> rows,
+			SharedSessionContractImplementor session) {
+		final Connection connection = session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+		final Object copyManager = getCopyManager( connection, session );
+		if ( copyManager == null ) {
+			return ValuesListBulkInsertSupport.INSTANCE.insertRows( tableName, columns, rows, session );
+		}
+
+		final String sql = copySql( tableName, columns );
+		session.getJdbcServices().getSqlStatementLogger().logStatement( sql );
+		try {
+			final Method copyIn = copyManager.getClass().getMethod( "copyIn", String.class, Reader.class );
+			return (Long) copyIn.invoke( copyManager, sql, new CopyReader( columns, rows, session ) );
+		}
+		catch (InvocationTargetException e) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof SQLException ) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						(SQLException) cause,
+						"Unable to copy rows into table `" + tableName + "`",
+						sql
+				);
+			}
+			else if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			throw new HibernateException( "Unable to copy rows into table `" + tableName + "`", cause );
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new HibernateException( "Unable to access the PostgreSQL CopyManager", e );
+		}
+	}
+
+	private static Object getCopyManager(Connection connection, SharedSessionContractImplementor session) {
+		final ClassLoaderService classLoaderService = session.getFactory().getServiceRegistry()
+				.requireService( ClassLoaderService.class );
+		try {
+			final Class<?> pgConnectionClass = classLoaderService.classForName( "org.postgresql.PGConnection" );
+			if ( !connection.isWrapperFor( pgConnectionClass ) ) {
+				return null;
+			}
+			final Object pgConnection = connection.unwrap( pgConnectionClass );
+			return pgConnectionClass.getMethod( "getCopyAPI" ).invoke( pgConnection );
+		}
+		catch (ClassLoadingException e) {
+			return null;
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Unable to access the PostgreSQL CopyManager"
+			);
+		}
+		catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+			throw new HibernateException( "Unable to access the PostgreSQL CopyManager", e );
+		}
+	}
+
+	private static String copySql(String tableName, List<ColumnReference> columns) {
+		final StringBuilder sql = new StringBuilder( "copy " ).append( tableName ).append( " (" );
+		for ( int i = 0; i < columns.size(); i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			sql.append( columns.get( i ).getColumnExpression() );
+		}
+		return sql.append( ") from stdin" ).toString();
+	}
+
+	/**
+	 * Renders rows in the text format of {@code copy}, one row at a time,
+	 * as they are read by the driver.
+	 */
+	private static class CopyReader extends Reader {
+		private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+		private final List<ColumnReference> columns;
+		private final Iterator<Object[]> rows;
+		private final SharedSessionContractImplementor session;
+
+		private final StringBuilder buffer = new StringBuilder();
+		private final SqlAppender appender = new StringBuilderSqlAppender( buffer );
+		private int position;
+
+		private CopyReader(List<ColumnReference> columns, Iterator<Object[]> rows, SharedSessionContractImplementor session) {
+			this.columns = columns;
+			this.rows = rows;
+			this.session = session;
+		}
+
+		@Override
+		public int read(char[] chars, int offset, int length) {
+			while ( position == buffer.length() ) {
+				if ( !rows.hasNext() ) {
+					return -1;
+				}
+				buffer.setLength( 0 );
+				position = 0;
+				appendRow( rows.next() );
+			}
+			final int count = Math.min( length, buffer.length() - position );
+			buffer.getChars( position, position + count, chars, offset );
+			position += count;
+			return count;
+		}
+
+		@Override
+		public void close() {
+		}
+
+		private void appendRow(Object[] values) {
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( i > 0 ) {
+					buffer.append( '\t' );
+				}
+				appendValue( values[i], columns.get( i ) );
+			}
+			buffer.append( '\n' );
+		}
+
+		private void appendValue(Object value, ColumnReference column) {
+			if ( value == null ) {
+				buffer.append( "\\N" );
+				return;
+			}
+
+			//noinspection unchecked
+			final JavaType<Object> javaType = (JavaType<Object>) column.getJdbcMapping().getJdbcJavaType();
+			switch ( column.getJdbcMapping().getJdbcType().getDefaultSqlTypeCode() ) {
+				case BIT:
+				case BOOLEAN:
+					buffer.append( javaType.unwrap( value, Boolean.class, session ) ? 't' : 'f' );
+					break;
+				case TINYINT:
+					buffer.append( javaType.unwrap( value, Byte.class, session ) );
+					break;
+				case SMALLINT:
+					buffer.append( javaType.unwrap( value, Short.class, session ) );
+					break;
+				case INTEGER:
+					buffer.append( javaType.unwrap( value, Integer.class, session ) );
+					break;
+				case BIGINT:
+					buffer.append( javaType.unwrap( value, Long.class, session ) );
+					break;
+				case REAL:
+					buffer.append( javaType.unwrap( value, Float.class, session ) );
+					break;
+				case FLOAT:
+				case DOUBLE:
+					buffer.append( javaType.unwrap( value, Double.class, session ) );
+					break;
+				case NUMERIC:
+				case DECIMAL:
+					buffer.append( javaType.unwrap( value, BigDecimal.class, session ).toPlainString() );
+					break;
+				case DATE:
+					buffer.append( javaType.unwrap( value, java.sql.Date.class, session ) );
+					break;
+				case TIME:
+					// in the JDBC time zone, as bound by TimeJdbcType, with the milliseconds
+					final Time time = javaType.unwrap( value, Time.class, session );
+					ISO_LOCAL_TIME.formatTo(
+							Instant.ofEpochMilli( time.getTime() ).atZone( timeZone( value ).toZoneId() ),
+							buffer
+					);
+					break;
+				case TIMESTAMP:
+					// in the JDBC time zone, as bound by TimestampJdbcType, and
+					// with the precision of the literals of PostgreSQLDialect
+					appendAsTimestampWithMicros(
+							appender,
+							javaType.unwrap( value, Timestamp.class, session ),
+							timeZone( value )
+					);
+					break;
+				case TIMESTAMP_WITH_TIMEZONE:
+				case TIMESTAMP_UTC:
+					buffer.append( javaType.unwrap( value, OffsetDateTime.class, session ) );
+					break;
+				case SqlTypes.UUID:
+					buffer.append( javaType.unwrap( value, UUID.class, session ) );
+					break;
+				case BINARY:
+				case VARBINARY:
+				case LONGVARBINARY:
+				case LONG32VARBINARY:
+					// bytea in hex format, with the backslash escaped
+					buffer.append( "\\\\x" );
+					for ( byte b : javaType.unwrap( value, byte[].class, session ) ) {
+						buffer.append( HEX_DIGITS[( b >> 4 ) & 0xF] ).append( HEX_DIGITS[b & 0xF] );
+					}
+					break;
+				default:
+					appendEscaped( javaType.unwrap( value, String.class, session ) );
+			}
+		}
+
+		private TimeZone timeZone(Object value) {
+			if ( value instanceof Calendar ) {
+				return ( (Calendar) value ).getTimeZone();
+			}
+			final TimeZone jdbcTimeZone = session.getJdbcTimeZone();
+			return jdbcTimeZone == null ? TimeZone.getDefault() : jdbcTimeZone;
+		}
+
+		private void appendEscaped(String string) {
+			for ( int i = 0; i < string.length(); i++ ) {
+				final char c = string.charAt( i );
+				switch ( c ) {
+					case '\\':
+						buffer.append( "\\\\" );
+						break;
+					case '\n':
+						buffer.append( "\\n" );
+						break;
+					case '\r':
+						buffer.append( "\\r" );
+						break;
+					case '\t':
+						buffer.append( "\\t" );
+						break;
+					default:
+						buffer.append( c );
+				}
+			}
+		}
+	}
+}
@@ -1380,6 +1380,18 @@ public class PostgreSQLDialect extends Dialect {
 		return FunctionalDependencyAnalysisSupportImpl.TABLE_REFERENCE;
 	}
 
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		return driverKind == PostgreSQLDriverKind.PG_JDBC
+				? PostgreSQLCopyBulkInsertSupport.INSTANCE
+				: super.getBulkInsertSupport();
+	}
+
+	@Override
+	public boolean supportsMultipleResultSetsPerStatement() {
+		return driverKind == PostgreSQLDriverKind.PG_JDBC;
+	}
+
 	@Override
 	public RowLockStrategy getWriteRowLockStrategy() {
 		return RowLockStrategy.TABLE;
@@ -690,6 +690,11 @@ public class SQLServerDialect extends AbstractTransactSQLDialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultipleResultSetsPerStatement() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsRecursiveCTE() {
 		return true;
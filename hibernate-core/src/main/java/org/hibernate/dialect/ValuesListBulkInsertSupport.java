@@ -0,0 +1,149 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+
+/**
+ * A {@link BulkInsertSupport} which inserts rows using multi-row
+ * {@code insert into ... values (...), (...)} statements, for
+ * databases which {@linkplain Dialect#supportsValuesListForInsert()
+ * support} them.
+ *
+ * @since 6.5
+ */
+public class ValuesListBulkInsertSupport implements BulkInsertSupport {
+	public static final ValuesListBulkInsertSupport INSTANCE = new ValuesListBulkInsertSupport();
+
+	/**
+	 * The maximum number of rows inserted by a single statement,
+	 * unless limited further by the
+	 * {@linkplain Dialect#getParameterCountLimit() parameter limit}
+	 */
+	private static final int MAX_ROWS_PER_STATEMENT = 100;
+
+	@Override
+	public boolean supportsColumn(ColumnReference column) {
+		return true;
+	}
+
+	@Override
+	public long insertRows(
+			String tableName,
+			List<ColumnReference> columns,
+			Iterator<Object[]> rows,
+			SharedSessionContractImplementor session) {
+		final int rowsPerStatement = rowsPerStatement( columns.size(), session.getJdbcServices().getDialect() );
+		final Object[][] chunk = new Object[rowsPerStatement][];
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+
+		String fullChunkSql = null;
+		PreparedStatement fullChunkStatement = null;
+		long rowCount = 0;
+		try {
+			while ( rows.hasNext() ) {
+				int size = 0;
+				while ( size < rowsPerStatement && rows.hasNext() ) {
+					chunk[size++] = rows.next();
+				}
+
+				if ( size == rowsPerStatement ) {
+					// keep the statement for full chunks around, it is reused until the last chunk
+					if ( fullChunkStatement == null ) {
+						fullChunkSql = insertSql( tableName, columns, size );
+						fullChunkStatement = jdbcCoordinator.getMutationStatementPreparer()
+								.prepareStatement( fullChunkSql, false );
+					}
+					rowCount += execute( fullChunkStatement, fullChunkSql, columns, chunk, size, session );
+				}
+				else {
+					final String sql = insertSql( tableName, columns, size );
+					final PreparedStatement statement = jdbcCoordinator.getMutationStatementPreparer()
+							.prepareStatement( sql, false );
+					try {
+						rowCount += execute( statement, sql, columns, chunk, size, session );
+					}
+					finally {
+						jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+					}
+				}
+			}
+		}
+		finally {
+			if ( fullChunkStatement != null ) {
+				jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( fullChunkStatement );
+			}
+			jdbcCoordinator.afterStatementExecution();
+		}
+		return rowCount;
+	}
+
+	private static int rowsPerStatement(int columnCount, Dialect dialect) {
+		final int parameterCountLimit = dialect.getParameterCountLimit();
+		return parameterCountLimit > 0
+				? Math.max( 1, Math.min( MAX_ROWS_PER_STATEMENT, parameterCountLimit / columnCount ) )
+				: MAX_ROWS_PER_STATEMENT;
+	}
+
+	private static String insertSql(String tableName, List<ColumnReference> columns, int rowCount) {
+		final StringBuilder sql = new StringBuilder( "insert into " ).append( tableName ).append( " (" );
+		final StringBuilder values = new StringBuilder( "(" );
+		for ( int i = 0; i < columns.size(); i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+				values.append( ',' );
+			}
+			sql.append( columns.get( i ).getColumnExpression() );
+			values.append( '?' );
+		}
+		values.append( ')' );
+		sql.append( ") values " );
+		for ( int i = 0; i < rowCount; i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			sql.append( values );
+		}
+		return sql.toString();
+	}
+
+	private static int execute(
+			PreparedStatement statement,
+			String sql,
+			List<ColumnReference> columns,
+			Object[][] chunk,
+			int size,
+			SharedSessionContractImplementor session) {
+		session.getJdbcServices().getSqlStatementLogger().logStatement( sql );
+		try {
+			int position = 1;
+			for ( int row = 0; row < size; row++ ) {
+				final Object[] values = chunk[row];
+				for ( int column = 0; column < values.length; column++ ) {
+					columns.get( column ).getJdbcMapping().getJdbcValueBinder()
+							.bind( statement, values[column], position++, session );
+				}
+				chunk[row] = null;
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Unable to bind parameters for bulk insert",
+					sql
+			);
+		}
+		return session.getJdbcCoordinator().getResultSetReturn().executeUpdate( statement, sql );
+	}
+}
@@ -0,0 +1,244 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.Type;
+
+/**
+ * The order in which rows of the entity types of a {@link org.hibernate.SessionFactory} may be
+ * inserted without violating foreign key constraints, derived once from the mapping
+ * model and used by {@link org.hibernate.engine.spi.ActionQueue} to group insert
+ * actions by entity type.
+ * <p>
+ * Entity types are grouped into <em>components</em>: the strongly connected
+ * components of the graph whose edges lead from each entity type to the entity types
+ * it depends on. Components are numbered in topological order, so that the rows of a
+ * component may always be inserted after the rows of every component it depends on.
+ * A component containing more than one entity type results from a cycle between
+ * entity types, and the rows of such a component must be ordered by looking at the
+ * entity instances themselves.
+ */
+public class EntityInsertOrdering {
+	private final Map<String, Integer> componentsByEntityName;
+	private final int[][] componentDependencies;
+	private final BitSet cyclicComponents;
+
+	private EntityInsertOrdering(
+			Map<String, Integer> componentsByEntityName,
+			int[][] componentDependencies,
+			BitSet cyclicComponents) {
+		this.componentsByEntityName = componentsByEntityName;
+		this.componentDependencies = componentDependencies;
+		this.cyclicComponents = cyclicComponents;
+	}
+
+	/**
+	 * The component of the given entity type, or {@code -1} for an unknown entity type.
+	 */
+	public int getComponent(String entityName) {
+		final Integer component = componentsByEntityName.get( entityName );
+		return component == null ? -1 : component;
+	}
+
+	/**
+	 * The components whose rows must be inserted before the rows of the given component.
+	 * Each of them has a lower number than the given component.
+	 */
+	public int[] getDependencies(int component) {
+		return componentDependencies[component];
+	}
+
+	/**
+	 * Whether the given component contains several entity types which depend on each other.
+	 */
+	public boolean isCyclic(int component) {
+		return cyclicComponents.get( component );
+	}
+
+	/**
+	 * Build the ordering for all entity types of the given factory.
+	 */
+	public static EntityInsertOrdering build(SessionFactoryImplementor factory) {
+		final MappingMetamodel mappingMetamodel = factory.getMappingMetamodel();
+
+		// the entity types each entity type depends on, by entity name
+		final Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+		mappingMetamodel.forEachEntityDescriptor(
+				persister -> dependencies.put( persister.getEntityName(), new LinkedHashSet<>() )
+		);
+		mappingMetamodel.forEachEntityDescriptor( persister -> {
+			// associations in an @EmbeddedId or @IdClass, that is, derived identifiers
+			collectDependencies( persister.getEntityName(), persister.getIdentifierType(), dependencies, mappingMetamodel );
+			for ( Type propertyType : persister.getPropertyTypes() ) {
+				collectDependencies( persister.getEntityName(), propertyType, dependencies, mappingMetamodel );
+			}
+		} );
+
+		return new ComponentBuilder( dependencies ).build();
+	}
+
+	private static void collectDependencies(
+			String entityName,
+			Type type,
+			Map<String, Set<String>> dependencies,
+			MappingMetamodel mappingMetamodel) {
+		if ( type.isEntityType() ) {
+			final EntityType entityType = (EntityType) type;
+			final String associatedEntityName = entityType.getAssociatedEntityName();
+			if ( entityType.isOneToOne() && entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
+				if ( !entityType.isReferenceToPrimaryKey() ) {
+					// the associated entity holds the foreign key
+					for ( String subclassEntityName : subclassEntityNames( associatedEntityName, mappingMetamodel ) ) {
+						addDependency( subclassEntityName, entityName, dependencies );
+					}
+				}
+			}
+			else {
+				for ( String subclassEntityName : subclassEntityNames( associatedEntityName, mappingMetamodel ) ) {
+					addDependency( entityName, subclassEntityName, dependencies );
+				}
+			}
+		}
+		else if ( type.isCollectionType() ) {
+			final CollectionPersister collectionDescriptor =
+					mappingMetamodel.getCollectionDescriptor( ( (CollectionType) type ).getRole() );
+			// the elements of a one-to-many association depend on the collection owner
+			if ( collectionDescriptor.isOneToMany() && collectionDescriptor.getElementType().isEntityType() ) {
+				final String elementEntityName =
+						( (EntityType) collectionDescriptor.getElementType() ).getAssociatedEntityName();
+				for ( String subclassEntityName : subclassEntityNames( elementEntityName, mappingMetamodel ) ) {
+					addDependency( subclassEntityName, entityName, dependencies );
+				}
+			}
+		}
+		else if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				collectDependencies( entityName, subtype, dependencies, mappingMetamodel );
+			}
+		}
+	}
+
+	private static Set<String> subclassEntityNames(String entityName, MappingMetamodel mappingMetamodel) {
+		final EntityPersister persister = mappingMetamodel.findEntityDescriptor( entityName );
+		return persister == null ? Set.of() : persister.getEntityMetamodel().getSubclassEntityNames();
+	}
+
+	private static void addDependency(String entityName, String dependency, Map<String, Set<String>> dependencies) {
+		// rows of the same entity type are left in their original order
+		if ( !entityName.equals( dependency ) ) {
+			final Set<String> entityDependencies = dependencies.get( entityName );
+			if ( entityDependencies != null && dependencies.containsKey( dependency ) ) {
+				entityDependencies.add( dependency );
+			}
+		}
+	}
+
+	/**
+	 * Tarjan's algorithm, which numbers the strongly connected components such
+	 * that every component is numbered after all the components it depends on.
+	 */
+	private static class ComponentBuilder {
+		private final Map<String, Set<String>> dependencies;
+
+		private final Map<String, Integer> indexes = new HashMap<>();
+		private final Map<String, Integer> lowLinks = new HashMap<>();
+		private final Deque<String> stack = new ArrayDeque<>();
+		private final Set<String> onStack = new LinkedHashSet<>();
+		private int index;
+
+		private final Map<String, Integer> componentsByEntityName = new HashMap<>();
+		private final BitSet cyclicComponents = new BitSet();
+		private int componentCount;
+
+		private ComponentBuilder(Map<String, Set<String>> dependencies) {
+			this.dependencies = dependencies;
+		}
+
+		private EntityInsertOrdering build() {
+			for ( String entityName : dependencies.keySet() ) {
+				if ( !indexes.containsKey( entityName ) ) {
+					visit( entityName );
+				}
+			}
+
+			final int[][] componentDependencies = new int[componentCount][];
+			final List<Set<Integer>> dependencySets = new ArrayList<>( componentCount );
+			for ( int i = 0; i < componentCount; i++ ) {
+				dependencySets.add( new LinkedHashSet<>() );
+			}
+			dependencies.forEach( (entityName, entityDependencies) -> {
+				final int component = componentsByEntityName.get( entityName );
+				for ( String dependency : entityDependencies ) {
+					final int dependencyComponent = componentsByEntityName.get( dependency );
+					if ( dependencyComponent != component ) {
+						assert dependencyComponent < component;
+						dependencySets.get( component ).add( dependencyComponent );
+					}
+				}
+			} );
+			for ( int i = 0; i < componentCount; i++ ) {
+				componentDependencies[i] = dependencySets.get( i ).stream().mapToInt( Integer::intValue ).toArray();
+			}
+
+			return new EntityInsertOrdering( Map.copyOf( componentsByEntityName ), componentDependencies, cyclicComponents );
+		}
+
+		// recursion depth is bounded by the number of entity types
+		private void visit(String entityName) {
+			indexes.put( entityName, index );
+			lowLinks.put( entityName, index );
+			index++;
+			stack.push( entityName );
+			onStack.add( entityName );
+
+			for ( String dependency : dependencies.get( entityName ) ) {
+				if ( !indexes.containsKey( dependency ) ) {
+					visit( dependency );
+					lowLinks.put( entityName, Math.min( lowLinks.get( entityName ), lowLinks.get( dependency ) ) );
+				}
+				else if ( onStack.contains( dependency ) ) {
+					lowLinks.put( entityName, Math.min( lowLinks.get( entityName ), indexes.get( dependency ) ) );
+				}
+			}
+
+			if ( lowLinks.get( entityName ).equals( indexes.get( entityName ) ) ) {
+				final int component = componentCount++;
+				String member;
+				int size = 0;
+				do {
+					member = stack.pop();
+					onStack.remove( member );
+					componentsByEntityName.put( member, component );
+					size++;
+				}
+				while ( !member.equals( entityName ) );
+				if ( size > 1 ) {
+					cyclicComponents.set( component );
+				}
+			}
+		}
+	}
+}
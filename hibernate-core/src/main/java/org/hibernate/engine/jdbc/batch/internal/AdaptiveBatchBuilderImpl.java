@@ -0,0 +1,221 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * A {@link org.hibernate.engine.jdbc.batch.spi.BatchBuilder} which adapts the size
+ * of the batches for each {@link BatchKey} to the execution times observed for that
+ * key, aiming for executions which take about the
+ * {@linkplain org.hibernate.cfg.BatchSettings#ADAPTIVE_TARGET_LATENCY target latency}.
+ * <p>
+ * The size chosen for a key is bounded by the
+ * {@linkplain org.hibernate.cfg.BatchSettings#ADAPTIVE_MIN_BATCH_SIZE configured minimum}
+ * and by the batch size requested for the batch, usually
+ * {@value org.hibernate.cfg.BatchSettings#STATEMENT_BATCH_SIZE}. A batch starts with
+ * the size currently chosen for its key, and resizes itself after each of its
+ * executions, so that the size adapts within a single flush. A pipelined execution
+ * only updates the size chosen for later batches.
+ *
+ * @see org.hibernate.stat.Statistics#getJdbcBatchSizes()
+ */
+public class AdaptiveBatchBuilderImpl extends BatchBuilderImpl {
+	/**
+	 * The weight of the most recent observation in the running estimate
+	 */
+	private static final double SMOOTHING_FACTOR = 0.25;
+
+	private final long targetLatencyNanos;
+	private final int minimumBatchSize;
+
+	private final ConcurrentHashMap<BatchKey, BatchSizeEstimate> estimates = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs an AdaptiveBatchBuilderImpl
+	 *
+	 * @param globalBatchSize The largest batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelined Whether batch executions should be pipelined
+	 * @param targetLatencyMillis The target execution time of a batch, in milliseconds
+	 * @param minimumBatchSize The smallest batch size to use
+	 */
+	public AdaptiveBatchBuilderImpl(
+			int globalBatchSize,
+			boolean pipelined,
+			long targetLatencyMillis,
+			int minimumBatchSize) {
+		super( globalBatchSize, pipelined );
+		if ( targetLatencyMillis <= 0 ) {
+			throw new IllegalArgumentException( "Target batch latency must be positive" );
+		}
+		this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos( targetLatencyMillis );
+		this.minimumBatchSize = Math.max( minimumBatchSize, 2 );
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Using adaptive BatchBuilder (target latency %sms, batch size %s-%s)",
+					targetLatencyMillis,
+					this.minimumBatchSize,
+					globalBatchSize
+			);
+		}
+	}
+
+	@Override
+	public Batch buildBatch(
+			BatchKey key,
+			Integer explicitBatchSize,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			JdbcCoordinator jdbcCoordinator) {
+		final int maximumBatchSize = explicitBatchSize == null
+				? getJdbcBatchSize()
+				: explicitBatchSize;
+		assert maximumBatchSize > 1;
+
+		final BatchSizeEstimate estimate = estimates.computeIfAbsent( key, k -> new BatchSizeEstimate() );
+		return new AdaptiveBatch(
+				key,
+				statementGroupSupplier.get(),
+				estimate,
+				maximumBatchSize,
+				jdbcCoordinator
+		);
+	}
+
+	/**
+	 * The current value of the time source used to measure the executions of batches,
+	 * in nanoseconds, {@link System#nanoTime()} by default.
+	 */
+	protected long nanoTime() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * The batch size which would currently be used for the given key, or the given
+	 * maximum if no execution has been observed for that key yet.
+	 */
+	public int getBatchSize(BatchKey key, int maximumBatchSize) {
+		final BatchSizeEstimate estimate = estimates.get( key );
+		return estimate == null ? maximumBatchSize : estimate.batchSize( maximumBatchSize );
+	}
+
+	/**
+	 * The observed execution times for a single {@link BatchKey}.
+	 * <p>
+	 * Shared by all sessions, and updated without locking: a lost update
+	 * merely delays the convergence of the estimate.
+	 */
+	private class BatchSizeEstimate {
+		private volatile double nanosPerRow;
+
+		private void recordExecution(int rowCount, long nanos) {
+			if ( rowCount <= 0 ) {
+				return;
+			}
+			final double observed = (double) nanos / rowCount;
+			final double current = nanosPerRow;
+			nanosPerRow = current == 0 ? observed : current + SMOOTHING_FACTOR * ( observed - current );
+		}
+
+		private int batchSize(int maximumBatchSize) {
+			final double current = nanosPerRow;
+			if ( current == 0 ) {
+				return maximumBatchSize;
+			}
+			final long size = Math.round( targetLatencyNanos / current );
+			return (int) Math.max( Math.min( size, maximumBatchSize ), Math.min( minimumBatchSize, maximumBatchSize ) );
+		}
+	}
+
+	/**
+	 * A batch which reports its execution times to the {@link BatchSizeEstimate}
+	 * of its key.
+	 */
+	private class AdaptiveBatch extends BatchImpl {
+		private final BatchSizeEstimate estimate;
+		private final int maximumBatchSize;
+		private final JdbcCoordinator jdbcCoordinator;
+
+		private int pendingRowCount;
+		private int batchSize;
+
+		private AdaptiveBatch(
+				BatchKey key,
+				PreparedStatementGroup statementGroup,
+				BatchSizeEstimate estimate,
+				int maximumBatchSize,
+				JdbcCoordinator jdbcCoordinator) {
+			super( key, statementGroup, estimate.batchSize( maximumBatchSize ), jdbcCoordinator );
+			this.estimate = estimate;
+			this.maximumBatchSize = maximumBatchSize;
+			this.batchSize = super.getBatchSizeToUse();
+			this.jdbcCoordinator = jdbcCoordinator;
+		}
+
+		@Override
+		protected int getBatchSizeToUse() {
+			return batchSize;
+		}
+
+		@Override
+		public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+			// count first, since adding may trigger an implicit execution
+			pendingRowCount++;
+			super.addToBatch( jdbcValueBindings, inclusionChecker );
+		}
+
+		@Override
+		protected void performExecution() {
+			final int rowCount = pendingRowCount;
+			pendingRowCount = 0;
+
+			final long start = nanoTime();
+			super.performExecution();
+			batchSize = recordExecution( rowCount, nanoTime() - start );
+		}
+
+		@Override
+		protected void performPipelinedExecution() {
+			// runs on the pipeline executor, the estimate and statistics are thread safe
+			final int rowCount = pendingRowCount;
+			pendingRowCount = 0;
+
+			final long start = nanoTime();
+			super.performPipelinedExecution();
+			recordExecution( rowCount, nanoTime() - start );
+		}
+
+		/**
+		 * @return the batch size now chosen for the key
+		 */
+		private int recordExecution(int rowCount, long nanos) {
+			estimate.recordExecution( rowCount, nanos );
+			final int newBatchSize = estimate.batchSize( maximumBatchSize );
+
+			final StatisticsImplementor statistics = jdbcCoordinator.getJdbcSessionOwner()
+					.getJdbcSessionContext()
+					.getStatistics();
+			if ( statistics != null && statistics.isStatisticsEnabled() ) {
+				statistics.jdbcBatchSize( getKey().toLoggableString(), newBatchSize );
+			}
+			return newBatchSize;
+		}
+	}
+}
@@ -7,6 +7,10 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Collections;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
@@ -17,6 +21,7 @@ import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
@@ -28,8 +33,9 @@ import static org.hibernate.jdbc.Expectations.NONE;
  *
  * @author Steve Ebersole
  */
-public class BatchBuilderImpl implements BatchBuilder {
+public class BatchBuilderImpl implements BatchBuilder, Stoppable {
 	private final int globalBatchSize;
+	private final ExecutorService pipelineExecutor;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -38,20 +44,48 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelined Whether batch executions should be
+	 * {@linkplain org.hibernate.cfg.BatchSettings#PIPELINED_EXECUTION pipelined}
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipelined) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s, pipelined=%s)",
+					globalBatchSize,
+					pipelined
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.pipelineExecutor = pipelined
+				? Executors.newCachedThreadPool( new PipelineThreadFactory() )
+				: null;
 	}
 
 	public int getJdbcBatchSize() {
 		return globalBatchSize;
 	}
 
+	@Override
+	public Executor getPipelineExecutor() {
+		return pipelineExecutor;
+	}
+
+	@Override
+	public void stop() {
+		if ( pipelineExecutor != null ) {
+			pipelineExecutor.shutdown();
+		}
+	}
+
 	@Override
 	public Batch buildBatch(
 			BatchKey key,
@@ -145,4 +179,14 @@ public class BatchBuilderImpl implements BatchBuilder {
 				jdbcCoordinator
 		);
 	}
+
+	private static class PipelineThreadFactory implements ThreadFactory {
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate JDBC Batch Pipeline Thread" );
+			return thread;
+		}
+	}
 }
@@ -43,9 +43,18 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 		}
 
 		if ( builder == null ) {
-			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 )
-			);
+			final int batchSize = ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 );
+			final boolean pipelined = ConfigurationHelper.getBoolean( BatchSettings.PIPELINED_EXECUTION, configurationValues );
+			final long targetLatency = ConfigurationHelper.getLong( BatchSettings.ADAPTIVE_TARGET_LATENCY, configurationValues, 0 );
+			if ( targetLatency > 0 ) {
+				return new AdaptiveBatchBuilderImpl(
+						batchSize,
+						pipelined,
+						targetLatency,
+						ConfigurationHelper.getInt( BatchSettings.ADAPTIVE_MIN_BATCH_SIZE, configurationValues, 2 )
+				);
+			}
+			return new BatchBuilderImpl( batchSize, pipelined );
 		}
 
 		if ( builder instanceof BatchBuilder ) {
@@ -8,7 +8,12 @@ package org.hibernate.engine.jdbc.batch.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
@@ -50,6 +55,10 @@ public class BatchImpl implements Batch {
 
 	private int batchPosition;
 	private boolean batchExecuted;
+	private boolean pipelined;
+	private List<PipelinedStatement> pipelinedStatements;
+	private HibernateMonitoringEvent pipelinedExecutionEvent;
+	private String pipelinedExecutionSql;
 
 	public BatchImpl(
 			BatchKey key,
@@ -148,14 +157,25 @@ public class BatchImpl implements Batch {
 		}
 
 		batchPosition++;
-		if ( batchPosition == batchSizeToUse ) {
+		if ( batchPosition >= getBatchSizeToUse() ) {
 			notifyObserversImplicitExecution();
+			// the previous batch, which may still be executing in the background,
+			// might insert the rows referenced by the statements of this one
+			jdbcCoordinator.completePipelinedBatch();
 			performExecution();
 			batchPosition = 0;
 			batchExecuted = true;
 		}
 	}
 
+	/**
+	 * The number of rows after which the batch is executed implicitly, which
+	 * may change after each execution.
+	 */
+	protected int getBatchSizeToUse() {
+		return batchSizeToUse;
+	}
+
 	protected void releaseStatements() {
 		statementGroup.forEachStatement( (tableName, statementDetails) -> {
 			if ( statementDetails.getStatement() == null ) {
@@ -247,12 +267,134 @@ public class BatchImpl implements Batch {
 		}
 	}
 
+	@Override
+	public CompletionStage<Void> executePipelined(Executor executor) {
+		notifyObserversExplicitExecution();
+		if ( batchPosition == 0 || getStatementGroup().getNumberOfStatements() == 0 ) {
+			return CompletableFuture.completedFuture( null );
+		}
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef( "Pipelining JDBC batch execution - `%s`", getKey().toLoggableString() );
+		}
+
+		final List<PipelinedStatement> statements = new ArrayList<>();
+		String identifierTableSql = null;
+		for ( PreparedStatementDetails statementDetails : statementGroupDetails() ) {
+			statements.add( new PipelinedStatement( statementDetails ) );
+			if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+				identifierTableSql = statementDetails.getSqlString();
+			}
+		}
+
+		// the observer and the event manager belong to the session, so they
+		// are notified here, and on completion, but never by the executor
+		//noinspection deprecation
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		pipelinedExecutionEvent = jdbcSessionOwner.getEventManager().beginJdbcBatchExecutionEvent();
+		pipelinedExecutionSql = identifierTableSql;
+		jdbcSessionOwner.getJdbcSessionContext().getObserver().jdbcExecuteBatchStart();
+
+		pipelinedStatements = statements;
+		pipelined = true;
+		return CompletableFuture.runAsync( this::performPipelinedExecution, executor );
+	}
+
+	private List<PreparedStatementDetails> statementGroupDetails() {
+		final List<PreparedStatementDetails> statements = new ArrayList<>();
+		getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+			if ( statementDetails.getStatement() != null ) {
+				statements.add( statementDetails );
+			}
+		} );
+		return statements;
+	}
+
+	/**
+	 * Executes the statements of a {@linkplain #executePipelined pipelined} batch.
+	 * <p>
+	 * Called by the pipeline executor, and so must not touch the session: the
+	 * outcome of each statement is just recorded, and is checked later by
+	 * {@link #completePipelinedExecution()}.
+	 */
+	protected void performPipelinedExecution() {
+		for ( PipelinedStatement statement : pipelinedStatements ) {
+			try {
+				statement.rowCounts = statement.details.getStatement().executeBatch();
+			}
+			catch (SQLException | RuntimeException e) {
+				// the remaining statements are not executed
+				statement.failure = e;
+				return;
+			}
+		}
+	}
+
+	@Override
+	public void completePipelinedExecution() {
+		if ( pipelinedStatements == null ) {
+			return;
+		}
+
+		final List<PipelinedStatement> statements = pipelinedStatements;
+		pipelinedStatements = null;
+		//noinspection deprecation
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		try {
+			for ( PipelinedStatement statement : statements ) {
+				statement.verify();
+			}
+		}
+		finally {
+			jdbcSessionOwner.getEventManager().completeJdbcBatchExecutionEvent( pipelinedExecutionEvent, pipelinedExecutionSql );
+			jdbcSessionOwner.getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
+			pipelinedExecutionEvent = null;
+			batchPosition = 0;
+		}
+	}
+
+	/**
+	 * The outcome of the execution of one statement of a pipelined batch
+	 */
+	private class PipelinedStatement {
+		private final PreparedStatementDetails details;
+		private int[] rowCounts;
+		private Exception failure;
+
+		private PipelinedStatement(PreparedStatementDetails details) {
+			this.details = details;
+		}
+
+		private void verify() {
+			final String sql = details.getSqlString();
+			try {
+				if ( failure instanceof SQLException ) {
+					throw (SQLException) failure;
+				}
+				else if ( failure != null ) {
+					throw (RuntimeException) failure;
+				}
+				else if ( rowCounts != null && details.getMutatingTableDetails().isIdentifierTable() ) {
+					checkRowCounts( rowCounts, details );
+				}
+			}
+			catch (SQLException e) {
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+				throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+			}
+			catch (RuntimeException re) {
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+				throw re;
+			}
+		}
+	}
+
 	protected void performExecution() {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
 					"Executing JDBC batch (%s / %s) - `%s`",
 					batchPosition,
-					batchSizeToUse,
+					getBatchSizeToUse(),
 					getKey().toLoggableString()
 			);
 		}
@@ -324,7 +466,7 @@ public class BatchImpl implements Batch {
 
 	@Override
 	public void release() {
-		if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
+		if ( !pipelined && BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
 			final PreparedStatementGroup statementGroup = getStatementGroup();
 			if ( statementGroup.getNumberOfStatements() != 0 ) {
 				if ( statementGroup.hasMatching( (statementDetails) -> statementDetails.getStatement() != null ) ) {
@@ -7,6 +7,9 @@
 package org.hibernate.engine.jdbc.batch.spi;
 
 import java.sql.PreparedStatement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.Incubating;
@@ -56,6 +59,39 @@ public interface Batch {
 	 */
 	void execute();
 
+	/**
+	 * Execute this batch using the given executor, so that the calling thread may go
+	 * on binding the next batch while the JDBC driver processes this one.
+	 * <p>
+	 * The returned stage completes once the driver is done with the statements. The
+	 * thread which owns the session must then call {@link #completePipelinedExecution()},
+	 * which reports the outcome, and, whatever that is, {@linkplain #release() release}
+	 * the batch. The executor never touches the session, its observers, or its events.
+	 * <p>
+	 * By default, the batch is simply executed synchronously.
+	 *
+	 * @see BatchBuilder#getPipelineExecutor()
+	 */
+	default CompletionStage<Void> executePipelined(Executor executor) {
+		try {
+			execute();
+			return CompletableFuture.completedFuture( null );
+		}
+		catch (RuntimeException e) {
+			return CompletableFuture.failedFuture( e );
+		}
+	}
+
+	/**
+	 * Check the outcome of a {@linkplain #executePipelined pipelined} execution, once
+	 * the stage it returned has completed, notifying the observers and events of the
+	 * session and verifying the row counts of the statements.
+	 *
+	 * @throws RuntimeException if the execution of the batch failed
+	 */
+	default void completePipelinedExecution() {
+	}
+
 	/**
 	 * Used to indicate that the batch instance is no longer needed and that, therefore,
 	 * it can release its resources.
@@ -6,6 +6,7 @@
  */
 package org.hibernate.engine.jdbc.batch.spi;
 
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.Incubating;
@@ -31,4 +32,14 @@ public interface BatchBuilder extends Service {
 			Integer batchSize,
 			Supplier<PreparedStatementGroup> statementGroupSupplier,
 			JdbcCoordinator jdbcCoordinator);
+
+	/**
+	 * The executor used to run {@linkplain Batch#executePipelined pipelined} batch
+	 * executions, or {@code null} if batches should be executed synchronously.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#PIPELINED_EXECUTION
+	 */
+	default Executor getPipelineExecutor() {
+		return null;
+	}
 }
@@ -13,6 +13,9 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionReleaseMode;
@@ -61,6 +64,13 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient Batch currentBatch;
 
+	/**
+	 * A batch which was handed off for {@linkplain Batch#executePipelined pipelined}
+	 * execution, and whose outcome has not yet been checked
+	 */
+	private transient Batch pipelinedBatch;
+	private transient CompletableFuture<Void> pipelinedExecution;
+
 	private transient long transactionTimeOutInstant = -1;
 
 	private Statement lastQuery;
@@ -152,6 +162,12 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		LOG.tracev( "Closing JDBC container [{0}]", this );
 		Connection connection;
 		try {
+			try {
+				completePipelinedBatch();
+			}
+			catch (RuntimeException e) {
+				LOG.debug( "Pipelined batch execution failed on close", e );
+			}
 			if ( currentBatch != null ) {
 				LOG.closingUnreleasedBatch();
 				currentBatch.release();
@@ -170,8 +186,14 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 				return currentBatch;
 			}
 			else {
-				currentBatch.execute();
-				currentBatch.release();
+				final Executor pipelineExecutor = owner.getJdbcSessionContext().getBatchBuilder().getPipelineExecutor();
+				if ( pipelineExecutor != null ) {
+					pipelineBatch( pipelineExecutor );
+				}
+				else {
+					currentBatch.execute();
+					currentBatch.release();
+				}
 			}
 		}
 
@@ -181,8 +203,69 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		return currentBatch;
 	}
 
+	/**
+	 * Hand off the current batch for execution in the background, after checking
+	 * the outcome of the previously pipelined batch, if any, so that at most one
+	 * batch is executing while the next one is being bound.
+	 */
+	private void pipelineBatch(Executor pipelineExecutor) {
+		completePipelinedBatch();
+		final Batch batch = currentBatch;
+		currentBatch = null;
+		final CompletableFuture<Void> execution;
+		try {
+			execution = batch.executePipelined( pipelineExecutor ).toCompletableFuture();
+		}
+		catch (RuntimeException e) {
+			batch.release();
+			throw e;
+		}
+		pipelinedBatch = batch;
+		pipelinedExecution = execution;
+	}
+
+	/**
+	 * Wait for the pipelined batch, if any, to complete, check its outcome, release
+	 * it, and propagate any failure of its execution.
+	 */
+	@Override
+	public void completePipelinedBatch() {
+		if ( pipelinedBatch == null ) {
+			return;
+		}
+
+		final Batch batch = pipelinedBatch;
+		final CompletableFuture<Void> execution = pipelinedExecution;
+		pipelinedBatch = null;
+		pipelinedExecution = null;
+		try {
+			awaitPipelinedExecution( execution );
+			batch.completePipelinedExecution();
+		}
+		catch (RuntimeException e) {
+			abortBatch();
+			throw e;
+		}
+		finally {
+			batch.release();
+		}
+	}
+
+	private static void awaitPipelinedExecution(CompletableFuture<Void> execution) {
+		try {
+			execution.join();
+		}
+		catch (CompletionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
 	@Override
 	public void executeBatch() {
+		completePipelinedBatch();
 		if ( currentBatch != null ) {
 			try {
 				currentBatch.execute();
@@ -195,6 +278,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public void conditionallyExecuteBatch(BatchKey key) {
+		completePipelinedBatch();
 		if ( currentBatch == null ) {
 			return;
 		}
@@ -207,6 +291,24 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public void abortBatch() {
+		if ( pipelinedBatch != null ) {
+			final Batch batch = pipelinedBatch;
+			final CompletableFuture<Void> execution = pipelinedExecution;
+			pipelinedBatch = null;
+			pipelinedExecution = null;
+			try {
+				// the statements must not be closed while the driver may still be
+				// executing them, and the outcome no longer matters
+				awaitPipelinedExecution( execution );
+				batch.completePipelinedExecution();
+			}
+			catch (RuntimeException e) {
+				LOG.debug( "Pipelined batch execution failed on abort", e );
+			}
+			finally {
+				batch.release();
+			}
+		}
 		if ( currentBatch != null ) {
 			currentBatch.release();
 		}
@@ -71,6 +71,17 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 	 */
 	void abortBatch();
 
+	/**
+	 * Wait for the batch previously handed off for
+	 * {@linkplain Batch#executePipelined pipelined} execution (if any)
+	 * to complete, and check its outcome. Must be called before any
+	 * other batch is executed, so that statements are executed in the
+	 * order they were added, and the connection is never used by two
+	 * threads at once.
+	 */
+	default void completePipelinedBatch() {
+	}
+
 	/**
 	 * Obtain the statement preparer associated with this JDBC coordinator.
 	 *
@@ -27,6 +27,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.PropertyValueException;
 import org.hibernate.action.internal.AbstractEntityInsertAction;
 import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.action.internal.CollectionAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
@@ -42,6 +43,7 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.engine.internal.EntityInsertOrdering;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
@@ -145,7 +147,7 @@ public class ActionQueue {
 				if ( instance.insertions == null ) {
 					//Special case of initialization
 					instance.insertions = instance.isOrderInsertsEnabled()
-							? new ExecutableList<>( InsertActionSorter.INSTANCE )
+							? new ExecutableList<>( TopologicalInsertActionSorter.INSTANCE )
 							: new ExecutableList<>( false );
 				}
 			}
@@ -194,9 +196,13 @@ public class ActionQueue {
 			@Override
 			public void ensureInitialized(ActionQueue instance) {
 				if ( instance.collectionUpdates == null ) {
-					instance.collectionUpdates = new ExecutableList<>( instance.isOrderUpdatesEnabled() );
+					instance.collectionUpdates = instance.newCollectionActionList();
 				}
 			}
+			@Override
+			public void execute(ActionQueue instance) {
+				instance.executeCollectionUpdates();
+			}
 		},
 		CollectionRecreateAction {
 			@Override
@@ -206,7 +212,7 @@ public class ActionQueue {
 			@Override
 			public void ensureInitialized(ActionQueue instance) {
 				if ( instance.collectionCreations == null ) {
-					instance.collectionCreations = new ExecutableList<>( instance.isOrderUpdatesEnabled() );
+					instance.collectionCreations = instance.newCollectionActionList();
 				}
 			}
 		},
@@ -225,6 +231,9 @@ public class ActionQueue {
 
 		public abstract ExecutableList<?> getActions(ActionQueue instance);
 		public abstract void ensureInitialized(ActionQueue instance);
+		public void execute(ActionQueue instance) {
+			instance.executeActions( getActions( instance ) );
+		}
 	}
 
 	/**
@@ -496,10 +505,50 @@ public class ActionQueue {
 		}
 
 		for ( OrderedActions action : ORDERED_OPERATIONS ) {
-			executeActions( action.getActions( this ) );
+			action.execute( this );
 		}
 	}
 
+	/**
+	 * Execute the collection updates. When JDBC batching is enabled, the row deletes of all
+	 * the collections are executed first, then the row updates, and then the row inserts, so
+	 * that the row operations of collections of the same role are batched together, even when
+	 * the collections belong to different owners.
+	 */
+	private void executeCollectionUpdates() {
+		final ExecutableList<CollectionUpdateAction> list = collectionUpdates;
+		if ( list != null && list.size() > 1 && isCollectionBatchingEnabled() ) {
+			try {
+				for ( CollectionUpdateAction action : list ) {
+					action.executeRowDeletes();
+				}
+				for ( CollectionUpdateAction action : list ) {
+					action.executeRowUpdates();
+				}
+				for ( CollectionUpdateAction action : list ) {
+					action.executeRowInserts();
+				}
+			}
+			catch (RuntimeException e) {
+				// the row operations of any of the collections may have been executed,
+				// so the same cleanup is needed as when executeActions() fails
+				try {
+					for ( CollectionUpdateAction action : list ) {
+						registerCleanupActions( action );
+					}
+				}
+				finally {
+					if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
+						invalidateSpaces( list.getQuerySpaces().toArray( new String[0] ) );
+					}
+					list.clear();
+				}
+				throw e;
+			}
+		}
+		executeActions( list );
+	}
+
 	/**
 	 * Prepares the internal action queues for execution.
 	 *
@@ -783,14 +832,15 @@ public class ActionQueue {
 	}
 
 	public void sortCollectionActions() {
+		// with JDBC batching, these are at least grouped by role
+		if ( collectionCreations != null ) {
+			collectionCreations.sort();
+		}
+		if ( collectionUpdates != null ) {
+			collectionUpdates.sort();
+		}
 		if ( isOrderUpdatesEnabled() ) {
 			// sort the updates by fk
-			if ( collectionCreations != null ) {
-				collectionCreations.sort();
-			}
-			if ( collectionUpdates != null ) {
-				collectionUpdates.sort();
-			}
 			if ( collectionQueuedOps != null ) {
 				collectionQueuedOps.sort();
 			}
@@ -818,6 +868,26 @@ public class ActionQueue {
 		return session.getFactory().getSessionFactoryOptions().isOrderInsertsEnabled();
 	}
 
+	private boolean isCollectionBatchingEnabled() {
+		return session.getConfiguredJdbcBatchSize() > 1;
+	}
+
+	/**
+	 * A list of collection creations or updates, which is sorted by role and key when ordering
+	 * of updates is enabled, or else grouped by role when JDBC batching is enabled.
+	 */
+	private <A extends CollectionAction> ExecutableList<A> newCollectionActionList() {
+		if ( isOrderUpdatesEnabled() ) {
+			return new ExecutableList<>( true );
+		}
+		else if ( isCollectionBatchingEnabled() ) {
+			return new ExecutableList<>( new CollectionRoleSorter<>() );
+		}
+		else {
+			return new ExecutableList<>( false );
+		}
+	}
+
 	public void clearFromFlushNeededCheck(int previousCollectionRemovalSize) {
 		if ( collectionCreations != null ) {
 			collectionCreations.clear();
@@ -1077,6 +1147,97 @@ public class ActionQueue {
 		}
 	}
 
+	/**
+	 * Groups collection actions by role, preserving their order otherwise, so that the row operations for
+	 * collections of the same role, but different owners, use the same batch.
+	 */
+	private static class CollectionRoleSorter<A extends CollectionAction> implements ExecutableList.Sorter<A> {
+		@Override
+		public void sort(List<A> actions) {
+			final Map<String, List<A>> actionsByRole = new LinkedHashMap<>();
+			for ( int i = 0; i < actions.size(); i++ ) {
+				final A action = actions.get( i );
+				actionsByRole.computeIfAbsent( action.getPrimarySortClassifier(), role -> new ArrayList<>() )
+						.add( action );
+			}
+			if ( actionsByRole.size() > 1 ) {
+				actions.clear();
+				for ( List<A> roleActions : actionsByRole.values() ) {
+					actions.addAll( roleActions );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Order the {@link #insertions} queue such that we group inserts against the same entity together, using the
+	 * {@link EntityInsertOrdering} computed once for the session factory, instead of discovering the dependencies
+	 * between the entity instances on every flush.
+	 * <p>
+	 * The inserts are grouped by the {@linkplain EntityInsertOrdering#getComponent component} of their entity
+	 * type, and the groups are scheduled in the order in which they first occur, as soon as every group they
+	 * depend on has been scheduled. This takes time linear in the number of inserts. The original order of the
+	 * inserts within a group is preserved, except for groups of entity types which depend on each other, which
+	 * are ordered by the {@link InsertActionSorter}.
+	 */
+	private static class TopologicalInsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
+		/**
+		 * Singleton access
+		 */
+		public static final TopologicalInsertActionSorter INSTANCE = new TopologicalInsertActionSorter();
+
+		@Override
+		public void sort(List<AbstractEntityInsertAction> insertions) {
+			if ( insertions.size() < 2 ) {
+				return;
+			}
+			final EntityInsertOrdering ordering = insertions.get( 0 ).getSession().getFactory()
+					.getFastSessionServices().getEntityInsertOrdering();
+
+			// group the inserts by component, in the order in which the components first occur
+			final Map<Integer, List<AbstractEntityInsertAction>> insertGroups = new LinkedHashMap<>();
+			for ( int i = 0; i < insertions.size(); i++ ) {
+				final AbstractEntityInsertAction insertion = insertions.get( i );
+				final int component = ordering.getComponent( insertion.getEntityName() );
+				if ( component < 0 ) {
+					// should not happen, but the instance-based sorter copes with anything
+					InsertActionSorter.INSTANCE.sort( insertions );
+					return;
+				}
+				insertGroups.computeIfAbsent( component, k -> new ArrayList<>() ).add( insertion );
+			}
+
+			insertions.clear();
+			// the group with the lowest component number can always be scheduled,
+			// so every pass schedules at least one group
+			while ( !insertGroups.isEmpty() ) {
+				final Iterator<Map.Entry<Integer, List<AbstractEntityInsertAction>>> iterator =
+						insertGroups.entrySet().iterator();
+				while ( iterator.hasNext() ) {
+					final Map.Entry<Integer, List<AbstractEntityInsertAction>> insertGroup = iterator.next();
+					final int component = insertGroup.getKey();
+					if ( isSchedulable( ordering.getDependencies( component ), insertGroups ) ) {
+						final List<AbstractEntityInsertAction> groupInsertions = insertGroup.getValue();
+						if ( ordering.isCyclic( component ) && groupInsertions.size() > 1 ) {
+							InsertActionSorter.INSTANCE.sort( groupInsertions );
+						}
+						insertions.addAll( groupInsertions );
+						iterator.remove();
+					}
+				}
+			}
+		}
+
+		private static boolean isSchedulable(int[] dependencies, Map<Integer, ?> unscheduledGroups) {
+			for ( int dependency : dependencies ) {
+				if ( unscheduledGroups.containsKey( dependency ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
 	/**
 	 * Order the {@link #insertions} queue such that we group inserts against the same entity together (without
 	 * violating constraints). The original order is generated by cascade order, which in turn is based on the
@@ -51,6 +51,7 @@ import org.hibernate.jdbc.Work;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.procedure.ProcedureCall;
 import org.hibernate.query.MutationQuery;
+import org.hibernate.query.QueryBatch;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.criteria.JpaCriteriaInsert;
@@ -1111,6 +1112,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.getStatistics();
 	}
 
+	@Override
+	public QueryBatch createQueryBatch() {
+		return delegate.createQueryBatch();
+	}
+
 	@Override
 	public boolean isReadOnly(Object entityOrProxy) {
 		return delegate.isReadOnly( entityOrProxy );
@@ -38,6 +38,7 @@ import org.hibernate.procedure.ProcedureCall;
 import org.hibernate.query.MutationQuery;
 import org.hibernate.query.NativeQuery;
 import org.hibernate.query.Query;
+import org.hibernate.query.QueryBatch;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.criteria.JpaCriteriaInsert;
@@ -482,6 +483,11 @@ public class SessionLazyDelegator implements Session {
 		return this.lazySession.get().getStatistics();
 	}
 
+	@Override
+	public QueryBatch createQueryBatch() {
+		return this.lazySession.get().createQueryBatch();
+	}
+
 	@Override
 	public boolean isReadOnly(Object entityOrProxy) {
 		return this.lazySession.get().isReadOnly( entityOrProxy );
@@ -224,4 +224,17 @@ public final class EmptyEventManager implements EventManager {
 			int[] dirtyProperties) {
 
 	}
+
+	@Override
+	public HibernateMonitoringEvent beginBootstrapPhaseEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeBootstrapPhaseEvent(
+			HibernateMonitoringEvent bootstrapPhaseEvent,
+			String phase,
+			long allocatedBytes) {
+
+	}
 }
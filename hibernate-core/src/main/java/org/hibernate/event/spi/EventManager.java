@@ -155,6 +155,13 @@ public interface EventManager {
 			EntityEntry entry,
 			int[] dirtyProperties);
 
+	HibernateMonitoringEvent beginBootstrapPhaseEvent();
+
+	void completeBootstrapPhaseEvent(
+			HibernateMonitoringEvent bootstrapPhaseEvent,
+			String phase,
+			long allocatedBytes);
+
 
 	enum CacheActionDescription {
 		ENTITY_INSERT( "Entity Insert" ),
@@ -651,6 +651,13 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 						this
 				);
 			}
+			if ( fastSessionServices.tenantSchemaMapper != null && getTenantIdentifierValue() != null ) {
+				jdbcConnectionAccess = new TenantSchemaJdbcConnectionAccess(
+						jdbcConnectionAccess,
+						fastSessionServices.tenantSchemaMapper.schemaName( getTenantIdentifierValue() ),
+						fastSessionServices.tenantSchemaSwitchState
+				);
+			}
 		}
 		return jdbcConnectionAccess;
 	}
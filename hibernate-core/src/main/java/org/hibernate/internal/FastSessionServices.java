@@ -10,6 +10,8 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -17,8 +19,13 @@ import org.hibernate.HibernateException;
 import org.hibernate.LockOptions;
 import org.hibernate.TimeZoneStorageStrategy;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.context.spi.TenantSchemaMapper;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.internal.EntityInsertOrdering;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
@@ -68,9 +75,12 @@ import org.hibernate.jpa.SpecHints;
 import org.hibernate.jpa.internal.util.CacheModeHelper;
 import org.hibernate.jpa.internal.util.ConfigurationHelper;
 import org.hibernate.jpa.internal.util.LockOptionsHelper;
+import org.hibernate.query.internal.AsyncQueryExecution;
 import org.hibernate.resource.transaction.spi.TransactionCoordinatorBuilder;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.sql.ast.spi.ParameterMarkerStrategy;
+import org.hibernate.sql.results.internal.RowReaderGenerator;
+import org.hibernate.sql.results.jdbc.internal.AdaptiveFetchSize;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducerProvider;
 import org.hibernate.type.format.FormatMapper;
 
@@ -87,6 +97,11 @@ import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_SCOPE;
 import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_TIMEOUT;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_STORE_MODE;
+import static org.hibernate.cfg.JdbcSettings.ADAPTIVE_FETCH_SIZE;
+import static org.hibernate.cfg.JdbcSettings.ADAPTIVE_FETCH_SIZE_MAX;
+import static org.hibernate.cfg.JdbcSettings.ADAPTIVE_FETCH_SIZE_MAX_VALUES;
+import static org.hibernate.cfg.QuerySettings.ASYNC_QUERY_EXECUTOR;
+import static org.hibernate.cfg.QuerySettings.SPECIALIZED_ROW_READERS;
 
 /**
  * Internal component.
@@ -162,6 +177,8 @@ public final class FastSessionServices {
 	final boolean requiresMultiTenantConnectionProvider;
 	final ConnectionProvider connectionProvider;
 	final MultiTenantConnectionProvider<Object> multiTenantConnectionProvider;
+	final TenantSchemaMapper<Object> tenantSchemaMapper;
+	final TenantSchemaJdbcConnectionAccess.SchemaSwitchState tenantSchemaSwitchState;
 	final ClassLoaderService classLoaderService;
 	final TransactionCoordinatorBuilder transactionCoordinatorBuilder;
 	public final JdbcServices jdbcServices;
@@ -178,6 +195,10 @@ public final class FastSessionServices {
 	public final BatchBuilder batchBuilder;
 	public final Dialect dialect;
 	public final ParameterMarkerStrategy parameterMarkerStrategy;
+	//null unless specialized row readers are enabled
+	public final RowReaderGenerator rowReaderGenerator;
+	//null unless the adaptive fetch size is enabled
+	public final AdaptiveFetchSize adaptiveFetchSize;
 
 	//Private fields:
 	private final CacheStoreMode defaultCacheStoreMode;
@@ -188,9 +209,15 @@ public final class FastSessionServices {
 	private final MutationExecutorService mutationExecutorService;
 	private final JdbcValuesMappingProducerProvider jdbcValuesMappingProducerProvider;
 	private final EventManager eventManager;
+	private final SessionFactoryImplementor sessionFactory;
+	private volatile EntityInsertOrdering entityInsertOrdering;
+	private volatile Executor asyncQueryExecutor;
+	// the executor created by Hibernate, which must be shut down with the factory
+	private ExecutorService ownedAsyncQueryExecutor;
 
 	FastSessionServices(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
+		this.sessionFactory = sessionFactory;
 		final ServiceRegistryImplementor serviceRegistry = sessionFactory.getServiceRegistry();
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
 		final SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
@@ -252,6 +279,11 @@ public final class FastSessionServices {
 		this.multiTenantConnectionProvider = requiresMultiTenantConnectionProvider
 				? serviceRegistry.requireService( MultiTenantConnectionProvider.class )
 				: null;
+		this.tenantSchemaMapper = sessionFactoryOptions.getTenantSchemaMapper();
+		this.tenantSchemaSwitchState = tenantSchemaMapper == null
+				? null
+				// connections from a single ConnectionProvider share their default schema
+				: new TenantSchemaJdbcConnectionAccess.SchemaSwitchState( !requiresMultiTenantConnectionProvider );
 		this.classLoaderService = serviceRegistry.requireService( ClassLoaderService.class );
 		this.transactionCoordinatorBuilder = serviceRegistry.getService( TransactionCoordinatorBuilder.class );
 		this.jdbcServices = serviceRegistry.getService( JdbcServices.class );
@@ -273,6 +305,27 @@ public final class FastSessionServices {
 		this.jsonFormatMapper = sessionFactoryOptions.getJsonFormatMapper();
 		this.xmlFormatMapper = sessionFactoryOptions.getXmlFormatMapper();
 		this.batchBuilder = serviceRegistry.getService( BatchBuilder.class );
+		final ConfigurationService configurationService = serviceRegistry.requireService( ConfigurationService.class );
+		this.rowReaderGenerator = configurationService
+				.getSetting( SPECIALIZED_ROW_READERS, StandardConverters.BOOLEAN, false )
+				? new RowReaderGenerator()
+				: null;
+		// an explicitly configured fetch size is never overridden
+		this.adaptiveFetchSize = sessionFactoryOptions.getJdbcFetchSize() == null
+				&& configurationService.getSetting( ADAPTIVE_FETCH_SIZE, StandardConverters.BOOLEAN, false )
+				? new AdaptiveFetchSize(
+						configurationService.getSetting(
+								ADAPTIVE_FETCH_SIZE_MAX,
+								StandardConverters.INTEGER,
+								AdaptiveFetchSize.DEFAULT_MAX_FETCH_SIZE
+						),
+						configurationService.getSetting(
+								ADAPTIVE_FETCH_SIZE_MAX_VALUES,
+								StandardConverters.INTEGER,
+								AdaptiveFetchSize.DEFAULT_MAX_FETCH_VALUES
+						)
+				)
+				: null;
 		final Collection<EventManager> eventManagers = classLoaderService.loadJavaServices( EventManager.class );
 		this.eventManager = eventManagers.isEmpty()
 				? new EmptyEventManager()
@@ -428,4 +481,66 @@ public final class FastSessionServices {
 		return mutationExecutorService;
 	}
 
+	/**
+	 * The {@link EntityInsertOrdering} of the entity types, built from the
+	 * mapping model the first time it is needed.
+	 */
+	public EntityInsertOrdering getEntityInsertOrdering() {
+		EntityInsertOrdering ordering = entityInsertOrdering;
+		if ( ordering == null ) {
+			synchronized ( this ) {
+				ordering = entityInsertOrdering;
+				if ( ordering == null ) {
+					entityInsertOrdering = ordering = EntityInsertOrdering.build( sessionFactory );
+				}
+			}
+		}
+		return ordering;
+	}
+
+	/**
+	 * The {@link Executor} used to execute queries asynchronously, created
+	 * the first time it is needed.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#ASYNC_QUERY_EXECUTOR
+	 */
+	public Executor getAsyncQueryExecutor() {
+		Executor executor = asyncQueryExecutor;
+		if ( executor == null ) {
+			synchronized ( this ) {
+				executor = asyncQueryExecutor;
+				if ( executor == null ) {
+					asyncQueryExecutor = executor = createAsyncQueryExecutor();
+				}
+			}
+		}
+		return executor;
+	}
+
+	private Executor createAsyncQueryExecutor() {
+		final ServiceRegistryImplementor serviceRegistry = sessionFactory.getServiceRegistry();
+		final Object setting = serviceRegistry.requireService( ConfigurationService.class )
+				.getSettings().get( ASYNC_QUERY_EXECUTOR );
+		if ( setting instanceof Executor ) {
+			return (Executor) setting;
+		}
+		final Executor executor = setting == null
+				? AsyncQueryExecution.createDefaultExecutor()
+				: serviceRegistry.requireService( StrategySelector.class ).resolveStrategy( Executor.class, setting );
+		if ( executor instanceof ExecutorService ) {
+			ownedAsyncQueryExecutor = (ExecutorService) executor;
+		}
+		return executor;
+	}
+
+	/**
+	 * Release resources held on behalf of the session factory.
+	 */
+	synchronized void close() {
+		if ( ownedAsyncQueryExecutor != null ) {
+			ownedAsyncQueryExecutor.shutdown();
+			ownedAsyncQueryExecutor = null;
+		}
+	}
+
 }
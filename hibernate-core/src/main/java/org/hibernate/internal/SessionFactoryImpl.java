@@ -315,6 +315,8 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 
 			observer.sessionFactoryCreated( this );
 
+			bootstrapContext.getBootstrapPhaseTracker().logReport();
+
 			// As last operation, delete all caches from ReflectionManager
 			// (not modelled as a listener as we want this to be last)
 			bootstrapContext.getReflectionManager().reset();
@@ -949,6 +951,9 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 			if ( eventEngine != null ) {
 				eventEngine.stop();
 			}
+			if ( fastSessionServices != null ) {
+				fastSessionServices.close();
+			}
 		}
 		finally {
 			status = Status.CLOSED;
@@ -122,8 +122,10 @@ import org.hibernate.procedure.ProcedureCall;
 import org.hibernate.procedure.spi.NamedCallableQueryMemento;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.Query;
+import org.hibernate.query.QueryBatch;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.UnknownSqlResultSetMappingException;
+import org.hibernate.query.sqm.internal.QueryBatchImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.resource.transaction.backend.jta.internal.JtaTransactionCoordinatorImpl;
@@ -1837,6 +1839,12 @@ public class SessionImpl
 		return new SessionStatisticsImpl( this );
 	}
 
+	@Override
+	public QueryBatch createQueryBatch() {
+		checkOpen();
+		return new QueryBatchImpl( this );
+	}
+
 	@Override
 	public boolean isEventSource() {
 		pulseTransactionCoordinator();
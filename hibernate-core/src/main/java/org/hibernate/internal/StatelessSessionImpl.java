@@ -6,6 +6,8 @@
  */
 package org.hibernate.internal;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.CacheMode;
@@ -20,6 +22,7 @@ import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLaziness
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.dialect.BulkInsertSupport;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.spi.EffectiveEntityGraph;
 import org.hibernate.engine.spi.EntityHolder;
@@ -38,7 +41,9 @@ import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.loader.ast.spi.CascadingFetchProfile;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.mutation.InsertCoordinatorStandard;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
 import org.hibernate.tuple.entity.EntityMetamodel;
 
 import jakarta.persistence.EntityGraph;
@@ -120,6 +125,91 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return id;
 	}
 
+	@Override
+	public void bulkInsert(Iterable<?> entities) {
+		checkOpen();
+		bulkInsert( null, entities );
+	}
+
+	@Override
+	public void bulkInsert(String entityName, Iterable<?> entities) {
+		checkOpen();
+		final Iterator<?> iterator = entities.iterator();
+		if ( !iterator.hasNext() ) {
+			return;
+		}
+		final Object first = iterator.next();
+		final EntityPersister persister = getEntityPersister( entityName, first );
+
+		final BulkInsertSupport bulkInsertSupport = getJdbcServices().getDialect().getBulkInsertSupport();
+		final List<ColumnReference> columns =
+				bulkInsertSupport != null
+						&& persister.getInsertCoordinator() instanceof InsertCoordinatorStandard
+						&& !persister.getGenerator().generatedOnExecution()
+						? ( (InsertCoordinatorStandard) persister.getInsertCoordinator() )
+								.getBulkInsertColumns( bulkInsertSupport )
+						: null;
+		if ( columns == null ) {
+			// not possible to load these entities in bulk, fall back to regular (batched) inserts
+			insert( entityName, first );
+			while ( iterator.hasNext() ) {
+				insert( entityName, iterator.next() );
+			}
+			return;
+		}
+
+		// rows of earlier operations must be written first
+		getJdbcCoordinator().executeBatch();
+
+		final InsertCoordinatorStandard insertCoordinator = (InsertCoordinatorStandard) persister.getInsertCoordinator();
+		final Iterator<Object[]> rows = new Iterator<>() {
+			private Object next = first;
+
+			@Override
+			public boolean hasNext() {
+				return next != null || iterator.hasNext();
+			}
+
+			@Override
+			public Object[] next() {
+				final Object entity;
+				if ( next != null ) {
+					entity = next;
+					next = null;
+				}
+				else {
+					entity = iterator.next();
+					if ( getEntityPersister( entityName, entity ) != persister ) {
+						throw new HibernateException( "Entities inserted in bulk must all be of type '"
+								+ persister.getEntityName() + "' (found '" + entity.getClass().getName() + "')" );
+					}
+				}
+				return bulkInsertRow( entity, persister, insertCoordinator );
+			}
+		};
+		bulkInsertSupport.insertRows(
+				persister.getIdentifierTableDetails().getTableName(),
+				columns,
+				rows,
+				this
+		);
+	}
+
+	private Object[] bulkInsertRow(
+			Object entity,
+			EntityPersister persister,
+			InsertCoordinatorStandard insertCoordinator) {
+		final Object[] state = persister.getValues( entity );
+		final Object id = ( (BeforeExecutionGenerator) persister.getGenerator() ).generate( this, entity, null, INSERT );
+		if ( persister.isVersioned() ) {
+			if ( seedVersion( entity, state, persister, this ) ) {
+				persister.setValues( entity, state );
+			}
+		}
+		persister.setIdentifier( entity, id, this );
+		return insertCoordinator.decomposeForBulkInsert( id, state, entity, this );
+	}
+
 
 	// deletes ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
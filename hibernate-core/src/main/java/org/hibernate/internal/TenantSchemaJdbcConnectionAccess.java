@@ -0,0 +1,146 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+
+/**
+ * A {@link JdbcConnectionAccess} which switches the schema of the connections
+ * it obtains to the schema of a tenant, and restores their original schema when
+ * they are released.
+ * <p>
+ * Some drivers, notably MySQL Connector/J, which treats catalogs as schemas,
+ * silently ignore {@link Connection#setSchema}. The first switch is therefore
+ * verified, and fails if the driver did not honor it, since the session would
+ * otherwise read and write the data of the default schema.
+ *
+ * @see org.hibernate.context.spi.TenantSchemaMapper
+ */
+public class TenantSchemaJdbcConnectionAccess implements JdbcConnectionAccess {
+	private final JdbcConnectionAccess delegate;
+	private final String tenantSchema;
+	private final SchemaSwitchState state;
+
+	// the original schemas of the connections currently obtained
+	private transient Map<Connection, String> originalSchemas;
+
+	public TenantSchemaJdbcConnectionAccess(JdbcConnectionAccess delegate, String tenantSchema, SchemaSwitchState state) {
+		this.delegate = delegate;
+		this.tenantSchema = tenantSchema;
+		this.state = state;
+	}
+
+	@Override
+	public Connection obtainConnection() throws SQLException {
+		final Connection connection = delegate.obtainConnection();
+		try {
+			final String originalSchema = state.originalSchema( connection );
+			connection.setSchema( tenantSchema );
+			state.verifySchemaSwitch( connection, tenantSchema );
+			originalSchemas().put( connection, originalSchema );
+			return connection;
+		}
+		catch (SQLException | RuntimeException e) {
+			delegate.releaseConnection( connection );
+			throw e;
+		}
+	}
+
+	@Override
+	public void releaseConnection(Connection connection) throws SQLException {
+		try {
+			// the original schema may be null
+			if ( originalSchemas().containsKey( connection ) ) {
+				restoreSchema( connection, originalSchemas().remove( connection ) );
+			}
+		}
+		finally {
+			delegate.releaseConnection( connection );
+		}
+	}
+
+	private static void restoreSchema(Connection connection, String originalSchema) throws SQLException {
+		try {
+			connection.setSchema( originalSchema );
+		}
+		catch (SQLException | RuntimeException e) {
+			// never hand the connection back while it still uses the schema of
+			// the tenant, closing an already closed connection is a no-op
+			try {
+				connection.close();
+			}
+			catch (SQLException closeFailure) {
+				e.addSuppressed( closeFailure );
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return delegate.supportsAggressiveRelease();
+	}
+
+	private Map<Connection, String> originalSchemas() {
+		if ( originalSchemas == null ) {
+			originalSchemas = new IdentityHashMap<>();
+		}
+		return originalSchemas;
+	}
+
+	/**
+	 * State shared by the sessions of a {@code SessionFactory}: whether the driver
+	 * was seen to honor {@link Connection#setSchema}, and, when the connections all
+	 * come from the same {@code ConnectionProvider}, their default schema, which is
+	 * then read only once, since {@link Connection#getSchema} is a round trip with
+	 * some drivers.
+	 */
+	public static class SchemaSwitchState {
+		private static final Object UNKNOWN = new Object();
+
+		private final boolean cacheDefaultSchema;
+		private volatile Object defaultSchema = UNKNOWN;
+		private volatile boolean verified;
+
+		public SchemaSwitchState(boolean cacheDefaultSchema) {
+			this.cacheDefaultSchema = cacheDefaultSchema;
+		}
+
+		private String originalSchema(Connection connection) throws SQLException {
+			if ( !cacheDefaultSchema ) {
+				return connection.getSchema();
+			}
+			final Object schema = defaultSchema;
+			if ( schema != UNKNOWN ) {
+				return (String) schema;
+			}
+			final String originalSchema = connection.getSchema();
+			defaultSchema = originalSchema;
+			return originalSchema;
+		}
+
+		private void verifySchemaSwitch(Connection connection, String tenantSchema) throws SQLException {
+			if ( !verified ) {
+				final String schema = connection.getSchema();
+				if ( schema == null || !schema.equalsIgnoreCase( tenantSchema ) ) {
+					throw new HibernateException(
+							"The JDBC driver ignored Connection.setSchema(\"" + tenantSchema + "\")"
+									+ " (the schema of the connection is '" + schema + "')"
+									+ ", so a TenantSchemaMapper cannot be used with this driver"
+					);
+				}
+				verified = true;
+			}
+		}
+	}
+}
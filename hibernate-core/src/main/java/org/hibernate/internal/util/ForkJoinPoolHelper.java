@@ -0,0 +1,67 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Creates and shuts down the short-lived pools used to parallelize
+ * work while a {@code SessionFactory} is being built.
+ */
+public final class ForkJoinPoolHelper {
+
+	private ForkJoinPoolHelper() { /* static methods only - hide constructor */
+	}
+
+	/**
+	 * A pool with one thread per available processor, or {@code null} if the
+	 * work should not be parallelized, because it is not enabled, or because
+	 * there is a single processor.
+	 * <p>
+	 * The work may load classes, so the threads use the context class loader
+	 * of the calling thread.
+	 *
+	 * @param enabled whether parallel execution was enabled by a setting
+	 * @param threadNamePrefix the prefix of the names of the threads, which
+	 *                         are suffixed with their index in the pool
+	 */
+	public static @Nullable ForkJoinPool createBootstrapPool(boolean enabled, String threadNamePrefix) {
+		if ( !enabled ) {
+			return null;
+		}
+		final int parallelism = Runtime.getRuntime().availableProcessors();
+		if ( parallelism < 2 ) {
+			return null;
+		}
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return new ForkJoinPool(
+				parallelism,
+				pool -> {
+					final ForkJoinWorkerThread thread =
+							ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+					thread.setName( threadNamePrefix + thread.getPoolIndex() );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+	}
+
+	/**
+	 * Shut down the given pool, if any, abandoning the tasks not yet started,
+	 * which are only left over when the work failed.
+	 */
+	public static void shutdown(@Nullable ForkJoinPool pool) {
+		if ( pool != null ) {
+			pool.shutdownNow();
+		}
+	}
+}
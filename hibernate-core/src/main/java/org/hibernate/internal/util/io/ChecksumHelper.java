@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Utilities for computing the SHA-256 checksums used to detect changed content,
+ * as hexadecimal strings.
+ */
+public final class ChecksumHelper {
+	private ChecksumHelper() {
+	}
+
+	public static String checksum(byte[] bytes) {
+		return toHex( newDigest().digest( bytes ) );
+	}
+
+	public static String checksum(Path file) throws IOException {
+		try ( InputStream inputStream = Files.newInputStream( file ) ) {
+			return checksum( inputStream );
+		}
+	}
+
+	/**
+	 * The checksum of the remaining content of the given stream, which is not closed.
+	 */
+	public static String checksum(InputStream inputStream) throws IOException {
+		final MessageDigest digest = newDigest();
+		final InputStream digestInputStream = new DigestInputStream( inputStream, digest );
+		final byte[] buffer = new byte[StreamCopier.BUFFER_SIZE];
+		while ( digestInputStream.read( buffer ) != -1 ) {
+			// read the whole stream through the digest
+		}
+		return toHex( digest.digest() );
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException( e );
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		final StringBuilder hex = new StringBuilder( bytes.length * 2 );
+		for ( byte b : bytes ) {
+			hex.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) )
+					.append( Character.forDigit( b & 0xF, 16 ) );
+		}
+		return hex.toString();
+	}
+}
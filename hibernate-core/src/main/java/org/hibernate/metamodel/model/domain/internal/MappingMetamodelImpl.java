@@ -9,12 +9,16 @@ package org.hibernate.metamodel.model.domain.internal;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -25,6 +29,8 @@ import org.hibernate.MappingException;
 import org.hibernate.UnknownEntityTypeException;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.boot.spi.BootstrapPhase;
+import org.hibernate.boot.spi.BootstrapPhaseTracker;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
@@ -81,7 +87,11 @@ import jakarta.persistence.metamodel.EmbeddableType;
 import jakarta.persistence.metamodel.EntityType;
 import jakarta.persistence.metamodel.ManagedType;
 
+import static org.hibernate.cfg.PersistenceSettings.PARALLEL_PERSISTER_INITIALIZATION;
+import static org.hibernate.internal.util.ForkJoinPoolHelper.createBootstrapPool;
+import static org.hibernate.internal.util.ForkJoinPoolHelper.shutdown;
 import static org.hibernate.internal.util.collections.ArrayHelper.EMPTY_STRING_ARRAY;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.metamodel.internal.JpaMetaModelPopulationSetting.determineJpaMetaModelPopulationSetting;
 import static org.hibernate.metamodel.internal.JpaStaticMetaModelPopulationSetting.determineJpaStaticMetaModelPopulationSetting;
 
@@ -179,35 +189,66 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 		final PersisterFactory persisterFactory =
 				jpaMetamodel.getServiceRegistry().requireService( PersisterFactory.class );
 		final CacheImplementor cache = context.getCache();
-		processBootEntities(
-				bootModel.getEntityBindings(),
-				cache,
-				persisterFactory,
-				context
-		);
-		processBootCollections(
-				bootModel.getCollectionBindings(),
-				cache,
-				persisterFactory,
-				context
-		);
+		final ForkJoinPool pool = createInitializationPool( context.getSettings() );
+		final BootstrapPhaseTracker phaseTracker = context.getBootstrapContext().getBootstrapPhaseTracker();
+		try {
+			final BootstrapPhaseTracker.Measurement persisterCreation =
+					phaseTracker.begin( BootstrapPhase.PERSISTER_CREATION );
+			processBootEntities(
+					bootModel.getEntityBindings(),
+					cache,
+					persisterFactory,
+					context,
+					pool
+			);
+			processBootCollections(
+					bootModel.getCollectionBindings(),
+					cache,
+					persisterFactory,
+					context,
+					pool
+			);
+			phaseTracker.end( persisterCreation );
 
-		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-		// after *all* persisters and named queries are registered
+			// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+			// after *all* persisters and named queries are registered
 
-		MappingModelCreationProcess.process( entityPersisterMap, context );
+			// the mapping model of an entity depends on the mapping models of
+			// the entities it is associated with, so this is always sequential
+			final BootstrapPhaseTracker.Measurement mappingModelCreation =
+					phaseTracker.begin( BootstrapPhase.MAPPING_MODEL_CREATION );
+			MappingModelCreationProcess.process( entityPersisterMap, context );
 
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.postInstantiate();
-			registerEntityNameResolvers( persister, entityNameResolvers );
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				persister.postInstantiate();
+				registerEntityNameResolvers( persister, entityNameResolvers );
+			}
+			phaseTracker.end( mappingModelCreation );
+
+			// the loaders only read the (now complete) mapping model
+			final BootstrapPhaseTracker.Measurement loaderPreparation =
+					phaseTracker.begin( BootstrapPhase.LOADER_PREPARATION );
+			final List<Runnable> loaderPreparations = new ArrayList<>();
+			// a persister may be registered under both its entity name and its class name
+			final Set<EntityPersister> preparedPersisters = Collections.newSetFromMap( new IdentityHashMap<>() );
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				if ( preparedPersisters.add( persister ) ) {
+					loaderPreparations.add( persister::prepareLoaders );
+				}
+			}
+			for ( CollectionPersister persister : collectionPersisterMap.values() ) {
+				loaderPreparations.add( persister::postInstantiate );
+			}
+			map( loaderPreparations, preparation -> {
+				preparation.run();
+				return null;
+			}, pool );
+			phaseTracker.end( loaderPreparation );
 		}
-
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.prepareLoaders();
+		finally {
+			shutdown( pool );
 		}
 
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
-
 		registerEmbeddableMappingType( bootModel );
 
 		final Map<String, Object> settings = context.getSettings();
@@ -234,23 +275,68 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 		);
 	}
 
+	/**
+	 * The pool used to create and initialize persisters concurrently, or {@code null}
+	 * if {@value org.hibernate.cfg.PersistenceSettings#PARALLEL_PERSISTER_INITIALIZATION}
+	 * is not enabled.
+	 */
+	private static ForkJoinPool createInitializationPool(Map<String, Object> settings) {
+		return createBootstrapPool(
+				getBoolean( PARALLEL_PERSISTER_INITIALIZATION, settings ),
+				"hibernate-persister-initialization-"
+		);
+	}
+
+	/**
+	 * Apply the given function to every element, concurrently if a pool is given.
+	 * The results are returned in the iteration order of the given elements, and
+	 * if several tasks fail, the failure of the first of them in that order is
+	 * rethrown, so that the outcome does not depend on the scheduling.
+	 */
+	private static <T, R> List<R> map(java.util.Collection<T> elements, Function<T, R> function, ForkJoinPool pool) {
+		final List<R> results = new ArrayList<>( elements.size() );
+		if ( pool == null ) {
+			for ( T element : elements ) {
+				results.add( function.apply( element ) );
+			}
+		}
+		else {
+			final List<ForkJoinTask<R>> tasks = new ArrayList<>( elements.size() );
+			for ( T element : elements ) {
+				tasks.add( pool.submit( () -> function.apply( element ) ) );
+			}
+			for ( ForkJoinTask<R> task : tasks ) {
+				results.add( task.join() );
+			}
+		}
+		return results;
+	}
+
 	private void processBootEntities(
 			java.util.Collection<PersistentClass> entityBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
+			RuntimeModelCreationContext modelCreationContext,
+			ForkJoinPool pool) {
+		final List<EntityPersister> persisters = map(
+				entityBindings,
+				model -> {
+					final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
+					final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
+					final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
+							.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
+					return persisterFactory.createEntityPersister(
+							model,
+							accessStrategy,
+							naturalIdAccessStrategy,
+							modelCreationContext
+					);
+				},
+				pool
+		);
+		int i = 0;
 		for ( final PersistentClass model : entityBindings ) {
-			final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
-			final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
-			final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
-					.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
-
-			final EntityPersister cp = persisterFactory.createEntityPersister(
-					model,
-					accessStrategy,
-					naturalIdAccessStrategy,
-					modelCreationContext
-			);
+			final EntityPersister cp = persisters.get( i++ );
 			entityPersisterMap.put( model.getEntityName(), cp );
 			// Also register the persister under the class name if available,
 			// otherwise the getEntityDescriptor(Class) won't work for entities with custom entity names
@@ -301,18 +387,27 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 			java.util.Collection<Collection> collectionBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
+			RuntimeModelCreationContext modelCreationContext,
+			ForkJoinPool pool) {
+		final List<CollectionPersister> persisters = map(
+				collectionBindings,
+				model -> {
+					final NavigableRole navigableRole = new NavigableRole( model.getRole() );
+
+					final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
+							navigableRole );
+
+					return persisterFactory.createCollectionPersister(
+							model,
+							accessStrategy,
+							modelCreationContext
+					);
+				},
+				pool
+		);
+		int i = 0;
 		for ( final Collection model : collectionBindings ) {
-			final NavigableRole navigableRole = new NavigableRole( model.getRole() );
-
-			final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
-					navigableRole );
-
-			final CollectionPersister persister = persisterFactory.createCollectionPersister(
-					model,
-					accessStrategy,
-					modelCreationContext
-			);
+			final CollectionPersister persister = persisters.get( i++ );
 			collectionPersisterMap.put( model.getRole(), persister );
 			Type indexType = persister.getIndexType();
 			if ( indexType != null && indexType.isEntityType() && !indexType.isAnyType() ) {
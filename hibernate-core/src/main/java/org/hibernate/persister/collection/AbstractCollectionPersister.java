@@ -136,7 +136,9 @@ import org.hibernate.type.Type;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static org.hibernate.cfg.PersistenceSettings.LAZY_PERSISTER_INITIALIZATION;
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
 
 /**
@@ -233,9 +235,14 @@ public abstract class AbstractCollectionPersister
 
 	private final Comparator<?> comparator;
 
-	private CollectionLoader collectionLoader;
+	// when lazy initialization is enabled, the loaders are only
+	// built when they are first used. The row mutation coordinators
+	// of the subclasses are not deferred: they are cheap to create,
+	// and already build their JDBC operations when first used
+	private final boolean lazyInitialization;
+	private volatile CollectionLoader collectionLoader;
 //	private volatile CollectionLoader standardCollectionLoader;
-	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
+	private volatile CollectionElementLoaderByIndex collectionElementLoaderByIndex;
 
 	private PluralAttributeMapping attributeMapping;
 	private volatile Set<String> affectingFetchProfiles;
@@ -260,6 +267,7 @@ public abstract class AbstractCollectionPersister
 				.resolveRepresentation( collectionBootDescriptor );
 
 		this.cacheAccessStrategy = cacheAccessStrategy;
+		this.lazyInitialization = getBoolean( LAZY_PERSISTER_INITIALIZATION, creationContext.getSettings() );
 		if ( creationContext.getSessionFactoryOptions().isStructuredCacheEntriesEnabled() ) {
 			cacheEntryStructure = collectionBootDescriptor.isMap()
 					? StructuredMapCacheEntry.INSTANCE
@@ -639,19 +647,18 @@ public abstract class AbstractCollectionPersister
 			// We pass null as metamodel because we did the initialization during construction already
 			collectionLoader = createNamedQueryCollectionLoader( this, getNamedQueryMemento( null ) );
 		}
-		else {
+		else if ( !lazyInitialization ) {
 			collectionLoader = createNamedQueryCollectionLoader( new LoadQueryInfluencers( factory ) );
 		}
 
-		if ( attributeMapping.getIndexDescriptor() != null ) {
-			collectionElementLoaderByIndex = new CollectionElementLoaderByIndex(
-					attributeMapping,
-					new LoadQueryInfluencers( factory ),
-					factory
-			);
+		if ( attributeMapping.getIndexDescriptor() != null && !lazyInitialization ) {
+			collectionElementLoaderByIndex = createCollectionElementLoaderByIndex();
 		}
 
-		logStaticSQL();
+		if ( !lazyInitialization ) {
+			// logging the SQL would build the row mutation operations
+			logStaticSQL();
+		}
 	}
 
 	private NamedQueryMemento getNamedQueryMemento(MetadataImplementor bootModel) {
@@ -725,7 +732,36 @@ public abstract class AbstractCollectionPersister
 	}
 
 	public CollectionLoader getCollectionLoader() {
-		return collectionLoader;
+		// lazily initialize instance field via 'double-checked locking'
+		CollectionLoader localCopy = collectionLoader;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = collectionLoader;
+				if ( localCopy == null ) {
+					localCopy = createNamedQueryCollectionLoader( new LoadQueryInfluencers( factory ) );
+					collectionLoader = localCopy;
+				}
+			}
+		}
+		return localCopy;
+	}
+
+	private CollectionElementLoaderByIndex getCollectionElementLoaderByIndex() {
+		CollectionElementLoaderByIndex localCopy = collectionElementLoaderByIndex;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = collectionElementLoaderByIndex;
+				if ( localCopy == null ) {
+					localCopy = createCollectionElementLoaderByIndex();
+					collectionElementLoaderByIndex = localCopy;
+				}
+			}
+		}
+		return localCopy;
+	}
+
+	private CollectionElementLoaderByIndex createCollectionElementLoaderByIndex() {
+		return new CollectionElementLoaderByIndex( attributeMapping, new LoadQueryInfluencers( factory ), factory );
 	}
 
 	protected CollectionLoader determineLoaderToUse(Object key, SharedSessionContractImplementor session) {
@@ -1549,7 +1585,7 @@ public abstract class AbstractCollectionPersister
 
 	@Override
 	public Object getElementByIndex(Object key, Object index, SharedSessionContractImplementor session, Object owner) {
-		return collectionElementLoaderByIndex.load( key, index, session );
+		return getCollectionElementLoaderByIndex().load( key, index, session );
 	}
 
 	@Override
@@ -302,6 +302,7 @@ import org.hibernate.type.spi.TypeConfiguration;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
+import static org.hibernate.cfg.PersistenceSettings.LAZY_PERSISTER_INITIALIZATION;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfPersistentAttributeInterceptable;
@@ -310,6 +311,7 @@ import static org.hibernate.engine.internal.Versioning.isVersionIncrementRequire
 import static org.hibernate.generator.EventType.INSERT;
 import static org.hibernate.generator.EventType.UPDATE;
 import static org.hibernate.internal.util.ReflectHelper.isAbstractClass;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.StringHelper.isEmpty;
 import static org.hibernate.internal.util.StringHelper.qualifyConditionally;
 import static org.hibernate.internal.util.collections.ArrayHelper.contains;
@@ -350,8 +352,11 @@ public abstract class AbstractEntityPersister
 
 	private final String sqlAliasStem;
 
-	private SingleIdEntityLoader<?> singleIdLoader;
-	private MultiIdEntityLoader<?> multiIdLoader;
+	// when lazy initialization is enabled, the loaders and mutation
+	// coordinators are only built when they are first used
+	private final boolean lazyInitialization;
+	private volatile SingleIdEntityLoader<?> singleIdLoader;
+	private volatile MultiIdEntityLoader<?> multiIdLoader;
 	private NaturalIdLoader<?> naturalIdLoader;
 	private MultiNaturalIdLoader<?> multiNaturalIdLoader;
 
@@ -404,15 +409,15 @@ public abstract class AbstractEntityPersister
 	private final boolean[] propertyDefinedOnSubclass;
 	private final CascadeStyle[] subclassPropertyCascadeStyleClosure;
 
-	private Map<String, SingleIdArrayLoadPlan> lazyLoadPlanByFetchGroup;
+	private volatile Map<String, SingleIdArrayLoadPlan> lazyLoadPlanByFetchGroup;
 	private final LockModeEnumMap<LockingStrategy> lockers = new LockModeEnumMap<>();
 	private String sqlVersionSelectString;
 
 	private EntityTableMapping[] tableMappings;
-	private InsertCoordinator insertCoordinator;
-	private UpdateCoordinator updateCoordinator;
-	private DeleteCoordinator deleteCoordinator;
-	private UpdateCoordinator mergeCoordinator;
+	private volatile InsertCoordinator insertCoordinator;
+	private volatile UpdateCoordinator updateCoordinator;
+	private volatile DeleteCoordinator deleteCoordinator;
+	private volatile UpdateCoordinator mergeCoordinator;
 
 	private SqmMultiTableMutationStrategy sqmMultiTableMutationStrategy;
 	private SqmMultiTableInsertStrategy sqmMultiTableInsertStrategy;
@@ -510,6 +515,8 @@ public abstract class AbstractEntityPersister
 
 		final SessionFactoryOptions sessionFactoryOptions = creationContext.getSessionFactoryOptions();
 
+		lazyInitialization = getBoolean( LAZY_PERSISTER_INITIALIZATION, creationContext.getSettings() );
+
 		if ( sessionFactoryOptions.isSecondLevelCacheEnabled() ) {
 			this.cacheAccessStrategy = cacheAccessStrategy;
 			this.naturalIdRegionAccessStrategy = naturalIdRegionAccessStrategy;
@@ -1082,27 +1089,78 @@ public abstract class AbstractEntityPersister
 	}
 
 	SingleIdArrayLoadPlan getSQLLazySelectLoadPlan(String fetchGroup) {
-		return lazyLoadPlanByFetchGroup.get( fetchGroup );
+		// lazily initialize instance field via 'double-checked locking'
+		Map<String, SingleIdArrayLoadPlan> localCopy = lazyLoadPlanByFetchGroup;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = lazyLoadPlanByFetchGroup;
+				if ( localCopy == null ) {
+					localCopy = getLazyLoadPlanByFetchGroup();
+					lazyLoadPlanByFetchGroup = localCopy;
+				}
+			}
+		}
+		return localCopy.get( fetchGroup );
 	}
 
 	@Override
 	public InsertCoordinator getInsertCoordinator() {
-		return insertCoordinator;
+		InsertCoordinator localCopy = insertCoordinator;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = insertCoordinator;
+				if ( localCopy == null ) {
+					localCopy = buildInsertCoordinator();
+					insertCoordinator = localCopy;
+				}
+			}
+		}
+		return localCopy;
 	}
 
 	@Override
 	public UpdateCoordinator getUpdateCoordinator() {
-		return updateCoordinator;
+		UpdateCoordinator localCopy = updateCoordinator;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = updateCoordinator;
+				if ( localCopy == null ) {
+					localCopy = buildUpdateCoordinator();
+					updateCoordinator = localCopy;
+				}
+			}
+		}
+		return localCopy;
 	}
 
 	@Override
 	public DeleteCoordinator getDeleteCoordinator() {
-		return deleteCoordinator;
+		DeleteCoordinator localCopy = deleteCoordinator;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = deleteCoordinator;
+				if ( localCopy == null ) {
+					localCopy = buildDeleteCoordinator();
+					deleteCoordinator = localCopy;
+				}
+			}
+		}
+		return localCopy;
 	}
 
 	@Override
 	public UpdateCoordinator getMergeCoordinator() {
-		return mergeCoordinator;
+		UpdateCoordinator localCopy = mergeCoordinator;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = mergeCoordinator;
+				if ( localCopy == null ) {
+					localCopy = buildMergeCoordinator();
+					mergeCoordinator = localCopy;
+				}
+			}
+		}
+		return localCopy;
 	}
 
 	public String getVersionSelectString() {
@@ -2024,7 +2082,7 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public Object[] getDatabaseSnapshot(Object id, SharedSessionContractImplementor session) throws HibernateException {
-		return singleIdLoader.loadDatabaseSnapshot( id, session );
+		return getSingleIdLoader().loadDatabaseSnapshot( id, session );
 	}
 
 	@Override
@@ -2072,7 +2130,7 @@ public abstract class AbstractEntityPersister
 
 		final Object nextVersion = calculateNextVersion( id, currentVersion, session );
 
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, session );
 
 //		// todo : cache this sql...
 //		String versionIncrementString = generateVersionIncrementUpdateString();
@@ -2120,7 +2178,7 @@ public abstract class AbstractEntityPersister
 
 		final Object nextVersion = calculateNextVersion( id, currentVersion, session );
 
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, batching, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, batching, session );
 		return nextVersion;
 	}
 
@@ -2982,7 +3040,7 @@ public abstract class AbstractEntityPersister
 	 */
 	@Override
 	public void delete(Object id, Object version, Object object, SharedSessionContractImplementor session) {
-		deleteCoordinator.delete( object, id, version, session );
+		getDeleteCoordinator().delete( object, id, version, session );
 	}
 
 	/**
@@ -3421,13 +3479,15 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public void prepareLoaders() {
-		// Hibernate Reactive needs to override the loaders
-		singleIdLoader = buildSingleIdEntityLoader();
-		multiIdLoader = buildMultiIdLoader();
+		if ( !lazyInitialization ) {
+			// Hibernate Reactive needs to override the loaders
+			singleIdLoader = buildSingleIdEntityLoader();
+			multiIdLoader = buildMultiIdLoader();
 
-		lazyLoadPlanByFetchGroup = getLazyLoadPlanByFetchGroup();
+			lazyLoadPlanByFetchGroup = getLazyLoadPlanByFetchGroup();
 
-		logStaticSQL();
+			logStaticSQL();
+		}
 	}
 
 	private void doLateInit() {
@@ -3461,10 +3521,12 @@ public abstract class AbstractEntityPersister
 			updateGeneratedValuesProcessor = createGeneratedValuesProcessor( UPDATE, updateGeneratedAttributes );
 		}
 
-		insertCoordinator = buildInsertCoordinator();
-		updateCoordinator = buildUpdateCoordinator();
-		deleteCoordinator = buildDeleteCoordinator();
-		mergeCoordinator = buildMergeCoordinator();
+		if ( !lazyInitialization ) {
+			insertCoordinator = buildInsertCoordinator();
+			updateCoordinator = buildUpdateCoordinator();
+			deleteCoordinator = buildDeleteCoordinator();
+			mergeCoordinator = buildMergeCoordinator();
+		}
 
 		final int joinSpan = getTableSpan();
 
@@ -3796,7 +3858,31 @@ public abstract class AbstractEntityPersister
 	}
 
 	public SingleIdEntityLoader<?> getSingleIdLoader() {
-		return singleIdLoader;
+		SingleIdEntityLoader<?> localCopy = singleIdLoader;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = singleIdLoader;
+				if ( localCopy == null ) {
+					localCopy = buildSingleIdEntityLoader();
+					singleIdLoader = localCopy;
+				}
+			}
+		}
+		return localCopy;
+	}
+
+	private MultiIdEntityLoader<?> getMultiIdLoader() {
+		MultiIdEntityLoader<?> localCopy = multiIdLoader;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = multiIdLoader;
+				if ( localCopy == null ) {
+					localCopy = buildMultiIdLoader();
+					multiIdLoader = localCopy;
+				}
+			}
+		}
+		return localCopy;
 	}
 
 	@Override
@@ -3850,7 +3936,7 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public List<?> multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions) {
-		return multiIdLoader.load( ids, loadOptions, session );
+		return getMultiIdLoader().load( ids, loadOptions, session );
 	}
 
 	@Override
@@ -6419,7 +6505,7 @@ public abstract class AbstractEntityPersister
 	@Deprecated(forRemoval = true)
 	@Remove
 	public String[] getSQLDeleteStrings() {
-		return extractSqlStrings( deleteCoordinator.getStaticMutationOperationGroup() );
+		return extractSqlStrings( getDeleteCoordinator().getStaticMutationOperationGroup() );
 	}
 
 	private String[] extractSqlStrings(MutationOperationGroup operationGroup) {
@@ -6441,7 +6527,7 @@ public abstract class AbstractEntityPersister
 	@Deprecated(forRemoval = true)
 	@Remove
 	public String[] getSQLUpdateStrings() {
-		return extractSqlStrings( updateCoordinator.getStaticMutationOperationGroup() );
+		return extractSqlStrings( getUpdateCoordinator().getStaticMutationOperationGroup() );
 	}
 
 	/**
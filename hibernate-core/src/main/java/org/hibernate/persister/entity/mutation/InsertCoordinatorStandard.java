@@ -7,9 +7,12 @@
 package org.hibernate.persister.entity.mutation;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.Internal;
+import org.hibernate.dialect.BulkInsertSupport;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
@@ -17,6 +20,8 @@ import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.MutationExecutor;
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.BeforeExecutionGenerator;
@@ -29,15 +34,20 @@ import org.hibernate.metamodel.mapping.AttributeMappingsList;
 import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
 import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ValuesAnalysis;
+import org.hibernate.sql.model.ast.ColumnValueBinding;
+import org.hibernate.sql.model.ast.ColumnWriteFragment;
+import org.hibernate.sql.model.ast.MutationGroup;
 import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilderStandard;
 import org.hibernate.sql.model.ast.builder.TableMutationBuilder;
+import org.hibernate.sql.model.internal.TableInsertStandard;
 import org.hibernate.tuple.entity.EntityMetamodel;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -56,6 +66,9 @@ public class InsertCoordinatorStandard extends AbstractMutationCoordinator imple
 	private final MutationOperationGroup staticInsertGroup;
 	private final BasicBatchKey batchKey;
 
+	// determined on first use, since most entities are never inserted in bulk
+	private volatile BulkInsertColumns bulkInsertColumns;
+
 	public InsertCoordinatorStandard(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
 
@@ -220,7 +233,25 @@ public class InsertCoordinatorStandard extends AbstractMutationCoordinator imple
 			boolean[] propertyInclusions,
 			TableInclusionChecker tableInclusionChecker,
 			SharedSessionContractImplementor session) {
-		final JdbcValueBindings jdbcValueBindings = mutationExecutor.getJdbcValueBindings();
+		decomposeForInsert(
+				mutationExecutor.getJdbcValueBindings(),
+				id,
+				values,
+				mutationGroup,
+				propertyInclusions,
+				tableInclusionChecker,
+				session
+		);
+	}
+
+	private void decomposeForInsert(
+			JdbcValueBindings jdbcValueBindings,
+			Object id,
+			Object[] values,
+			MutationOperationGroup mutationGroup,
+			boolean[] propertyInclusions,
+			TableInclusionChecker tableInclusionChecker,
+			SharedSessionContractImplementor session) {
 		final AttributeMappingsList attributeMappings = entityPersister().getAttributeMappings();
 
 		for ( int position = 0; position < mutationGroup.getNumberOfOperations(); position++ ) {
@@ -250,6 +281,157 @@ public class InsertCoordinatorStandard extends AbstractMutationCoordinator imple
 		}
 	}
 
+	/**
+	 * The columns of the table of this entity, in the order of the values of the rows
+	 * produced by {@link #decomposeForBulkInsert}, if the entity can be inserted using
+	 * the given {@link BulkInsertSupport}, or {@code null} if it must be inserted using
+	 * {@link #coordinateInsert}.
+	 * <p>
+	 * Bulk insertion is only possible for entities mapped to a single table, without
+	 * values generated by the database, and without custom SQL or column write
+	 * expressions.
+	 * <p>
+	 * The columns are determined once, since the given {@link BulkInsertSupport} is
+	 * always the one of the {@linkplain Dialect#getBulkInsertSupport() dialect}.
+	 */
+	public @Nullable List<ColumnReference> getBulkInsertColumns(BulkInsertSupport bulkInsertSupport) {
+		BulkInsertColumns columns = bulkInsertColumns;
+		if ( columns == null ) {
+			columns = new BulkInsertColumns( determineBulkInsertColumns( bulkInsertSupport ) );
+			bulkInsertColumns = columns;
+		}
+		return columns.columns;
+	}
+
+	private @Nullable List<ColumnReference> determineBulkInsertColumns(BulkInsertSupport bulkInsertSupport) {
+		if ( staticInsertGroup == null || batchKey == null ) {
+			// dynamic insert, or values generated by the insert
+			return null;
+		}
+		final AttributeMappingsList attributeMappings = entityPersister().getAttributeMappings();
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			if ( isValueGenerated( attributeMappings.get( i ).getGenerator() ) ) {
+				return null;
+			}
+		}
+
+		final MutationGroupBuilder insertGroupBuilder = new MutationGroupBuilder( MutationType.INSERT, entityPersister() );
+		entityPersister().forEachMutableTable(
+				(tableMapping) -> insertGroupBuilder.addTableDetailsBuilder( createTableInsertBuilder( tableMapping, false ) )
+		);
+		applyTableInsertDetails( insertGroupBuilder, entityPersister().getPropertyInsertability(), null, null, false );
+		final MutationGroup mutationGroup = insertGroupBuilder.buildMutationGroup();
+		if ( mutationGroup.getNumberOfTableMutations() != 1
+				|| !( mutationGroup.getSingleTableMutation() instanceof TableInsertStandard ) ) {
+			return null;
+		}
+
+		final TableInsertStandard tableInsert = (TableInsertStandard) mutationGroup.getSingleTableMutation();
+		if ( !tableInsert.getReturningColumns().isEmpty() ) {
+			return null;
+		}
+		final List<ColumnValueBinding> valueBindings = tableInsert.getValueBindings();
+		final List<ColumnReference> columns = new ArrayList<>( valueBindings.size() );
+		for ( ColumnValueBinding valueBinding : valueBindings ) {
+			final ColumnWriteFragment valueExpression = valueBinding.getValueExpression();
+			if ( !"?".equals( valueExpression.getFragment() )
+					|| valueExpression.getParameters().size() != 1
+					|| !bulkInsertSupport.supportsColumn( valueBinding.getColumnReference() ) ) {
+				// a literal (discriminator, soft-delete) or a custom write expression
+				return null;
+			}
+			columns.add( valueBinding.getColumnReference() );
+		}
+		return columns;
+	}
+
+	/**
+	 * Apply any pre-insert in-memory value generation to the given entity, and
+	 * produce the row to insert for it, with values in the order of the given
+	 * {@linkplain #getBulkInsertColumns columns}.
+	 *
+	 * @param id The already generated identifier
+	 * @param values The extracted attribute values
+	 * @param entity The entity instance being inserted
+	 * @param session The originating context
+	 */
+	public Object[] decomposeForBulkInsert(
+			Object id,
+			Object[] values,
+			Object entity,
+			SharedSessionContractImplementor session) {
+		final BulkInsertColumns columns = bulkInsertColumns;
+		assert columns != null && columns.columns != null;
+		preInsertInMemoryValueGeneration( values, entity, session );
+		final BulkInsertRowBindings rowBindings = new BulkInsertRowBindings( columns.positions );
+		decomposeForInsert(
+				rowBindings,
+				id,
+				values,
+				staticInsertGroup,
+				entityPersister().getPropertyInsertability(),
+				tableMapping -> true,
+				session
+		);
+		return rowBindings.row;
+	}
+
+	/**
+	 * The columns of a bulk insert, if any, and the position of each column in the rows.
+	 */
+	private static class BulkInsertColumns {
+		private final @Nullable List<ColumnReference> columns;
+		private final Map<String, Integer> positions;
+
+		private BulkInsertColumns(@Nullable List<ColumnReference> columns) {
+			this.columns = columns;
+			if ( columns == null ) {
+				positions = Map.of();
+			}
+			else {
+				positions = new HashMap<>( columns.size() * 2 );
+				for ( int i = 0; i < columns.size(); i++ ) {
+					positions.put( columns.get( i ).getColumnExpression(), i );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Collects the values bound for a single row of a bulk insert.
+	 */
+	private static class BulkInsertRowBindings implements JdbcValueBindings {
+		private final Map<String, Integer> positions;
+		private final Object[] row;
+
+		private BulkInsertRowBindings(Map<String, Integer> positions) {
+			this.positions = positions;
+			this.row = new Object[positions.size()];
+		}
+
+		@Override
+		public BindingGroup getBindingGroup(String tableName) {
+			return null;
+		}
+
+		@Override
+		public void bindValue(Object value, String tableName, String columnName, ParameterUsage usage) {
+			final Integer position = positions.get( columnName );
+			if ( position == null ) {
+				throw new IllegalArgumentException( "Unexpected column for bulk insert: " + tableName + "." + columnName );
+			}
+			row[position] = value;
+		}
+
+		@Override
+		public void beforeStatement(PreparedStatementDetails statementDetails) {
+		}
+
+		@Override
+		public void afterStatement(TableMapping mutatingTable) {
+		}
+	}
+
 	protected void breakDownJdbcValue(
 			Object id,
 			SharedSessionContractImplementor session,
@@ -7,17 +7,24 @@
 package org.hibernate.proxy.pojo.bytebuddy;
 
 import static org.hibernate.internal.CoreLogging.messageLogger;
+import static org.hibernate.internal.util.io.ChecksumHelper.checksum;
 
 import java.io.Serializable;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.function.Function;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Version;
 import org.hibernate.bytecode.internal.bytebuddy.ByteBuddyState;
 import org.hibernate.engine.spi.PrimeAmongSecondarySupertypes;
 import org.hibernate.internal.CoreMessageLogger;
@@ -28,6 +35,9 @@ import org.hibernate.proxy.ProxyConfiguration;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.TypeCache;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDefinition;
 import net.bytebuddy.description.type.TypeDescription;
@@ -42,6 +52,11 @@ public class ByteBuddyProxyHelper implements Serializable {
 	private static final CoreMessageLogger LOG = messageLogger( ByteBuddyProxyHelper.class );
 	private static final String PROXY_NAMING_SUFFIX = "HibernateProxy";
 
+	// recorded in the proxy classes generated at build time
+	private static final String VERSION_FIELD_NAME = "$$_hibernate_version";
+	private static final String ENTITY_SHAPE_FIELD_NAME = "$$_hibernate_entity_shape";
+	private static final int SHAPE_MODIFIERS = Modifier.PUBLIC | Modifier.PROTECTED | Modifier.FINAL | Modifier.ABSTRACT;
+
 	private final ByteBuddyState byteBuddyState;
 
 	public ByteBuddyProxyHelper(ByteBuddyState byteBuddyState) {
@@ -54,12 +69,102 @@ public class ByteBuddyProxyHelper implements Serializable {
 			final Class<?>[] interfaces) {
 		Set<Class<?>> key = new HashSet<>();
 		if ( interfaces.length == 1 ) {
+			final Class<?> pregeneratedProxy = loadPregeneratedProxy( persistentClass );
+			if ( pregeneratedProxy != null ) {
+				return pregeneratedProxy;
+			}
 			key.add( persistentClass );
 		}
 		Collections.addAll( key, interfaces );
 
 		return byteBuddyState.loadProxy( persistentClass, new TypeCache.SimpleKey( key ),
-				proxyBuilder( TypeDescription.ForLoadedType.of( persistentClass ), new TypeList.Generic.ForLoadedTypes( interfaces ) ) );
+				proxyBuilder( TypeDescription.ForLoadedType.of( persistentClass ), new TypeList.Generic.ForLoadedTypes( interfaces ),
+						randomNaming( persistentClass.getTypeName() ) ) );
+	}
+
+	/**
+	 * The name of the proxy class of the given entity class when it is generated at
+	 * build time, see {@link ProxyClassGenerator}.
+	 */
+	public static String pregeneratedProxyName(String persistentClassName) {
+		return persistentClassName + '$' + PROXY_NAMING_SUFFIX;
+	}
+
+	/**
+	 * Load the proxy class generated at build time for the given entity class, if any,
+	 * and if it was generated by this version of Hibernate from the current version of
+	 * the entity class.
+	 */
+	private static Class<?> loadPregeneratedProxy(Class<?> persistentClass) {
+		final ClassLoader classLoader = persistentClass.getClassLoader();
+		if ( classLoader == null ) {
+			return null;
+		}
+		final Class<?> proxyClass;
+		try {
+			proxyClass = Class.forName( pregeneratedProxyName( persistentClass.getName() ), false, classLoader );
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return null;
+		}
+		if ( proxyClass.getSuperclass() != persistentClass
+				|| !HibernateProxy.class.isAssignableFrom( proxyClass )
+				|| !ProxyConfiguration.class.isAssignableFrom( proxyClass ) ) {
+			LOG.debugf( "Ignoring the class '%s', which is not a proxy of '%s'", proxyClass.getName(), persistentClass.getName() );
+			return null;
+		}
+		if ( !Version.getVersionString().equals( recordedValue( proxyClass, VERSION_FIELD_NAME ) ) ) {
+			LOG.debugf( "Ignoring the proxy class '%s', which was generated by another version of Hibernate", proxyClass.getName() );
+			return null;
+		}
+		if ( !entityShape( TypeDescription.ForLoadedType.of( persistentClass ) )
+				.equals( recordedValue( proxyClass, ENTITY_SHAPE_FIELD_NAME ) ) ) {
+			LOG.debugf( "Ignoring the proxy class '%s', which was generated from another version of '%s'", proxyClass.getName(), persistentClass.getName() );
+			return null;
+		}
+		LOG.debugf( "Using the proxy class generated at build time for '%s'", persistentClass.getName() );
+		return proxyClass;
+	}
+
+	private static String recordedValue(Class<?> proxyClass, String fieldName) {
+		try {
+			final Field field = proxyClass.getDeclaredField( fieldName );
+			return field.getType() == String.class && Modifier.isStatic( field.getModifiers() )
+					? (String) field.get( null )
+					: null;
+		}
+		catch (NoSuchFieldException | IllegalAccessException | LinkageError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * A hash of the methods and constructors which the proxy class of the given entity
+	 * class could override or call, in the entity class and its superclasses.
+	 */
+	static String entityShape(TypeDefinition persistentClass) {
+		final StringBuilder shape = new StringBuilder();
+		for ( TypeDefinition type = persistentClass;
+				type != null && !type.represents( Object.class );
+				type = type.getSuperClass() ) {
+			shape.append( type.asErasure().getName() ).append( '\n' );
+			for ( TypeDescription anInterface : type.getInterfaces().asErasures() ) {
+				shape.append( anInterface.getName() ).append( '\n' );
+			}
+			final List<String> methods = new ArrayList<>();
+			for ( MethodDescription method : type.getDeclaredMethods() ) {
+				if ( !method.isTypeInitializer() && !method.isStatic() && !method.isPrivate() ) {
+					methods.add( ( method.getModifiers() & SHAPE_MODIFIERS ) + " "
+							+ method.getInternalName() + method.getDescriptor() );
+				}
+			}
+			// the order of the methods of a loaded class is unspecified
+			Collections.sort( methods );
+			for ( String method : methods ) {
+				shape.append( method ).append( '\n' );
+			}
+		}
+		return checksum( shape.toString().getBytes( StandardCharsets.UTF_8 ) );
 	}
 
 	/**
@@ -68,7 +173,7 @@ public class ByteBuddyProxyHelper implements Serializable {
 	@Deprecated
 	public DynamicType.Unloaded<?> buildUnloadedProxy(final Class<?> persistentClass, final Class<?>[] interfaces) {
 		return byteBuddyState.make( proxyBuilder( TypeDescription.ForLoadedType.of( persistentClass ),
-				new TypeList.Generic.ForLoadedTypes( interfaces ) ) );
+				new TypeList.Generic.ForLoadedTypes( interfaces ), randomNaming( persistentClass.getTypeName() ) ) );
 	}
 
 	/**
@@ -76,15 +181,41 @@ public class ByteBuddyProxyHelper implements Serializable {
 	 */
 	public DynamicType.Unloaded<?> buildUnloadedProxy(TypePool typePool, TypeDefinition persistentClass,
 			Collection<? extends TypeDefinition> interfaces) {
-		return byteBuddyState.make( typePool, proxyBuilder( persistentClass, interfaces ) );
+		return byteBuddyState.make( typePool, proxyBuilder( persistentClass, interfaces, randomNaming( persistentClass.getTypeName() ) ) );
+	}
+
+	/**
+	 * Build the proxy class of the given entity class with the name expected by
+	 * {@link #buildProxy(Class, Class[])}, for generating it at build time.
+	 * <p>
+	 * The proxy class records the version of Hibernate and the {@linkplain #entityShape shape}
+	 * of the entity class, and is ignored at runtime if either changed.
+	 */
+	public DynamicType.Unloaded<?> buildPregeneratedProxy(TypePool typePool, TypeDefinition persistentClass) {
+		final Function<ByteBuddy, DynamicType.Builder<?>> proxyBuilder = proxyBuilder(
+				persistentClass,
+				Collections.singletonList( TypeDescription.ForLoadedType.of( HibernateProxy.class ) ),
+				new NamingStrategy.Suffixing( PROXY_NAMING_SUFFIX, new NamingStrategy.Suffixing.BaseNameResolver.ForFixedValue( persistentClass.getTypeName() ) )
+		);
+		final String entityShape = entityShape( persistentClass );
+		return byteBuddyState.make( typePool, byteBuddy -> proxyBuilder.apply( byteBuddy )
+				.defineField( VERSION_FIELD_NAME, String.class, Visibility.PUBLIC, Ownership.STATIC, FieldManifestation.FINAL )
+						.value( Version.getVersionString() )
+				.defineField( ENTITY_SHAPE_FIELD_NAME, String.class, Visibility.PUBLIC, Ownership.STATIC, FieldManifestation.FINAL )
+						.value( entityShape )
+		);
+	}
+
+	private static NamingStrategy randomNaming(String persistentClassName) {
+		return new NamingStrategy.SuffixingRandom( PROXY_NAMING_SUFFIX, new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( persistentClassName ) );
 	}
 
 	private Function<ByteBuddy, DynamicType.Builder<?>> proxyBuilder(TypeDefinition persistentClass,
-			Collection<? extends TypeDefinition> interfaces) {
+			Collection<? extends TypeDefinition> interfaces, NamingStrategy namingStrategy) {
 		ByteBuddyState.ProxyDefinitionHelpers helpers = byteBuddyState.getProxyDefinitionHelpers();
 		return byteBuddy -> helpers.appendIgnoreAlsoAtEnd( byteBuddy
 				.ignore( helpers.getGroovyGetMetaClassFilter() )
-				.with( new NamingStrategy.SuffixingRandom( PROXY_NAMING_SUFFIX, new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( persistentClass.getTypeName() ) ) )
+				.with( namingStrategy )
 				.subclass( interfaces.size() == 1 ? persistentClass : TypeDescription.OBJECT, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING )
 				.implement( interfaces )
 				.method( helpers.getVirtualNotFinalizerFilter() )
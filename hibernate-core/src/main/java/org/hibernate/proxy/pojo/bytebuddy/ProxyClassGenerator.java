@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.proxy.pojo.bytebuddy;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.hibernate.Incubating;
+import org.hibernate.bytecode.internal.bytebuddy.ByteBuddyState;
+
+import jakarta.persistence.Entity;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+
+import static net.bytebuddy.matcher.ElementMatchers.isConstructor;
+import static net.bytebuddy.matcher.ElementMatchers.isPrivate;
+import static net.bytebuddy.matcher.ElementMatchers.not;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+/**
+ * Generates the proxy classes of entity classes at build time, which is used by
+ * the Gradle and Maven plugins after bytecode enhancement.
+ * <p>
+ * The proxy class of an entity class {@code Book} is named {@code Book$HibernateProxy},
+ * and {@link ByteBuddyProxyHelper#buildProxy(Class, Class[])} loads it from the class
+ * loader of the entity class instead of generating a proxy class when the
+ * {@code SessionFactory} is built. Entities which are not annotated {@link Entity @Entity},
+ * or which declare a proxy interface, still get their proxy class generated at runtime.
+ * <p>
+ * The proxy class records the version of Hibernate which generated it and a hash of the
+ * methods of the entity class, and a proxy class is generated at runtime instead if either
+ * does not match, for example when the entity class was changed without running the
+ * plugin again.
+ */
+@Incubating
+public class ProxyClassGenerator {
+
+	private final ByteBuddyProxyHelper proxyHelper = new ByteBuddyProxyHelper( new ByteBuddyState() );
+	private final TypePool typePool;
+
+	/**
+	 * @param classLoader a class loader for the (enhanced) entity classes and their dependencies
+	 */
+	public ProxyClassGenerator(ClassLoader classLoader) {
+		this.typePool = TypePool.Default.of( new ClassFileLocator.Compound(
+				ClassFileLocator.ForClassLoader.of( classLoader ),
+				ClassFileLocator.ForClassLoader.of( ProxyClassGenerator.class.getClassLoader() )
+		) );
+	}
+
+	/**
+	 * Generate the proxy class of the named class, if it is an entity class which can be proxied.
+	 *
+	 * @param className the name of the class
+	 * @param outputDirectory the root directory to write the class file of the proxy to
+	 *
+	 * @return {@code true} if the proxy class was written, {@code false} if the class is not proxied
+	 */
+	public boolean generateProxy(String className, File outputDirectory) throws IOException {
+		final TypePool.Resolution resolution = typePool.describe( className );
+		if ( !resolution.isResolved() ) {
+			return false;
+		}
+		final TypeDescription typeDescription = resolution.resolve();
+		if ( !isProxyable( typeDescription ) ) {
+			return false;
+		}
+		proxyHelper.buildPregeneratedProxy( typePool, typeDescription ).saveIn( outputDirectory );
+		return true;
+	}
+
+	private static boolean isProxyable(TypeDescription typeDescription) {
+		return typeDescription.getDeclaredAnnotations().isAnnotationPresent( Entity.class )
+				&& !typeDescription.isInterface()
+				&& !typeDescription.isFinal()
+				&& !typeDescription.getDeclaredMethods()
+						.filter( isConstructor().and( takesArguments( 0 ) ).and( not( isPrivate() ) ) )
+						.isEmpty();
+	}
+}
@@ -11,6 +11,8 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.hibernate.FlushMode;
 import org.hibernate.Incubating;
@@ -77,6 +79,32 @@ public interface MutationQuery extends CommonQueryContract {
 	 */
 	int executeUpdate();
 
+	/**
+	 * Execute the statement asynchronously, using the {@link Executor} configured by
+	 * {@value org.hibernate.cfg.QuerySettings#ASYNC_QUERY_EXECUTOR}, which, by
+	 * default, runs the statement in a new virtual thread on Java 21 and above.
+	 *
+	 * @see #executeUpdateAsync(Executor)
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	CompletionStage<Integer> executeUpdateAsync();
+
+	/**
+	 * Execute the statement asynchronously, using the given {@link Executor}, and
+	 * return a {@link CompletionStage} of the {@linkplain #executeUpdate() number of
+	 * affected entities}.
+	 * <p>
+	 * The statement is executed using the session which created it, which must not
+	 * be used by any other thread until the returned stage completes.
+	 *
+	 * @param executor the executor used to execute the statement
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	CompletionStage<Integer> executeUpdateAsync(Executor executor);
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Covariant returns
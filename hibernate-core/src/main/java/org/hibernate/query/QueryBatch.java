@@ -0,0 +1,49 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+/**
+ * A group of independent {@linkplain SelectionQuery selection queries} which
+ * are executed together, obtained by calling {@link org.hibernate.Session#createQueryBatch()}.
+ * <pre>
+ * List&lt;List&lt;?&gt;&gt; results = session.createQueryBatch()
+ *         .add( session.createSelectionQuery("from Book where isbn = :isbn", Book.class)
+ *                 .setParameter("isbn", isbn) )
+ *         .add( session.createSelectionQuery("from Author order by name", Author.class) )
+ *         .execute();
+ * </pre>
+ * <p>
+ * If the {@linkplain org.hibernate.dialect.Dialect#supportsMultipleResultSetsPerStatement()
+ * database supports multiple result sets} for a single statement, the SQL {@code select}
+ * statements of the queries are sent to the database as one JDBC statement, in a single
+ * round trip. Otherwise, and for any query which cannot be combined with the others, for
+ * example, a query with a timeout or a fetch size, the queries are executed one at a time.
+ *
+ * @since 6.5
+ */
+@Incubating
+public interface QueryBatch {
+	/**
+	 * Add a query to this batch. The query must have been created by the session
+	 * which created this batch.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	QueryBatch add(SelectionQuery<?> query);
+
+	/**
+	 * Execute the queries of this batch.
+	 *
+	 * @return The {@linkplain SelectionQuery#getResultList() result list} of each
+	 *         query, in the order in which the queries were added
+	 */
+	List<List<?>> execute();
+}
@@ -13,6 +13,9 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -166,6 +169,75 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 		return list().stream();
 	}
 
+	/**
+	 * Return a {@link Flow.Publisher} of the query results, which executes
+	 * the query for each subscriber, and reads the results in the thread which
+	 * {@linkplain Flow.Subscription#request requests} them.
+	 *
+	 * @see #getResultPublisher(Executor)
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default Flow.Publisher<R> getResultPublisher() {
+		return getResultPublisher( Runnable::run );
+	}
+
+	/**
+	 * Return a {@link Flow.Publisher} of the query results, which executes
+	 * the query for each subscriber, and reads the results using the given
+	 * {@link Executor}, for example, an executor running each task in a new
+	 * virtual thread.
+	 * <p>
+	 * Results are only read while the subscriber has outstanding demand. If the
+	 * query specifies a {@linkplain #getFetchSize() fetch size}, it is used as
+	 * the JDBC fetch size. Otherwise, the JDBC fetch size follows the demand, up
+	 * to 1000 rows, but never drops below the configured
+	 * {@value org.hibernate.cfg.JdbcSettings#STATEMENT_FETCH_SIZE}, or 32 rows.
+	 * <p>
+	 * The results are read using the session which created this query, which
+	 * must not be used by any other thread until the subscription completes.
+	 *
+	 * @implSpec The default implementation throws {@link UnsupportedOperationException}.
+	 *
+	 * @param executor the executor used to read results
+	 *
+	 * @return The results as a {@link Flow.Publisher}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default Flow.Publisher<R> getResultPublisher(Executor executor) {
+		throw new UnsupportedOperationException( "Result publishers are not supported by " + getClass().getName() );
+	}
+
+	/**
+	 * Execute the query asynchronously, using the {@link Executor} configured by
+	 * {@value org.hibernate.cfg.QuerySettings#ASYNC_QUERY_EXECUTOR}, which, by
+	 * default, runs the query in a new virtual thread on Java 21 and above.
+	 *
+	 * @see #getResultListAsync(Executor)
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	CompletionStage<List<R>> getResultListAsync();
+
+	/**
+	 * Execute the query asynchronously, using the given {@link Executor}, and
+	 * return a {@link CompletionStage} of the {@linkplain #getResultList() result
+	 * list}.
+	 * <p>
+	 * The query is executed using the session which created it, which must not
+	 * be used by any other thread until the returned stage completes.
+	 *
+	 * @param executor the executor used to execute the query
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	CompletionStage<List<R>> getResultListAsync(Executor executor);
+
 	/**
 	 * Execute the query and return the single result of the query,
 	 * or {@code null} if the query returns no results.
@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Support for the asynchronous execution of queries.
+ *
+ * @see org.hibernate.cfg.QuerySettings#ASYNC_QUERY_EXECUTOR
+ */
+public final class AsyncQueryExecution {
+
+	private AsyncQueryExecution() {
+	}
+
+	/**
+	 * Create the default executor, which runs each task in a new virtual thread
+	 * if the JDK supports it, or in a pooled daemon thread otherwise.
+	 */
+	public static ExecutorService createDefaultExecutor() {
+		try {
+			// Executors.newVirtualThreadPerTaskExecutor() is only available on JDK 21+
+			return (ExecutorService) MethodHandles.publicLookup()
+					.findStatic( Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType( ExecutorService.class ) )
+					.invokeExact();
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			final AtomicInteger threadCount = new AtomicInteger();
+			return Executors.newCachedThreadPool( task -> {
+				final Thread thread = new Thread( task, "hibernate-async-query-" + threadCount.incrementAndGet() );
+				thread.setDaemon( true );
+				return thread;
+			} );
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable t) {
+			throw new IllegalStateException( "Unable to create virtual thread executor", t );
+		}
+	}
+}
@@ -6,8 +6,13 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
@@ -27,7 +32,6 @@ import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.named.NamedResultSetMappingMemento;
 import org.hibernate.query.spi.QueryEngine;
-import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.sql.spi.NamedNativeQueryMemento;
 import org.hibernate.query.sqm.UnknownEntityException;
 import org.hibernate.query.sqm.UnknownPathException;
@@ -216,7 +220,12 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 
 	@Override
 	public void validateNamedQueries(QueryEngine queryEngine) {
-		final Map<String, HibernateException> errors = checkNamedQueries( queryEngine );
+		validateNamedQueries( queryEngine, null );
+	}
+
+	@Override
+	public void validateNamedQueries(QueryEngine queryEngine, Executor executor) {
+		final Map<String, HibernateException> errors = checkNamedQueries( queryEngine, executor );
 		if ( !errors.isEmpty() ) {
 			int i = 0;
 			final StringBuilder failingQueries = new StringBuilder( "Errors in named queries: " );
@@ -235,31 +244,37 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 
 	@Override
 	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine) {
-		Map<String,HibernateException> errors = new HashMap<>();
+		return checkNamedQueries( queryEngine, null );
+	}
 
-		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+	@Override
+	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine, Executor executor) {
+		Map<String,HibernateException> errors = new HashMap<>();
 
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", sqmMementoMap.size() );
-		for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
-			final String queryString = hqlMemento.getHqlString();
-			final String registrationName = hqlMemento.getRegistrationName();
-			try {
-				log.debugf( "Checking named HQL query: %s", registrationName );
-				interpretationCache.resolveHqlInterpretation(
-						queryString,
-						null,
-						queryEngine.getHqlTranslator()
-				);
-			}
-			catch ( QueryException e ) {
-				errors.put( registrationName, e );
+		if ( executor == null ) {
+			for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
+				final HibernateException error = checkHqlQuery( hqlMemento, queryEngine );
+				if ( error != null ) {
+					errors.put( hqlMemento.getRegistrationName(), error );
+				}
 			}
-			catch ( PathElementException | TerminalPathException e ) {
-				errors.put( registrationName, new UnknownPathException( e.getMessage(), queryString, e ) );
+		}
+		else {
+			// the interpretation cache is concurrent, and each query gets its own translation
+			final List<NamedSqmQueryMemento> hqlMementos = new ArrayList<>( sqmMementoMap.values() );
+			final List<CompletableFuture<HibernateException>> checks = new ArrayList<>( hqlMementos.size() );
+			for ( NamedSqmQueryMemento hqlMemento : hqlMementos ) {
+				checks.add( CompletableFuture.supplyAsync( () -> checkHqlQuery( hqlMemento, queryEngine ), executor ) );
 			}
-			catch ( EntityTypeException e ) {
-				errors.put( registrationName, new UnknownEntityException( e.getMessage(), e.getReference(), e ) );
+			// unexpected failures are rethrown in the iteration order of the queries,
+			// so that the outcome does not depend on the scheduling
+			for ( int i = 0; i < hqlMementos.size(); i++ ) {
+				final HibernateException error = join( checks.get( i ) );
+				if ( error != null ) {
+					errors.put( hqlMementos.get( i ).getRegistrationName(), error );
+				}
 			}
 		}
 
@@ -302,6 +317,49 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 	}
 
 
+	/**
+	 * Check the given named HQL query, returning the error, if any.
+	 */
+	private static HibernateException checkHqlQuery(NamedSqmQueryMemento hqlMemento, QueryEngine queryEngine) {
+		final String queryString = hqlMemento.getHqlString();
+		final String registrationName = hqlMemento.getRegistrationName();
+		try {
+			log.debugf( "Checking named HQL query: %s", registrationName );
+			queryEngine.getInterpretationCache().resolveHqlInterpretation(
+					queryString,
+					null,
+					queryEngine.getHqlTranslator()
+			);
+			return null;
+		}
+		catch ( QueryException e ) {
+			return e;
+		}
+		catch ( PathElementException | TerminalPathException e ) {
+			return new UnknownPathException( e.getMessage(), queryString, e );
+		}
+		catch ( EntityTypeException e ) {
+			return new UnknownEntityException( e.getMessage(), e.getReference(), e );
+		}
+	}
+
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch ( CompletionException e ) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			else if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Shutdown
 
@@ -0,0 +1,203 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.hibernate.ScrollableResults;
+
+/**
+ * A {@link Flow.Publisher} of the results of a query, read from {@link ScrollableResults}.
+ * <p>
+ * The query is executed for each subscription, when the subscriber first requests
+ * results. Rows are read on the given {@link Executor}, by a task which runs only
+ * while the subscriber has outstanding demand, so that no thread is held while the
+ * subscriber is not ready for more results. Before reading a run of rows, the JDBC
+ * fetch size is adjusted to the outstanding demand, between a minimum and a maximum.
+ * The minimum avoids a database round trip for every few rows when the subscriber
+ * requests results a few at a time.
+ *
+ * @param <R> The query result type
+ */
+public class ScrollableResultsPublisher<R> implements Flow.Publisher<R> {
+	/**
+	 * The largest fetch size derived from subscriber demand, unless the
+	 * query specifies a fetch size
+	 */
+	public static final int DEFAULT_MAX_FETCH_SIZE = 1000;
+
+	/**
+	 * The smallest fetch size derived from subscriber demand, unless the
+	 * query or the configuration specifies a fetch size
+	 */
+	public static final int DEFAULT_MIN_FETCH_SIZE = 32;
+
+	private final Supplier<? extends ScrollableResults<R>> resultsSupplier;
+	private final Executor executor;
+	private final int minFetchSize;
+	private final int maxFetchSize;
+
+	public ScrollableResultsPublisher(
+			Supplier<? extends ScrollableResults<R>> resultsSupplier,
+			Executor executor,
+			int minFetchSize,
+			int maxFetchSize) {
+		this.resultsSupplier = resultsSupplier;
+		this.executor = executor;
+		this.minFetchSize = minFetchSize;
+		this.maxFetchSize = Math.max( minFetchSize, maxFetchSize );
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super R> subscriber) {
+		Objects.requireNonNull( subscriber );
+		final ResultsSubscription subscription = new ResultsSubscription( subscriber );
+		subscriber.onSubscribe( subscription );
+	}
+
+	private class ResultsSubscription implements Flow.Subscription {
+		private final Flow.Subscriber<? super R> subscriber;
+
+		private final AtomicLong demand = new AtomicLong();
+		// the number of requests not yet seen by the reading task
+		private final AtomicInteger pending = new AtomicInteger();
+		private volatile boolean cancelled;
+
+		// only accessed by the reading task, which is serialized by 'pending'
+		private ScrollableResults<R> results;
+		private int fetchSize;
+		private boolean done;
+		private Throwable invalidRequest;
+
+		private ResultsSubscription(Flow.Subscriber<? super R> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if ( n <= 0 ) {
+				invalidRequest = new IllegalArgumentException( "Requested a non-positive number of results: " + n );
+			}
+			else {
+				demand.getAndUpdate( current -> current + n < 0 ? Long.MAX_VALUE : current + n );
+			}
+			schedule();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			schedule();
+		}
+
+		private void schedule() {
+			if ( pending.getAndIncrement() == 0 ) {
+				try {
+					executor.execute( this::read );
+				}
+				catch (RuntimeException e) {
+					pending.set( 0 );
+					terminate();
+					subscriber.onError( e );
+				}
+			}
+		}
+
+		private void read() {
+			int missed = 1;
+			do {
+				if ( done ) {
+					return;
+				}
+				if ( cancelled ) {
+					terminate();
+					return;
+				}
+				if ( invalidRequest != null ) {
+					terminate();
+					subscriber.onError( invalidRequest );
+					return;
+				}
+
+				final long requested = demand.get();
+				long emitted = 0;
+				if ( requested > 0 ) {
+					try {
+						if ( results == null ) {
+							results = resultsSupplier.get();
+						}
+						adjustFetchSize( requested );
+					}
+					catch (RuntimeException e) {
+						terminate();
+						subscriber.onError( e );
+						return;
+					}
+				}
+				while ( emitted < requested ) {
+					if ( cancelled ) {
+						terminate();
+						return;
+					}
+					final R result;
+					try {
+						if ( !results.next() ) {
+							terminate();
+							subscriber.onComplete();
+							return;
+						}
+						result = results.get();
+					}
+					catch (RuntimeException e) {
+						terminate();
+						subscriber.onError( e );
+						return;
+					}
+					try {
+						subscriber.onNext( result );
+					}
+					catch (RuntimeException e) {
+						// the subscriber broke the contract, so consider the
+						// subscription cancelled, and release the JDBC resources
+						cancelled = true;
+						terminate();
+						return;
+					}
+					emitted++;
+				}
+				if ( emitted > 0 && requested != Long.MAX_VALUE ) {
+					demand.addAndGet( -emitted );
+				}
+
+				missed = pending.addAndGet( -missed );
+			}
+			while ( missed != 0 );
+		}
+
+		private void adjustFetchSize(long requested) {
+			// only raised above the minimum for larger demand
+			final int newFetchSize = (int) Math.max( minFetchSize, Math.min( requested, maxFetchSize ) );
+			if ( newFetchSize != fetchSize ) {
+				results.setFetchSize( newFetchSize );
+				fetchSize = newFetchSize;
+			}
+		}
+
+		private void terminate() {
+			done = true;
+			if ( results != null ) {
+				results.close();
+				results = null;
+			}
+		}
+	}
+}
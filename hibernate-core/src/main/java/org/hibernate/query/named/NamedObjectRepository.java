@@ -7,6 +7,7 @@
 package org.hibernate.query.named;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
@@ -71,11 +72,33 @@ public interface NamedObjectRepository {
 	 */
 	Map<String, HibernateException> checkNamedQueries(QueryEngine queryPlanCache);
 
+	/**
+	 * Perform a validity check on all named queries, checking the HQL queries
+	 * concurrently using the given {@link Executor}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine, Executor executor) {
+		return checkNamedQueries( queryEngine );
+	}
+
 	/**
 	 * Validate the named queries and throw an exception if any are broken
 	 */
 	void validateNamedQueries(QueryEngine queryEngine);
 
+	/**
+	 * Validate the named queries, checking the HQL queries concurrently using
+	 * the given {@link Executor}, and throw an exception if any are broken
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default void validateNamedQueries(QueryEngine queryEngine, Executor executor) {
+		validateNamedQueries( queryEngine );
+	}
+
 	/**
 	 * Resolve the named query with the given name.
 	 */
@@ -14,6 +14,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -107,6 +108,15 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		return session;
 	}
 
+	/**
+	 * The executor used to execute this query asynchronously, when none is given.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#ASYNC_QUERY_EXECUTOR
+	 */
+	protected Executor getAsyncQueryExecutor() {
+		return session.getFactory().getFastSessionServices().getAsyncQueryExecutor();
+	}
+
 	protected int getIntegerLiteral(JpaExpression<Number> expression, int defaultValue) {
 		if ( expression == null ) {
 			return defaultValue;
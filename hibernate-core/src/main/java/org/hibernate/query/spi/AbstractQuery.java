@@ -15,6 +15,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -663,6 +666,16 @@ public abstract class AbstractQuery<R>
 
 	protected abstract int doExecuteUpdate();
 
+	@Override
+	public CompletionStage<Integer> executeUpdateAsync() {
+		return executeUpdateAsync( getAsyncQueryExecutor() );
+	}
+
+	@Override
+	public CompletionStage<Integer> executeUpdateAsync(Executor executor) {
+		return CompletableFuture.supplyAsync( this::executeUpdate, executor );
+	}
+
 
 
 	@Override
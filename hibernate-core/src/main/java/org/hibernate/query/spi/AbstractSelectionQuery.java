@@ -16,6 +16,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -54,6 +58,7 @@ import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.JpaSelection;
 import org.hibernate.query.internal.ScrollableResultsIterator;
+import org.hibernate.query.internal.ScrollableResultsPublisher;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.sqm.SqmExpressible;
 import org.hibernate.query.sqm.SqmPathSource;
@@ -544,6 +549,41 @@ public abstract class AbstractSelectionQuery<R>
 		return (Stream) stream.onClose( scrollableResults::close );
 	}
 
+	@Override
+	public Flow.Publisher<R> getResultPublisher(Executor executor) {
+		final Integer fetchSize = getFetchSize();
+		if ( fetchSize != null && fetchSize > 0 ) {
+			// the fetch size of the query is never overridden
+			return new ScrollableResultsPublisher<>(
+					() -> scroll( ScrollMode.FORWARD_ONLY ),
+					executor,
+					fetchSize,
+					fetchSize
+			);
+		}
+		else {
+			final Integer jdbcFetchSize = getSession().getFactory().getSessionFactoryOptions().getJdbcFetchSize();
+			return new ScrollableResultsPublisher<>(
+					() -> scroll( ScrollMode.FORWARD_ONLY ),
+					executor,
+					jdbcFetchSize == null || jdbcFetchSize <= 0
+							? ScrollableResultsPublisher.DEFAULT_MIN_FETCH_SIZE
+							: jdbcFetchSize,
+					ScrollableResultsPublisher.DEFAULT_MAX_FETCH_SIZE
+			);
+		}
+	}
+
+	@Override
+	public CompletionStage<List<R>> getResultListAsync() {
+		return getResultListAsync( getAsyncQueryExecutor() );
+	}
+
+	@Override
+	public CompletionStage<List<R>> getResultListAsync(Executor executor) {
+		return CompletableFuture.supplyAsync( this::getResultList, executor );
+	}
+
 	@Override
 	public R uniqueResult() {
 		return uniqueElement( list() );
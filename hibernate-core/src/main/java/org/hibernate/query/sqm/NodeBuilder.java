@@ -675,6 +675,21 @@ public interface NodeBuilder extends HibernateCriteriaBuilder {
 	@Override
 	<T> SqmExpression<T> literal(T value);
 
+	/**
+	 * Create an expression for the given value, either a literal or a parameter,
+	 * according to the {@linkplain org.hibernate.query.criteria.ValueHandlingMode
+	 * value handling mode}, with its type inferred from the given expression.
+	 * <p>
+	 * By default, the type is inferred from the value itself, as with
+	 * {@link #value(Object)}.
+	 *
+	 * @since 6.5
+	 */
+	@SuppressWarnings("unchecked")
+	default <T> SqmExpression<T> value(T value, SqmExpression<? extends T> typeInferenceSource) {
+		return (SqmExpression<T>) value( value );
+	}
+
 	@Override
 	<T> List<? extends SqmExpression<T>> literals(T[] values);
 
@@ -31,6 +31,7 @@ import java.util.List;
 
 import static java.util.stream.Collectors.toList;
 import static org.hibernate.cfg.QuerySettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
+import static org.hibernate.internal.util.collections.CollectionHelper.isEmpty;
 import static org.hibernate.query.KeyedPage.KeyInterpretation.KEY_OF_FIRST_ON_NEXT_PAGE;
 import static org.hibernate.query.sqm.internal.KeyBasedPagination.paginate;
 import static org.hibernate.query.sqm.internal.KeyedResult.collectKeys;
@@ -195,6 +196,41 @@ abstract class AbstractSqmSelectionQuery<R> extends AbstractSelectionQuery<R> {
 
 	public abstract Class<R> getExpectedResultType();
 
+	protected abstract SelectQueryPlan<R> resolveSelectQueryPlan();
+
+	/**
+	 * Prepare this query for execution as part of a {@link org.hibernate.query.QueryBatch}.
+	 *
+	 * @return the prepared SQL select, or {@code null} if this query must be executed on
+	 *         its own, because it needs statement options, session settings other than the
+	 *         settings of the batch, or post-processing of its results
+	 */
+	public SqmBatchedSelect<R> prepareBatchedSelect() {
+		final SqmStatement<R> sqmStatement = getSqmStatement();
+		final MutableQueryOptions options = getQueryOptions();
+		if ( !( sqmStatement instanceof SqmSelectStatement )
+				|| ( (SqmSelectStatement<R>) sqmStatement ).containsCollectionFetches()
+				|| hasAppliedGraph( options )
+				|| options.getFlushMode() != null
+				|| options.getCacheRetrieveMode() != null
+				|| options.getCacheStoreMode() != null
+				|| options.isResultCachingEnabled() == Boolean.TRUE
+				|| options.getTimeout() != null
+				|| options.getFetchSize() != null
+				|| !options.getLockOptions().isEmpty()
+				|| !isEmpty( options.getEnabledFetchProfiles() )
+				|| !isEmpty( options.getDisabledFetchProfiles() ) ) {
+			return null;
+		}
+		final SelectQueryPlan<R> queryPlan = resolveSelectQueryPlan();
+		if ( !( queryPlan instanceof ConcreteSqmSelectQueryPlan ) ) {
+			return null;
+		}
+		getQueryParameterBindings().validate();
+		prepareForExecution();
+		return ( (ConcreteSqmSelectQueryPlan<R>) queryPlan ).prepareBatchedSelect( this );
+	}
+
 	protected SelectQueryPlan<R> buildSelectQueryPlan() {
 		final SqmSelectStatement<R> statement = (SqmSelectStatement<R>) getSqmStatement();
 		final SqmSelectStatement<R>[] concreteSqmStatements = QuerySplitter.split( statement );
@@ -23,6 +23,7 @@ import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.Query;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
@@ -36,6 +37,7 @@ import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
@@ -73,6 +75,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmInterpreter<Object, ResultsConsumer<?, R>> executeQueryInterpreter;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
+	private final SqmInterpreter<SqmBatchedSelect<R>, Void> batchedSelectInterpreter;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
 
@@ -176,6 +179,41 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			}
 		};
 
+		this.batchedSelectInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
+			final SharedSessionContractImplementor session = executionContext.getSession();
+			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
+			try {
+				final SqmJdbcExecutionContextAdapter jdbcExecutionContext = listInterpreterExecutionContext(
+						hql,
+						executionContext,
+						jdbcSelect,
+						SubselectFetch.createRegistrationHandler(
+								session.getPersistenceContext().getBatchFetchQueue(),
+								sqmInterpretation.selectStatement,
+								JdbcParametersList.empty(),
+								jdbcParameterBindings
+						)
+				);
+				final Limit limit = jdbcExecutionContext.getQueryOptions().getLimit();
+				if ( jdbcSelect.getRowsToSkip() != 0
+						|| jdbcSelect.getMaxRows() != Integer.MAX_VALUE
+						|| !jdbcSelect.usesLimitParameters() && limit != null && !limit.isEmpty() ) {
+					// the limit is applied to the statement, or by skipping rows
+					return null;
+				}
+				return new SqmBatchedSelect<>(
+						jdbcSelect,
+						jdbcParameterBindings,
+						jdbcExecutionContext,
+						rowTransformer,
+						uniqueSemantic
+				);
+			}
+			finally {
+				domainParameterXref.clearExpansions();
+			}
+		};
+
 		// todo (6.0) : we should do as much of the building as we can here
 		//  	since this is the thing cached, all the work we do here will
 		//  	be cached as well.
@@ -301,6 +339,22 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return withCacheableSqmInterpretation( executionContext, null, listInterpreter );
 	}
 
+	/**
+	 * Prepare the SQL select of this plan for execution as part of a
+	 * {@link org.hibernate.query.QueryBatch}.
+	 *
+	 * @return the prepared select, or {@code null} if the query must be
+	 *         executed on its own
+	 */
+	public SqmBatchedSelect<R> prepareBatchedSelect(DomainQueryExecutionContext executionContext) {
+		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0
+				|| !( executionContext.getSession().getJdbcServices().getJdbcSelectExecutor()
+						instanceof JdbcSelectExecutorStandardImpl ) ) {
+			return null;
+		}
+		return withCacheableSqmInterpretation( executionContext, null, batchedSelectInterpreter );
+	}
+
 	@Override
 	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
 		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
@@ -15,6 +15,8 @@ import org.hibernate.query.criteria.JpaCompoundSelection;
 import org.hibernate.query.criteria.JpaSelection;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
 import org.hibernate.query.sqm.tree.from.SqmFrom;
 import org.hibernate.query.sqm.tree.from.SqmRoot;
 import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
@@ -73,6 +75,11 @@ public class KeyBasedPagination {
 		for ( Order<? super R> key : keyDefinition ) {
 			keyPaths.add( root.get( key.getAttributeName() ) );
 		}
+		if ( keyPaths.size() > 1 && hasUniformDirection( keyDefinition ) ) {
+			// a single row value comparison, which the SQL translator
+			// emulates when the database does not support it
+			return tupleKeyPredicate( keyPaths, keyValues, keyDefinition.get(0).getDirection(), builder );
+		}
 		SqmPredicate restriction = null;
 		for (int i = 0; i < keyDefinition.size(); i++ ) {
 			// ordering by an attribute of the returned entity
@@ -83,9 +90,49 @@ public class KeyBasedPagination {
 			final SqmPredicate predicate = keyPredicate( key, keyValue, direction, previousKeys, keyValues, builder );
 			restriction = restriction == null ? predicate : builder.or( restriction, predicate );
 		}
+		if ( keyPaths.size() > 1 ) {
+			// a redundant restriction on the leading key, so that
+			// an index on the key columns may be used to seek the page
+			final SqmPath leadingKey = keyPaths.get(0);
+			final Comparable leadingKeyValue = keyValues.get(0);
+			final SqmPredicate seek = keyDefinition.get(0).getDirection() == SortDirection.ASCENDING
+					? builder.greaterThanOrEqualTo( leadingKey, leadingKeyValue )
+					: builder.lessThanOrEqualTo( leadingKey, leadingKeyValue );
+			restriction = builder.and( seek, restriction );
+		}
 		return restriction;
 	}
 
+	private static <R> boolean hasUniformDirection(List<Order<? super R>> keyDefinition) {
+		final SortDirection direction = keyDefinition.get(0).getDirection();
+		for ( Order<? super R> key : keyDefinition ) {
+			if ( key.getDirection() != direction ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static SqmPredicate tupleKeyPredicate(
+			List<SqmPath<?>> keyPaths, List<Comparable<?>> keyValues, SortDirection direction,
+			NodeBuilder builder) {
+		final List<SqmExpression<?>> values = new ArrayList<>( keyPaths.size() );
+		for ( int i = 0; i < keyPaths.size(); i++ ) {
+			values.add( builder.value( (Object) keyValues.get(i), (SqmExpression) keyPaths.get(i) ) );
+		}
+		final SqmTuple keyTuple = builder.tuple( (Class) null, keyPaths );
+		final SqmTuple valueTuple = builder.tuple( (Class) null, values );
+		switch ( direction ) {
+			case ASCENDING:
+				return builder.greaterThan( keyTuple, valueTuple );
+			case DESCENDING:
+				return builder.lessThan( keyTuple, valueTuple );
+			default:
+				throw new AssertionFailure("Unrecognized key direction");
+		}
+	}
+
 	private static <R> JpaCompoundSelection<KeyedResult<R>> keySelection(
 			List<Order<? super R>> keyDefinition,
 			SqmFrom<?, ?> root, JpaSelection<?> selected,
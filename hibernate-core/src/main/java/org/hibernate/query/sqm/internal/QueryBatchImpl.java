@@ -0,0 +1,205 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.query.QueryBatch;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.spi.AbstractCommonQueryContract;
+import org.hibernate.sql.results.jdbc.internal.DirectResultSetAccess;
+
+/**
+ * Standard implementation of {@link QueryBatch}.
+ * <p>
+ * Each query which {@linkplain AbstractSqmSelectionQuery#prepareBatchedSelect can be batched}
+ * is translated to its {@link org.hibernate.sql.exec.spi.JdbcOperationQuerySelect} and
+ * parameter bindings, the SQL of these selects is executed as a single JDBC statement, and
+ * the results of each query are then read from the next result set of that statement by the
+ * JDBC select executor. Any other query is executed on its own, as usual.
+ */
+public class QueryBatchImpl implements QueryBatch {
+	private static final String STATEMENT_SEPARATOR = ";\n";
+
+	private final SharedSessionContractImplementor session;
+	private final List<SelectionQuery<?>> queries = new ArrayList<>();
+
+	public QueryBatchImpl(SharedSessionContractImplementor session) {
+		this.session = session;
+	}
+
+	@Override
+	public QueryBatch add(SelectionQuery<?> query) {
+		if ( query instanceof AbstractCommonQueryContract
+				&& ( (AbstractCommonQueryContract) query ).getSession() != session ) {
+			throw new IllegalArgumentException( "Query was not created by the session which created the batch" );
+		}
+		queries.add( query );
+		return this;
+	}
+
+	@Override
+	public List<List<?>> execute() {
+		session.checkOpen();
+		final int size = queries.size();
+		final List<?>[] results = new List<?>[size];
+		if ( size < 2 || !session.getJdbcServices().getDialect().supportsMultipleResultSetsPerStatement() ) {
+			for ( int i = 0; i < size; i++ ) {
+				results[i] = queries.get( i ).getResultList();
+			}
+			return Arrays.asList( results );
+		}
+
+		session.prepareForQueryExecution( false );
+		final SqmBatchedSelect<?>[] selects = new SqmBatchedSelect<?>[size];
+		int batchedCount = 0;
+		for ( int i = 0; i < size; i++ ) {
+			final SelectionQuery<?> query = queries.get( i );
+			if ( query instanceof AbstractSqmSelectionQuery ) {
+				selects[i] = ( (AbstractSqmSelectionQuery<?>) query ).prepareBatchedSelect();
+			}
+			if ( selects[i] == null ) {
+				results[i] = query.getResultList();
+			}
+			else {
+				batchedCount++;
+			}
+		}
+
+		if ( batchedCount < 2 ) {
+			// nothing to gain
+			for ( int i = 0; i < size; i++ ) {
+				if ( selects[i] != null ) {
+					results[i] = queries.get( i ).getResultList();
+				}
+			}
+			return Arrays.asList( results );
+		}
+
+		boolean success = false;
+		try {
+			executeBatched( selects, results );
+			success = true;
+		}
+		catch (HibernateException e) {
+			throw session.getExceptionConverter().convert( e );
+		}
+		finally {
+			if ( !session.isTransactionInProgress() ) {
+				session.getJdbcCoordinator().getLogicalConnection().afterTransaction();
+			}
+			session.afterOperation( success );
+		}
+		return Arrays.asList( results );
+	}
+
+	private void executeBatched(SqmBatchedSelect<?>[] selects, List<?>[] results) {
+		final Set<String> affectedTableNames = new HashSet<>();
+		final StringBuilder sql = new StringBuilder();
+		for ( SqmBatchedSelect<?> select : selects ) {
+			if ( select != null ) {
+				affectedTableNames.addAll( select.getAffectedTableNames() );
+				if ( sql.length() > 0 ) {
+					sql.append( STATEMENT_SEPARATOR );
+				}
+				sql.append( select.getSql() );
+			}
+		}
+		session.autoFlushIfRequired( affectedTableNames );
+
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final PreparedStatement statement = executeStatement( sql.toString(), selects );
+		try {
+			boolean first = true;
+			for ( int i = 0; i < selects.length; i++ ) {
+				if ( selects[i] != null ) {
+					final ResultSet resultSet = nextResultSet( statement, first );
+					first = false;
+					results[i] = selects[i].list( new DirectResultSetAccess( session, statement, resultSet ) );
+				}
+			}
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private PreparedStatement executeStatement(String sql, SqmBatchedSelect<?>[] selects) {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final PreparedStatement statement =
+				jdbcCoordinator.getStatementPreparer().prepareQueryStatement( sql, false, null );
+		try {
+			int position = 1;
+			for ( SqmBatchedSelect<?> select : selects ) {
+				if ( select != null ) {
+					position = select.bindParameters( statement, position );
+				}
+			}
+
+			final SqlStatementLogger sqlStatementLogger = session.getJdbcServices().getSqlStatementLogger();
+			final long executeStartNanos = sqlStatementLogger.getLogSlowQuery() > 0 ? System.nanoTime() : 0;
+			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+			final EventManager eventManager = session.getEventManager();
+			final HibernateMonitoringEvent executionEvent = eventManager.beginJdbcPreparedStatementExecutionEvent();
+			try {
+				eventListenerManager.jdbcExecuteStatementStart();
+				statement.execute();
+			}
+			finally {
+				eventManager.completeJdbcPreparedStatementExecutionEvent( executionEvent, sql );
+				eventListenerManager.jdbcExecuteStatementEnd();
+				sqlStatementLogger.logSlowQuery( sql, executeStartNanos, session.getJdbcSessionContext() );
+			}
+			return statement;
+		}
+		catch (SQLException e) {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"JDBC exception executing SQL [" + sql + "]"
+			);
+		}
+		catch (RuntimeException e) {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+			throw e;
+		}
+	}
+
+	private ResultSet nextResultSet(PreparedStatement statement, boolean first) {
+		try {
+			// skip any update counts
+			boolean isResultSet = first ? statement.getResultSet() != null : statement.getMoreResults();
+			while ( !isResultSet && statement.getUpdateCount() != -1 ) {
+				isResultSet = statement.getMoreResults();
+			}
+			if ( !isResultSet ) {
+				throw new IllegalStateException( "Query batch returned fewer result sets than queries" );
+			}
+			return statement.getResultSet();
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert( e, "Unable to access query batch result set" );
+		}
+	}
+}
@@ -613,7 +613,8 @@ public class QuerySqmImpl<R>
 				: super.isQueryPlanCacheable();
 	}
 
-	private SelectQueryPlan<R> resolveSelectQueryPlan() {
+	@Override
+	protected SelectQueryPlan<R> resolveSelectQueryPlan() {
 		final QueryInterpretationCache.Key cacheKey = createInterpretationsKey( this );
 		if ( cacheKey != null ) {
 			return getSession().getFactory().getQueryEngine().getInterpretationCache()
@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.results.jdbc.internal.ResultSetAccess;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+/**
+ * The SQL select of a selection query, with its parameter bindings, prepared for
+ * execution as part of a {@link org.hibernate.query.QueryBatch}: the SQL of several
+ * such selects is executed as one JDBC statement, and the results of each select are
+ * then read from its own result set of that statement.
+ *
+ * @see ConcreteSqmSelectQueryPlan#prepareBatchedSelect
+ */
+public class SqmBatchedSelect<R> {
+	private final JdbcOperationQuerySelect jdbcSelect;
+	private final JdbcParameterBindings jdbcParameterBindings;
+	private final ExecutionContext executionContext;
+	private final RowTransformer<R> rowTransformer;
+	private final ListResultsConsumer.UniqueSemantic uniqueSemantic;
+	private final String sql;
+
+	SqmBatchedSelect(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			ListResultsConsumer.UniqueSemantic uniqueSemantic) {
+		this.jdbcSelect = jdbcSelect;
+		this.jdbcParameterBindings = jdbcParameterBindings;
+		this.executionContext = executionContext;
+		this.rowTransformer = rowTransformer;
+		this.uniqueSemantic = uniqueSemantic;
+		this.sql = executionContext.getSession().getJdbcServices().getDialect().addSqlHintOrComment(
+				jdbcSelect.getSqlString(),
+				executionContext.getQueryOptions(),
+				executionContext.getSession().getFactory().getSessionFactoryOptions().isCommentsEnabled()
+		);
+	}
+
+	/**
+	 * The SQL of the select, including any comment or hint.
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	public Set<String> getAffectedTableNames() {
+		return jdbcSelect.getAffectedTableNames();
+	}
+
+	/**
+	 * Bind the parameter values of the select, starting at the given position.
+	 *
+	 * @return the position following the last bound parameter
+	 */
+	public int bindParameters(PreparedStatement statement, int startPosition) throws SQLException {
+		int position = startPosition;
+		for ( JdbcParameterBinder parameterBinder : jdbcSelect.getParameterBinders() ) {
+			parameterBinder.bindParameterValue( statement, position++, jdbcParameterBindings, executionContext );
+		}
+		return position;
+	}
+
+	/**
+	 * Read the results of the select from the given result set.
+	 */
+	public List<R> list(ResultSetAccess resultSetAccess) {
+		return JdbcSelectExecutorStandardImpl.INSTANCE.executeQuery(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				rowTransformer,
+				null,
+				resultSetAccess,
+				ListResultsConsumer.instance( uniqueSemantic )
+		);
+	}
+}
@@ -1805,6 +1805,7 @@ public class SqmCriteriaNodeBuilder implements NodeBuilder, SqmCreationContext,
 	/**
 	 * Creates an expression for the value with the given "type inference" information
 	 */
+	@Override
 	public <T> SqmExpression<T> value(T value, SqmExpression<? extends T> typeInferenceSource) {
 		if ( value instanceof SqmExpression<?> ) {
 			//noinspection unchecked
@@ -305,7 +305,7 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 				statement.containsCollectionFetches();
 		final boolean hasLimit = hasLimit( statement, getQueryOptions() );
 		final boolean needsDistinct = needsDistinct( containsCollectionFetches, hasLimit, statement );
-		final List<R> list = resolveQueryPlan()
+		final List<R> list = resolveSelectQueryPlan()
 				.performList( executionContext( hasLimit, containsCollectionFetches ) );
 		return needsDistinct ? handleDistinct( hasLimit, statement, list ) : list;
 	}
@@ -358,12 +358,12 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 
 	@Override
 	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
-		return resolveQueryPlan().performScroll( scrollMode, this );
+		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
 
 	@Override
 	public <T> T executeQuery(ResultsConsumer<T, R> resultsConsumer) {
-		return resolveQueryPlan().executeQuery( this, resultsConsumer );
+		return resolveSelectQueryPlan().executeQuery( this, resultsConsumer );
 	}
 
 	@Override
@@ -374,7 +374,8 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Query plan
 
-	private SelectQueryPlan<R> resolveQueryPlan() {
+	@Override
+	protected SelectQueryPlan<R> resolveSelectQueryPlan() {
 		final QueryInterpretationCache.Key cacheKey = createInterpretationsKey( this );
 		if ( cacheKey != null ) {
 			return getSessionFactory().getQueryEngine().getInterpretationCache()
@@ -13,6 +13,9 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
@@ -121,6 +124,26 @@ public abstract class DelegatingSqmSelectionQueryImplementor<R> implements SqmSe
 		return getDelegate().getResultStream();
 	}
 
+	@Override
+	public Flow.Publisher<R> getResultPublisher() {
+		return getDelegate().getResultPublisher();
+	}
+
+	@Override
+	public Flow.Publisher<R> getResultPublisher(Executor executor) {
+		return getDelegate().getResultPublisher( executor );
+	}
+
+	@Override
+	public CompletionStage<List<R>> getResultListAsync() {
+		return getDelegate().getResultListAsync();
+	}
+
+	@Override
+	public CompletionStage<List<R>> getResultListAsync(Executor executor) {
+		return getDelegate().getResultListAsync( executor );
+	}
+
 	@Override
 	public Stream<R> stream() {
 		return getDelegate().stream();
@@ -71,6 +71,32 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			Class<R> domainResultType,
 			Function<String, PreparedStatement> statementCreator,
 			ResultsConsumer<T, R> resultsConsumer) {
+		return executeQuery(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				rowTransformer,
+				domainResultType,
+				new DeferredResultSetAccess( jdbcSelect, jdbcParameterBindings, executionContext, statementCreator ),
+				resultsConsumer
+		);
+	}
+
+	/**
+	 * Execute the given select, reading its results from the given {@link ResultSetAccess}
+	 * instead of executing its SQL, for example, from one of the result sets of a statement
+	 * executing several selects.
+	 *
+	 * @since 6.5
+	 */
+	public <T, R> T executeQuery(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ResultSetAccess resultSetAccess,
+			ResultsConsumer<T, R> resultsConsumer) {
 		final PersistenceContext persistenceContext = executionContext.getSession().getPersistenceContext();
 		boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
 		Boolean readOnly = executionContext.getQueryOptions().isReadOnly();
@@ -86,7 +112,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					executionContext,
 					rowTransformer,
 					domainResultType,
-					statementCreator,
+					resultSetAccess,
 					resultsConsumer
 			);
 		}
@@ -103,21 +129,26 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer,
 			Class<R> domainResultType,
-			Function<String, PreparedStatement> statementCreator,
+			ResultSetAccess resultSetAccess,
 			ResultsConsumer<T, R> resultsConsumer) {
 
-		final DeferredResultSetAccess deferredResultSetAccess = new DeferredResultSetAccess(
-				jdbcSelect,
-				jdbcParameterBindings,
-				executionContext,
-				statementCreator
-		);
+		final String sql;
+		final boolean usesFollowOnLocking;
+		if ( resultSetAccess instanceof DeferredResultSetAccess ) {
+			final DeferredResultSetAccess deferredResultSetAccess = (DeferredResultSetAccess) resultSetAccess;
+			sql = deferredResultSetAccess.getFinalSql();
+			usesFollowOnLocking = deferredResultSetAccess.usesFollowOnLocking();
+		}
+		else {
+			sql = jdbcSelect.getSqlString();
+			usesFollowOnLocking = false;
+		}
 		final JdbcValues jdbcValues = resolveJdbcValuesSource(
-				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
+				executionContext.getQueryIdentifier( sql ),
 				jdbcSelect,
 				resultsConsumer.canResultsBeCached(),
 				executionContext,
-				deferredResultSetAccess
+				resultSetAccess
 		);
 
 		if ( rowTransformer == null ) {
@@ -191,7 +222,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				// because these lock options are only for Initializers.
 				// If we wouldn't omit this, the follow-on lock requests would be no-ops,
 				// because the EntityEntrys would already have the desired lock mode
-				deferredResultSetAccess.usesFollowOnLocking()
+				usesFollowOnLocking
 						? LockOptions.NONE
 						: executionContext.getQueryOptions().getLockOptions(),
 				rowTransformer,
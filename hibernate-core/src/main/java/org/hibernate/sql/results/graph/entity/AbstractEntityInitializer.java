@@ -108,6 +108,14 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 
 	private boolean shallowCached;
 
+	// the entity of the previous row, which is usually repeated
+	// for each element of a join fetched collection; only tracked
+	// when all rows are consumed at once, i.e. not when scrolling
+	private boolean trackPreviousEntity;
+	private EntityKey previousEntityKey;
+	private Object previousEntityInstance;
+	private Object previousEntityInstanceForNotify;
+
 	// per-row state
 	private EntityPersister concreteDescriptor;
 	private EntityKey entityKey;
@@ -307,6 +315,9 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 
 	@Override
 	public void startLoading(RowProcessingState rowProcessingState) {
+		// the session may be cleared between two rows of a scroll
+		trackPreviousEntity = !rowProcessingState.isScrollResult();
+		clearPreviousEntity();
 		if ( rowProcessingState.isQueryCacheHit() && entityDescriptor.useShallowQueryCacheLayout() && !isParentShallowCached() ) {
 			shallowCached = true;
 			// Inform sub-initializers if this is a query cache hit for a shallow entry
@@ -437,7 +448,15 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 
 	@Override
 	public void resolveInstance(RowProcessingState rowProcessingState) {
-		if ( state == State.KEY_RESOLVED ) {
+		if ( state == State.KEY_RESOLVED && isPreviousEntity( rowProcessingState ) ) {
+			// The same entity was already resolved and initialized by this initializer
+			// for the previous row, so skip claiming its holder and initializing it
+			entityInstance = previousEntityInstance;
+			entityInstanceForNotify = previousEntityInstanceForNotify;
+			state = State.INITIALIZED;
+			notifyResolutionListeners( entityInstanceForNotify );
+		}
+		else if ( state == State.KEY_RESOLVED ) {
 			// Note that entities are always resolved to be initialized,
 			// even if a parent fetch parent access is "missing".
 			// We loaded the data already, so let's put it into the persistence context,
@@ -482,6 +501,37 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 		}
 	}
 
+	/**
+	 * Whether the entity of the current row is the one which was initialized
+	 * for the previous row, and which may hence be reused as is.
+	 * <p>
+	 * The persistence context is still consulted, with a single lookup by
+	 * {@link EntityKey}, to make sure the previous instance is still managed.
+	 * What is skipped is the claim of the {@link EntityHolder}, and the checks
+	 * which decide whether the instance must be initialized from the row, such
+	 * as {@link #skipInitialization}.
+	 */
+	private boolean isPreviousEntity(RowProcessingState rowProcessingState) {
+		return previousEntityKey != null
+				&& !shallowCached
+				// when populating the query cache, the state of every row must be read
+				&& ( rowProcessingState.isQueryCacheHit()
+						|| rowProcessingState.getQueryOptions().isResultCachingEnabled() != Boolean.TRUE )
+				// an entity being refreshed is always initialized from the row
+				&& rowProcessingState.getJdbcValuesSourceProcessingState().getProcessingOptions()
+						.getEffectiveOptionalObject() == null
+				&& previousEntityKey.equals( entityKey )
+				// the instance must still be managed by the persistence context
+				&& rowProcessingState.getSession().getPersistenceContextInternal()
+						.getEntity( entityKey ) == previousEntityInstanceForNotify;
+	}
+
+	private void clearPreviousEntity() {
+		previousEntityKey = null;
+		previousEntityInstance = null;
+		previousEntityInstanceForNotify = null;
+	}
+
 	protected void resolveEntityInstance(
 			RowProcessingState rowProcessingState,
 			EntityHolder holder,
@@ -1157,6 +1207,15 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 			);
 		}
 
+		if ( trackPreviousEntity && state == State.INITIALIZED && entityInstanceForNotify != null ) {
+			previousEntityKey = entityKey;
+			previousEntityInstance = entityInstance;
+			previousEntityInstanceForNotify = entityInstanceForNotify;
+		}
+		else {
+			clearPreviousEntity();
+		}
+
 		// reset row state
 		isOwningInitializer = false;
 		concreteDescriptor = null;
@@ -1173,6 +1232,8 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 	public void endLoading(ExecutionContext executionContext) {
 		super.endLoading( executionContext );
 		shallowCached = false;
+		trackPreviousEntity = false;
+		clearPreviousEntity();
 	}
 
 	protected enum State {
@@ -6,31 +6,151 @@
  */
 package org.hibernate.sql.results.graph.instantiation.internal;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 
+import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.query.sqm.sql.internal.InstantiationException;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.type.descriptor.java.JavaType;
 
+import static org.hibernate.internal.CoreLogging.messageLogger;
+
 /**
+ * Instantiates the result using a {@link MethodHandle} which reads each argument
+ * and passes it straight to the constructor, without an intermediate argument array.
+ * Falls back to reflective instantiation if such a handle cannot be created.
+ *
  * @author Steve Ebersole
  */
 public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainResultAssembler<R> {
+	private static final CoreMessageLogger LOG = messageLogger( DynamicInstantiationAssemblerConstructorImpl.class );
+
+	// the limit on the number of arguments of a method handle, accounting for the three arguments of each reader
+	private static final int MAX_INSTANTIATOR_ARGUMENTS = 85;
+
+	private static final MethodHandle ASSEMBLE;
+	private static final MethodHandle READER;
+	private static final MethodHandle INSTANTIATION_FAILED;
+
+	static {
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+		try {
+			ASSEMBLE = lookup.findVirtual(
+					DomainResultAssembler.class,
+					"assemble",
+					MethodType.methodType( Object.class, RowProcessingState.class, JdbcValuesSourceProcessingOptions.class )
+			);
+			READER = MethodHandles.arrayElementGetter( DomainResultAssembler[].class );
+			INSTANTIATION_FAILED = lookup.findStatic(
+					DynamicInstantiationAssemblerConstructorImpl.class,
+					"instantiationFailed",
+					MethodType.methodType( Object.class, Class.class, Exception.class )
+			);
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new AssertionError( e );
+		}
+	}
+
 	private final Constructor<R> targetConstructor;
 	private final JavaType<R> resultType;
 	private final List<ArgumentReader<?>> argumentReaders;
+	private final DomainResultAssembler<?>[] readers;
+	// (DomainResultAssembler[], RowProcessingState, JdbcValuesSourceProcessingOptions) -> Object
+	private final MethodHandle instantiator;
 
 	public DynamicInstantiationAssemblerConstructorImpl(
 			Constructor<R> targetConstructor,
 			JavaType<R> resultType,
 			List<ArgumentReader<?>> argumentReaders) {
+		this( targetConstructor, resultType, argumentReaders, createInstantiator( targetConstructor ) );
+	}
+
+	/**
+	 * @param instantiator the {@linkplain #createInstantiator instantiator} of the
+	 *                     constructor, shared by every assembler for the same result,
+	 *                     or {@code null} for reflective instantiation
+	 */
+	public DynamicInstantiationAssemblerConstructorImpl(
+			Constructor<R> targetConstructor,
+			JavaType<R> resultType,
+			List<ArgumentReader<?>> argumentReaders,
+			MethodHandle instantiator) {
 		this.targetConstructor = targetConstructor;
 		this.resultType = resultType;
 		this.argumentReaders = argumentReaders;
+		this.readers = argumentReaders.toArray( new DomainResultAssembler<?>[0] );
+		this.instantiator = instantiator;
+	}
+
+	/**
+	 * Create a handle which reads each argument of the given constructor using the
+	 * reader at the same position in the array it takes, and passes it straight to
+	 * the constructor. The handle does not depend on the readers, so it is created
+	 * once, and shared by every assembler instantiating the same result.
+	 *
+	 * @return the handle, or {@code null} if none can be created
+	 */
+	static MethodHandle createInstantiator(Constructor<?> targetConstructor) {
+		final int numberOfArgs = targetConstructor.getParameterCount();
+		if ( targetConstructor.isVarArgs() || numberOfArgs > MAX_INSTANTIATOR_ARGUMENTS ) {
+			return null;
+		}
+		try {
+			MethodHandle instantiator = MethodHandles.lookup().unreflectConstructor( targetConstructor )
+					.asType( MethodType.genericMethodType( numberOfArgs ) );
+			// exceptions thrown by the constructor itself are reported as instantiation failures
+			instantiator = MethodHandles.catchException(
+					instantiator,
+					Exception.class,
+					MethodHandles.dropArguments(
+							INSTANTIATION_FAILED.bindTo( targetConstructor.getDeclaringClass() ),
+							1,
+							instantiator.type().parameterList()
+					)
+			);
+			// replace each argument with a call to the reader at the same position
+			// in the array of readers, taking the array and the two assemble() arguments
+			for ( int i = numberOfArgs - 1; i >= 0; i-- ) {
+				instantiator = MethodHandles.collectArguments(
+						instantiator,
+						i,
+						MethodHandles.filterArguments( ASSEMBLE, 0, MethodHandles.insertArguments( READER, 1, i ) )
+				);
+			}
+			// and pass the same three arguments to every reader
+			final int[] reorder = new int[ numberOfArgs * 3 ];
+			for ( int i = 0; i < numberOfArgs; i++ ) {
+				reorder[i * 3] = 0;
+				reorder[i * 3 + 1] = 1;
+				reorder[i * 3 + 2] = 2;
+			}
+			return MethodHandles.permuteArguments(
+					instantiator,
+					MethodType.methodType(
+							Object.class,
+							DomainResultAssembler[].class,
+							RowProcessingState.class,
+							JdbcValuesSourceProcessingOptions.class
+					),
+					reorder
+			);
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			LOG.debugf( e, "Unable to create instantiator for constructor %s", targetConstructor );
+			return null;
+		}
+	}
+
+	private static Object instantiationFailed(Class<?> type, Exception cause) {
+		throw new InstantiationException( "Error instantiating class '" + type.getName() + "'", cause );
 	}
 
 	@Override
@@ -39,7 +159,21 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public R assemble(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
+		if ( instantiator != null ) {
+			try {
+				return (R) instantiator.invokeExact( readers, rowProcessingState, options );
+			}
+			catch (RuntimeException | Error e) {
+				throw e;
+			}
+			catch (Throwable e) {
+				// checked exceptions are only ever thrown by the constructor, and handled by the instantiator
+				throw new AssertionError( e );
+			}
+		}
+
 		final int numberOfArgs = argumentReaders.size();
 		Object[] args = new Object[ numberOfArgs ];
 		for ( int i = 0; i < numberOfArgs; i++ ) {
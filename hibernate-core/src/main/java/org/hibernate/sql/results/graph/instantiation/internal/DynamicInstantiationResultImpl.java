@@ -6,12 +6,14 @@
  */
 package org.hibernate.sql.results.graph.instantiation.internal;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.hibernate.internal.util.StringHelper;
@@ -40,6 +42,10 @@ public class DynamicInstantiationResultImpl<R> implements DynamicInstantiationRe
 	private final JavaType<R> javaType;
 	private final List<ArgumentDomainResult<?>> argumentResults;
 
+	// the instantiator of the constructor, shared by the assemblers created
+	// for every execution, if it was created and could be
+	private volatile Optional<MethodHandle> instantiator;
+
 	public DynamicInstantiationResultImpl(
 			String resultVariable,
 			DynamicInstantiationNature nature,
@@ -154,6 +160,21 @@ public class DynamicInstantiationResultImpl<R> implements DynamicInstantiationRe
 		}
 	}
 
+	/**
+	 * The arguments types are the same for every execution, so the same
+	 * constructor is found every time
+	 */
+	private MethodHandle instantiator(Constructor<R> constructor) {
+		Optional<MethodHandle> instantiator = this.instantiator;
+		if ( instantiator == null ) {
+			instantiator = Optional.ofNullable(
+					DynamicInstantiationAssemblerConstructorImpl.createInstantiator( constructor )
+			);
+			this.instantiator = instantiator;
+		}
+		return instantiator.orElse( null );
+	}
+
 	private DomainResultAssembler<R> assembler(
 			boolean areAllArgumentsAliased,
 			List<String> duplicatedAliases,
@@ -173,7 +194,12 @@ public class DynamicInstantiationResultImpl<R> implements DynamicInstantiationRe
 				constructor.setAccessible( true );
 				@SuppressWarnings("unchecked")
 				final Constructor<R> construct = (Constructor<R>) constructor;
-				return new DynamicInstantiationAssemblerConstructorImpl<>( construct, javaType, argumentReaders );
+				return new DynamicInstantiationAssemblerConstructorImpl<>(
+						construct,
+						javaType,
+						argumentReaders,
+						instantiator( construct )
+				);
 			}
 		}
 
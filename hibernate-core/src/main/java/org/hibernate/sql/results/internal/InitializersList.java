@@ -98,6 +98,18 @@ public final class InitializersList {
 		}
 	}
 
+	Initializer[] getInitializers() {
+		return initializers;
+	}
+
+	Initializer[] getSortedNonCollectionsFirst() {
+		return sortedNonCollectionsFirst;
+	}
+
+	Initializer[] getSortedForResolveInstance() {
+		return sortedForResolveInstance;
+	}
+
 	public boolean hasCollectionInitializers() {
 		return this.hasCollectionInitializers;
 	}
@@ -175,6 +175,19 @@ public class ResultsHelper {
 
 		final InitializersList initializersList = initializersBuilder.build( initializerMap );
 
+		final RowReaderGenerator rowReaderGenerator = sessionFactory.getFastSessionServices().rowReaderGenerator;
+		if ( rowReaderGenerator != null ) {
+			final RowReader<R> rowReader = rowReaderGenerator.generateRowReader(
+					assemblers,
+					initializersList,
+					rowTransformer,
+					transformedResultJavaType
+			);
+			if ( rowReader != null ) {
+				return rowReader;
+			}
+		}
+
 		return new StandardRowReader<>( assemblers, initializersList, rowTransformer, transformedResultJavaType );
 	}
 
@@ -0,0 +1,355 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.bytecode.internal.bytebuddy.ByteBuddyState;
+import org.hibernate.sql.results.ResultsLogger;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.RowReader;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.collection.ArrayAccess;
+import net.bytebuddy.implementation.bytecode.collection.ArrayFactory;
+import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.implementation.bytecode.member.FieldAccess;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+/**
+ * Generates, and caches, a {@link SpecializedRowReader} subclass for each distinct
+ * <em>shape</em> of query result: the concrete classes of the assemblers, of the
+ * initializers in each of the orders they are called in, and of the row transformer.
+ * <p>
+ * The generated readers take the same shortcuts as {@link StandardRowReader}: a single
+ * result which the row transformer would unwrap is returned without a row array, and
+ * the row array is reused when the row transformer never keeps it.
+ * <p>
+ * Row readers are created for each execution of a query, so that the classes are
+ * generated the first time a shape is read, and instantiated for every later
+ * execution. At most {@value #MAX_GENERATED_CLASSES} classes are generated, after
+ * which new shapes are read by a {@link StandardRowReader}, as are the shapes for
+ * which generation failed.
+ * <p>
+ * Shapes with too many initializers or assemblers are also read by a
+ * {@link StandardRowReader}, since the JIT compiler does not compile methods larger
+ * than {@value #HUGE_METHOD_LIMIT} bytes of bytecode, and the unrolled method would
+ * then be interpreted.
+ *
+ * @see org.hibernate.cfg.QuerySettings#SPECIALIZED_ROW_READERS
+ */
+public class RowReaderGenerator {
+	private static final int MAX_GENERATED_CLASSES = 1024;
+
+	// the default value of -XX:HugeMethodLimit
+	private static final int HUGE_METHOD_LIMIT = 8000;
+	// the upper bound of the size of the code for one call to an initializer or assembler,
+	// including the load of the array holding it and the store of the assembled value
+	private static final int MAX_CALL_SITE_SIZE = 24;
+	private static final int MAX_CALL_SITES = HUGE_METHOD_LIMIT / MAX_CALL_SITE_SIZE;
+
+	private static final String ROW_READER_NAMING_SUFFIX = "HibernateRowReader";
+
+	private static final Method RESOLVE_KEY;
+	private static final Method RESOLVE_INSTANCE;
+	private static final Method INITIALIZE_INSTANCE;
+	private static final Method FINISH_UP_ROW;
+	private static final Method ASSEMBLE;
+	private static final Method TRANSFORM_ROW;
+
+	private static final Field ASSEMBLERS;
+	private static final Field RESOLVE_KEY_INITIALIZERS;
+	private static final Field RESOLVE_INSTANCE_INITIALIZERS;
+	private static final Field ROW_INITIALIZERS;
+	private static final Field ROW_TRANSFORMER;
+	private static final Field REUSABLE_ROW;
+
+	static {
+		try {
+			RESOLVE_KEY = Initializer.class.getMethod( "resolveKey", RowProcessingState.class );
+			RESOLVE_INSTANCE = Initializer.class.getMethod( "resolveInstance", RowProcessingState.class );
+			INITIALIZE_INSTANCE = Initializer.class.getMethod( "initializeInstance", RowProcessingState.class );
+			FINISH_UP_ROW = Initializer.class.getMethod( "finishUpRow", RowProcessingState.class );
+			ASSEMBLE = DomainResultAssembler.class.getMethod(
+					"assemble",
+					RowProcessingState.class,
+					JdbcValuesSourceProcessingOptions.class
+			);
+			TRANSFORM_ROW = RowTransformer.class.getMethod( "transformRow", Object[].class );
+
+			ASSEMBLERS = SpecializedRowReader.class.getDeclaredField( "assemblers" );
+			RESOLVE_KEY_INITIALIZERS = SpecializedRowReader.class.getDeclaredField( "resolveKeyInitializers" );
+			RESOLVE_INSTANCE_INITIALIZERS = SpecializedRowReader.class.getDeclaredField( "resolveInstanceInitializers" );
+			ROW_INITIALIZERS = SpecializedRowReader.class.getDeclaredField( "rowInitializers" );
+			ROW_TRANSFORMER = SpecializedRowReader.class.getDeclaredField( "rowTransformer" );
+			REUSABLE_ROW = StandardRowReader.class.getDeclaredField( "reusableRow" );
+		}
+		catch (NoSuchMethodException | NoSuchFieldException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	// stands in for the shapes which are read by a StandardRowReader
+	private static final Constructor<?> NOT_GENERATED = SpecializedRowReader.class.getConstructors()[0];
+
+	private final ByteBuddyState byteBuddyState = new ByteBuddyState();
+	private final ConcurrentHashMap<List<Object>, Constructor<?>> constructors = new ConcurrentHashMap<>();
+	private final AtomicBoolean limitReached = new AtomicBoolean();
+
+	/**
+	 * A row reader specialized for the given assemblers, initializers, and transformer,
+	 * or {@code null} if no specialized reader is available for them.
+	 */
+	public <R> @Nullable RowReader<R> generateRowReader(
+			List<DomainResultAssembler<?>> assemblers,
+			InitializersList initializers,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultJavaType) {
+		if ( callSites( assemblers.size(), initializers.getInitializers().length ) > MAX_CALL_SITES ) {
+			return null;
+		}
+		final boolean singleResult = StandardRowReader.unwrapsSingleResult( assemblers.size(), rowTransformer );
+		final boolean reusableRow = rowTransformer.isRowArrayReusable();
+		final List<Object> shape = shape( assemblers, initializers, rowTransformer, singleResult, reusableRow );
+		Constructor<?> constructor = constructors.get( shape );
+		if ( constructor == null ) {
+			if ( constructors.size() >= MAX_GENERATED_CLASSES ) {
+				if ( limitReached.compareAndSet( false, true ) ) {
+					ResultsLogger.RESULTS_LOGGER.infof(
+							"Generated %s specialized row readers, further result shapes are read by the standard row reader",
+							MAX_GENERATED_CLASSES
+					);
+				}
+				return null;
+			}
+			constructor = constructors.computeIfAbsent(
+					shape,
+					key -> generate( assemblers.size(), initializers.getInitializers().length, singleResult, reusableRow )
+			);
+		}
+		if ( constructor == NOT_GENERATED ) {
+			return null;
+		}
+
+		try {
+			//noinspection unchecked
+			return (RowReader<R>) constructor.newInstance(
+					assemblers,
+					initializers,
+					rowTransformer,
+					domainResultJavaType
+			);
+		}
+		catch (ReflectiveOperationException e) {
+			ResultsLogger.RESULTS_LOGGER.warnf( e, "Unable to instantiate specialized row reader %s, using the standard row reader", constructor );
+			return null;
+		}
+	}
+
+	/**
+	 * The number of calls in the unrolled {@code readRow()}: four per initializer,
+	 * and one per assembler
+	 */
+	private static int callSites(int assemblerCount, int initializerCount) {
+		return initializerCount * 4 + assemblerCount;
+	}
+
+	private static List<Object> shape(
+			List<DomainResultAssembler<?>> assemblers,
+			InitializersList initializers,
+			RowTransformer<?> rowTransformer,
+			boolean singleResult,
+			boolean reusableRow) {
+		final Initializer[] rowInitializers = initializers.getInitializers();
+		final List<Object> shape = new ArrayList<>( 5 + assemblers.size() + rowInitializers.length * 3 );
+		shape.add( rowTransformer.getClass() );
+		shape.add( singleResult );
+		shape.add( reusableRow );
+		shape.add( assemblers.size() );
+		for ( int i = 0; i < assemblers.size(); i++ ) {
+			shape.add( assemblers.get( i ).getClass() );
+		}
+		shape.add( rowInitializers.length );
+		addClasses( shape, rowInitializers );
+		addClasses( shape, initializers.getSortedNonCollectionsFirst() );
+		addClasses( shape, initializers.getSortedForResolveInstance() );
+		return shape;
+	}
+
+	private static void addClasses(List<Object> shape, Initializer[] initializers) {
+		for ( Initializer initializer : initializers ) {
+			shape.add( initializer.getClass() );
+		}
+	}
+
+	private Constructor<?> generate(int assemblerCount, int initializerCount, boolean singleResult, boolean reusableRow) {
+		try {
+			final Class<?> rowReaderClass = byteBuddyState.load( SpecializedRowReader.class, byteBuddy -> byteBuddy
+					.with( new NamingStrategy.SuffixingRandom(
+							ROW_READER_NAMING_SUFFIX,
+							new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue(
+									SpecializedRowReader.class.getName()
+							)
+					) )
+					.subclass( SpecializedRowReader.class, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING )
+					.method( named( "readRow" ) )
+					.intercept( new Implementation.Simple( new ReadRow( assemblerCount, initializerCount, singleResult, reusableRow ) ) )
+			);
+			return rowReaderClass.getConstructor( NOT_GENERATED.getParameterTypes() );
+		}
+		catch (RuntimeException | LinkageError | NoSuchMethodException e) {
+			ResultsLogger.RESULTS_LOGGER.warnf( e, "Unable to generate a specialized row reader, using the standard row reader" );
+			return NOT_GENERATED;
+		}
+	}
+
+	/**
+	 * The unrolled equivalent of {@link StandardRowReader#readRow}.
+	 */
+	private static class ReadRow implements ByteCodeAppender {
+		private static final int ROW_VARIABLE = 3;
+
+		private final int assemblerCount;
+		private final int initializerCount;
+		private final boolean singleResult;
+		private final boolean reusableRow;
+
+		private ReadRow(int assemblerCount, int initializerCount, boolean singleResult, boolean reusableRow) {
+			this.assemblerCount = assemblerCount;
+			this.initializerCount = initializerCount;
+			this.singleResult = singleResult;
+			this.reusableRow = reusableRow;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			final List<StackManipulation> code = new ArrayList<>();
+
+			for ( int i = 0; i < initializerCount; i++ ) {
+				code.add( callInitializer( RESOLVE_KEY_INITIALIZERS, i, RESOLVE_KEY ) );
+			}
+			for ( int i = 0; i < initializerCount; i++ ) {
+				code.add( callInitializer( RESOLVE_INSTANCE_INITIALIZERS, i, RESOLVE_INSTANCE ) );
+			}
+			for ( int i = 0; i < initializerCount; i++ ) {
+				code.add( callInitializer( ROW_INITIALIZERS, i, INITIALIZE_INSTANCE ) );
+			}
+
+			if ( singleResult ) {
+				// the local variable holds the result itself, which is returned as is
+				code.add( assemble( 0 ) );
+				code.add( MethodVariableAccess.REFERENCE.storeAt( ROW_VARIABLE ) );
+				finishUpRow( code );
+				code.add( MethodVariableAccess.REFERENCE.loadFrom( ROW_VARIABLE ) );
+				code.add( MethodReturn.REFERENCE );
+				return size( code, methodVisitor, implementationContext, instrumentedMethod );
+			}
+
+			if ( reusableRow ) {
+				for ( int i = 0; i < assemblerCount; i++ ) {
+					code.add( loadReusableRow() );
+					code.add( IntegerConstant.forValue( i ) );
+					code.add( assemble( i ) );
+					code.add( ArrayAccess.REFERENCE.store() );
+				}
+				code.add( loadReusableRow() );
+			}
+			else {
+				final List<StackManipulation> values = new ArrayList<>( assemblerCount );
+				for ( int i = 0; i < assemblerCount; i++ ) {
+					values.add( assemble( i ) );
+				}
+				code.add( ArrayFactory.forType( TypeDescription.Generic.OBJECT ).withValues( values ) );
+			}
+			code.add( MethodVariableAccess.REFERENCE.storeAt( ROW_VARIABLE ) );
+
+			finishUpRow( code );
+
+			code.add( MethodVariableAccess.loadThis() );
+			code.add( FieldAccess.forField( new FieldDescription.ForLoadedField( ROW_TRANSFORMER ) ).read() );
+			code.add( MethodVariableAccess.REFERENCE.loadFrom( ROW_VARIABLE ) );
+			code.add( MethodInvocation.invoke( new MethodDescription.ForLoadedMethod( TRANSFORM_ROW ) ) );
+			code.add( MethodReturn.REFERENCE );
+			return size( code, methodVisitor, implementationContext, instrumentedMethod );
+		}
+
+		private void finishUpRow(List<StackManipulation> code) {
+			for ( int i = 0; i < initializerCount; i++ ) {
+				code.add( callInitializer( ROW_INITIALIZERS, i, FINISH_UP_ROW ) );
+			}
+		}
+
+		private static Size size(
+				List<StackManipulation> code,
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			final StackManipulation.Size size = new StackManipulation.Compound( code )
+					.apply( methodVisitor, implementationContext );
+			return new Size( size.getMaximalSize(), instrumentedMethod.getStackSize() + 1 );
+		}
+
+		private static StackManipulation assemble(int index) {
+			return new StackManipulation.Compound(
+					element( ASSEMBLERS, index ),
+					MethodVariableAccess.REFERENCE.loadFrom( 1 ),
+					MethodVariableAccess.REFERENCE.loadFrom( 2 ),
+					MethodInvocation.invoke( new MethodDescription.ForLoadedMethod( ASSEMBLE ) )
+			);
+		}
+
+		private static StackManipulation loadReusableRow() {
+			return new StackManipulation.Compound(
+					MethodVariableAccess.loadThis(),
+					FieldAccess.forField( new FieldDescription.ForLoadedField( REUSABLE_ROW ) ).read()
+			);
+		}
+
+		private static StackManipulation callInitializer(Field initializers, int index, Method method) {
+			return new StackManipulation.Compound(
+					element( initializers, index ),
+					MethodVariableAccess.REFERENCE.loadFrom( 1 ),
+					MethodInvocation.invoke( new MethodDescription.ForLoadedMethod( method ) )
+			);
+		}
+
+		private static StackManipulation element(Field array, int index) {
+			return new StackManipulation.Compound(
+					MethodVariableAccess.loadThis(),
+					FieldAccess.forField( new FieldDescription.ForLoadedField( array ) ).read(),
+					IntegerConstant.forValue( index ),
+					ArrayAccess.REFERENCE.load()
+			);
+		}
+	}
+}
@@ -56,4 +56,9 @@ public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
 	}
+
+	@Override
+	public boolean isRowArrayReusable() {
+		return true;
+	}
 }
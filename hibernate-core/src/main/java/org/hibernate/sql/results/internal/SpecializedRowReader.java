@@ -0,0 +1,48 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import java.util.List;
+
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+/**
+ * Base class of the row readers generated by {@link RowReaderGenerator}.
+ * <p>
+ * A generated subclass implements {@link #readRow} without any loop: it calls each
+ * initializer and assembler of the result shape it was generated for through its
+ * own call site, which stays monomorphic however many queries the application runs.
+ *
+ * @see org.hibernate.cfg.QuerySettings#SPECIALIZED_ROW_READERS
+ */
+public abstract class SpecializedRowReader<T> extends StandardRowReader<T> {
+	protected final DomainResultAssembler<?>[] assemblers;
+	protected final Initializer[] resolveKeyInitializers;
+	protected final Initializer[] resolveInstanceInitializers;
+	protected final Initializer[] rowInitializers;
+	protected final RowTransformer<T> rowTransformer;
+
+	public SpecializedRowReader(
+			List<DomainResultAssembler<?>> resultAssemblers,
+			InitializersList initializers,
+			RowTransformer<T> rowTransformer,
+			Class<T> domainResultJavaType) {
+		super( resultAssemblers, initializers, rowTransformer, domainResultJavaType );
+		this.assemblers = resultAssemblers.toArray( new DomainResultAssembler<?>[0] );
+		this.resolveKeyInitializers = initializers.getSortedNonCollectionsFirst();
+		this.resolveInstanceInitializers = initializers.getSortedForResolveInstance();
+		this.rowInitializers = initializers.getInitializers();
+		this.rowTransformer = rowTransformer;
+	}
+
+	@Override
+	public abstract T readRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options);
+}
@@ -33,6 +33,10 @@ public class StandardRowReader<T> implements RowReader<T> {
 	private final Class<T> domainResultJavaType;
 
 	private final int assemblerCount;
+	// the assembler of the single result, when the row transformer simply unwraps it
+	protected final DomainResultAssembler<?> singleResultAssembler;
+	// the array reused for every row, when the row transformer never keeps it
+	protected final Object[] reusableRow;
 
 	public StandardRowReader(
 			List<DomainResultAssembler<?>> resultAssemblers,
@@ -44,6 +48,20 @@ public class StandardRowReader<T> implements RowReader<T> {
 		this.rowTransformer = rowTransformer;
 		this.assemblerCount = resultAssemblers.size();
 		this.domainResultJavaType = domainResultJavaType;
+		this.singleResultAssembler = unwrapsSingleResult( assemblerCount, rowTransformer )
+				? resultAssemblers.get( 0 )
+				: null;
+		this.reusableRow = rowTransformer.isRowArrayReusable() ? new Object[assemblerCount] : null;
+	}
+
+	/**
+	 * Whether the row transformer simply unwraps the single result of each row, so
+	 * that no row array is needed.
+	 */
+	static boolean unwrapsSingleResult(int assemblerCount, RowTransformer<?> rowTransformer) {
+		return assemblerCount == 1
+				&& ( rowTransformer instanceof RowTransformerStandardImpl
+					|| rowTransformer instanceof RowTransformerSingularReturnImpl );
 	}
 
 	@Override
@@ -85,7 +103,15 @@ public class StandardRowReader<T> implements RowReader<T> {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#readRow" );
 		coordinateInitializers( rowProcessingState );
 
-		final Object[] resultRow = new Object[ assemblerCount ];
+		if ( singleResultAssembler != null ) {
+			// no need for a row array which the transformer would immediately unwrap
+			//noinspection unchecked
+			final T result = (T) singleResultAssembler.assemble( rowProcessingState, options );
+			afterRow( rowProcessingState );
+			return result;
+		}
+
+		final Object[] resultRow = reusableRow == null ? new Object[ assemblerCount ] : reusableRow;
 
 		for ( int i = 0; i < assemblerCount; i++ ) {
 			final DomainResultAssembler assembler = resultAssemblers.get( i );
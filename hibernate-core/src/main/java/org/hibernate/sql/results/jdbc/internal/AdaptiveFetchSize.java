@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.util.Map;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+/**
+ * Chooses the JDBC fetch size of a SQL query from the number of rows returned
+ * by its previous executions, smoothed so that a single unusually small or
+ * large result does not swing the fetch size of the next execution.
+ *
+ * @see org.hibernate.cfg.JdbcSettings#ADAPTIVE_FETCH_SIZE
+ */
+public class AdaptiveFetchSize {
+	public static final int DEFAULT_MAX_FETCH_SIZE = 1000;
+	public static final int DEFAULT_MAX_FETCH_VALUES = 100_000;
+
+	private static final int MAX_TRACKED_QUERIES = 2048;
+	private static final double SMOOTHING_FACTOR = 0.25;
+
+	private final int maxFetchSize;
+	private final int maxFetchValues;
+	private final Map<String, Observation> observations;
+
+	public AdaptiveFetchSize(int maxFetchSize, int maxFetchValues) {
+		this.maxFetchSize = Math.max( 1, maxFetchSize );
+		this.maxFetchValues = Math.max( 1, maxFetchValues );
+		this.observations = new BoundedConcurrentHashMap<>(
+				MAX_TRACKED_QUERIES,
+				20,
+				BoundedConcurrentHashMap.Eviction.LIRS
+		);
+	}
+
+	/**
+	 * The fetch size to use for the given SQL query, or {@code null}
+	 * if it was never fully read.
+	 */
+	public Integer getFetchSize(String sql) {
+		final Observation observation = observations.get( sql );
+		return observation == null ? null : observation.fetchSize;
+	}
+
+	/**
+	 * Record that all rows of the given SQL query were read.
+	 *
+	 * @param rowCount The number of rows returned by the query
+	 * @param columnCount The number of columns of the result set
+	 */
+	public void rowsRead(String sql, int rowCount, int columnCount) {
+		final Observation previous = observations.get( sql );
+		final double smoothedRowCount = previous == null
+				? rowCount
+				: previous.rowCount + SMOOTHING_FACTOR * ( rowCount - previous.rowCount );
+		// one more than the row count lets the driver detect
+		// the end of the results without another round trip
+		final int fetchSize = (int) Math.max(
+				1,
+				Math.min(
+						Math.min( (long) Math.ceil( smoothedRowCount ), maxFetchSize - 1 ) + 1,
+						maxFetchValues / Math.max( 1, columnCount )
+				)
+		);
+		if ( previous == null || previous.rowCount != smoothedRowCount ) {
+			observations.put( sql, new Observation( smoothedRowCount, fetchSize ) );
+		}
+	}
+
+	private static class Observation {
+		private final double rowCount;
+		private final int fetchSize;
+
+		private Observation(double rowCount, int fetchSize) {
+			this.rowCount = rowCount;
+			this.fetchSize = fetchSize;
+		}
+	}
+}
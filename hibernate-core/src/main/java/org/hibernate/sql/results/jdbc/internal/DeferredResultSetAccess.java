@@ -52,6 +52,7 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 	private final Limit limit;
 	private final LimitHandler limitHandler;
 	private final boolean usesFollowOnLocking;
+	private final AdaptiveFetchSize adaptiveFetchSize;
 
 	private PreparedStatement preparedStatement;
 	private ResultSet resultSet;
@@ -133,6 +134,11 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 					executionContext.getSession().getFactory().getSessionFactoryOptions().isCommentsEnabled()
 			);
 		}
+
+		// an explicit fetch size always wins
+		adaptiveFetchSize = queryOptions == null || queryOptions.getFetchSize() == null
+				? executionContext.getSession().getFactory().getFastSessionServices().adaptiveFetchSize
+				: null;
 	}
 
 	private static boolean useFollowOnLocking(
@@ -194,6 +200,13 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 				preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
 			}
 		}
+		if ( adaptiveFetchSize != null ) {
+			final Integer fetchSize = adaptiveFetchSize.getFetchSize( finalSql );
+			// never go below the default fetch size of the driver
+			if ( fetchSize != null && fetchSize > preparedStatement.getFetchSize() ) {
+				preparedStatement.setFetchSize( fetchSize );
+			}
+		}
 
 		// bind parameters
 		// 		todo : validate that all query parameters were bound?
@@ -221,6 +234,18 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		}
 	}
 
+	/**
+	 * Called after all rows of the result set were read, to adapt the fetch
+	 * size of later executions of the query.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#ADAPTIVE_FETCH_SIZE
+	 */
+	public void afterLastRow(int rowCount, int columnCount) {
+		if ( adaptiveFetchSize != null ) {
+			adaptiveFetchSize.rowsRead( finalSql, rowCount, columnCount );
+		}
+	}
+
 	private void executeQuery() {
 		final LogicalConnectionImplementor logicalConnection = getPersistenceContext().getJdbcCoordinator().getLogicalConnection();
 
@@ -51,6 +51,10 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	// represents the inverted index of the single value to cache
 	private final int rowToCacheSize;
 
+	// the number of rows read by next(), and whether it reached the end of the results
+	private int rowCount;
+	private boolean exhausted;
+
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
 			QueryKey queryCacheKey,
@@ -264,7 +268,14 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	private boolean advanceNext() {
 		try {
-			return resultSetAccess.getResultSet().next();
+			if ( resultSetAccess.getResultSet().next() ) {
+				rowCount++;
+				return true;
+			}
+			else {
+				exhausted = true;
+				return false;
+			}
 		}
 		catch (SQLException e) {
 			throw makeExecutionException( "Error advancing (next) ResultSet position", e );
@@ -331,6 +342,9 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		if ( queryCachePutManager != null ) {
 			queryCachePutManager.finishUp( session );
 		}
+		if ( exhausted && resultSetAccess instanceof DeferredResultSetAccess ) {
+			( (DeferredResultSetAccess) resultSetAccess ).afterLastRow( rowCount, sqlSelections.length );
+		}
 		resultSetAccess.release();
 	}
 
@@ -71,6 +71,10 @@ public interface JdbcValues {
 	 *
 	 * @return The current row's JDBC values, or {@code null} if the position
 	 * is beyond the end of the available results.
+	 *
+	 * @implNote Values of numeric columns are boxed. Every assembler returns
+	 * its value as an object, to be placed in a result or an entity, so that
+	 * an accessor for primitive values would only move the boxing elsewhere.
 	 */
 	Object getCurrentRowValue(int valueIndex);
 
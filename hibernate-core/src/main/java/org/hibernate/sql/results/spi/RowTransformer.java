@@ -30,4 +30,12 @@ public interface RowTransformer<T> {
 	default int determineNumberOfResultElements(int rawElementCount) {
 		return rawElementCount;
 	}
+
+	/**
+	 * Does the result of {@link #transformRow} never refer to the given array, so that
+	 * the same array may be reused for every row?
+	 */
+	default boolean isRowArrayReusable() {
+		return false;
+	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.stat;
 
 import java.time.Instant;
+import java.util.Collections;
 import java.util.Map;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -343,6 +344,19 @@ public interface Statistics {
 	 */
 	Map<String,Long> getSlowQueries();
 
+	/**
+	 * If {@value org.hibernate.cfg.BatchSettings#ADAPTIVE_TARGET_LATENCY}
+	 * is enabled, a map from the JDBC batch key to the batch size most
+	 * recently chosen for that key.
+	 *
+	 * @since 6.5
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#ADAPTIVE_TARGET_LATENCY
+	 */
+	default Map<String,Integer> getJdbcBatchSizes() {
+		return Collections.emptyMap();
+	}
+
 	/**
 	 * The names of all entities.
 	 */
@@ -126,6 +126,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 * Keyed by query SQL
 	 */
 	private final Map<String, Long> slowQueries = new ConcurrentHashMap<>();
+	private final Map<String, Integer> jdbcBatchSizes = new ConcurrentHashMap<>();
 
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
@@ -206,6 +207,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		naturalIdQueryStatsMap.clear();
 		l2CacheStatsMap.clear();
 		queryStatsMap.clear();
+		jdbcBatchSizes.clear();
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
@@ -1039,4 +1041,14 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	public void slowQuery(String sql, long executionTime) {
 		slowQueries.merge( sql, executionTime, Math::max );
 	}
+
+	@Override
+	public Map<String, Integer> getJdbcBatchSizes() {
+		return jdbcBatchSizes;
+	}
+
+	@Override
+	public void jdbcBatchSize(String batchKey, int batchSize) {
+		jdbcBatchSizes.put( batchKey, batchSize );
+	}
 }
@@ -291,4 +291,11 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 		return emptyMap();
 	}
+
+	/**
+	 * Register the batch size chosen for a JDBC batch key.
+	 */
+	default void jdbcBatchSize(String batchKey, int batchSize) {
+		//For backward compatibility
+	}
 }
@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchBuilderImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that {@link AdaptiveBatchBuilderImpl} resizes batches according to the measured
+ * execution times, using a time source under the control of the test
+ */
+@DomainModel( annotatedClasses = AdaptiveBatchSizeAdjustmentTest.Event.class )
+@SessionFactory
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+		settingProviders = @SettingProvider(
+				settingName = BatchSettings.BUILDER,
+				provider = AdaptiveBatchSizeAdjustmentTest.ControlledBatchBuilderProvider.class
+		)
+)
+public class AdaptiveBatchSizeAdjustmentTest {
+	private static final String BATCH_KEY = Event.class.getName() + "#INSERT";
+
+	private static final int MAXIMUM_BATCH_SIZE = 50;
+	private static final int MINIMUM_BATCH_SIZE = 5;
+	private static final long TARGET_LATENCY_MILLIS = 1;
+
+	private int nextId;
+
+	@Test
+	public void testBatchSizeFollowsExecutionTimes(SessionFactoryScope scope) {
+		final ControlledBatchBuilder batchBuilder = ControlledBatchBuilderProvider.INSTANCE;
+
+		// slow executions: 10ms for any batch, way over the target latency
+		batchBuilder.executionNanos = TimeUnit.MILLISECONDS.toNanos( 10 );
+		batchBuilder.executions = 0;
+		persistEvents( scope, 100 );
+		// the first batch uses the maximum size, since nothing was measured yet,
+		// and the same batch then shrinks to the minimum size for the remaining rows
+		assertThat( batchBuilder.executions ).isEqualTo( 1 + 50 / MINIMUM_BATCH_SIZE );
+		assertThat( batchSize( scope ) ).isEqualTo( MINIMUM_BATCH_SIZE );
+
+		// fast executions: 10 microseconds for any batch, way under the target latency
+		batchBuilder.executionNanos = TimeUnit.MICROSECONDS.toNanos( 10 );
+		final List<Integer> batchSizes = new ArrayList<>();
+		for ( int i = 0; i < 10 && batchSize( scope ) < MAXIMUM_BATCH_SIZE; i++ ) {
+			persistEvents( scope, 50 );
+			batchSizes.add( batchSize( scope ) );
+		}
+		assertThat( batchSizes ).isSorted();
+		assertThat( batchSizes.get( 0 ) ).isGreaterThan( MINIMUM_BATCH_SIZE );
+		assertThat( batchSizes.get( batchSizes.size() - 1 ) ).isEqualTo( MAXIMUM_BATCH_SIZE );
+
+		// slow executions again
+		batchBuilder.executionNanos = TimeUnit.MILLISECONDS.toNanos( 10 );
+		persistEvents( scope, 50 );
+		assertThat( batchSize( scope ) ).isLessThan( MAXIMUM_BATCH_SIZE );
+
+		// the batch sizes are statistics like any other
+		scope.getSessionFactory().getStatistics().clear();
+		assertThat( scope.getSessionFactory().getStatistics().getJdbcBatchSizes() ).isEmpty();
+	}
+
+	private void persistEvents(SessionFactoryScope scope, int count) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < count; i++ ) {
+				final int id = nextId++;
+				session.persist( new Event( id, "event-" + id ) );
+			}
+		} );
+	}
+
+	private static int batchSize(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getStatistics().getJdbcBatchSizes().get( BATCH_KEY );
+	}
+
+	public static class ControlledBatchBuilderProvider implements SettingProvider.Provider<ControlledBatchBuilder> {
+		static final ControlledBatchBuilder INSTANCE = new ControlledBatchBuilder();
+
+		@Override
+		public ControlledBatchBuilder getSetting() {
+			return INSTANCE;
+		}
+	}
+
+	/**
+	 * Every execution of a batch seems to take {@link #executionNanos}
+	 */
+	public static class ControlledBatchBuilder extends AdaptiveBatchBuilderImpl {
+		private volatile long executionNanos;
+		private volatile int executions;
+
+		private long time;
+		private boolean executing;
+
+		public ControlledBatchBuilder() {
+			super( MAXIMUM_BATCH_SIZE, false, TARGET_LATENCY_MILLIS, MINIMUM_BATCH_SIZE );
+		}
+
+		@Override
+		protected synchronized long nanoTime() {
+			// called before and after each execution
+			if ( executing ) {
+				time += executionNanos;
+				executions++;
+			}
+			executing = !executing;
+			return time;
+		}
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Event() {
+		}
+
+		public Event(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
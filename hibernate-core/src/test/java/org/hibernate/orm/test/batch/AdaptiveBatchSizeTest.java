@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchBuilderImpl;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BatchSettings#ADAPTIVE_TARGET_LATENCY}
+ */
+@DomainModel( annotatedClasses = AdaptiveBatchSizeTest.Event.class )
+@SessionFactory
+@ServiceRegistry(
+		settings = {
+				@Setting( name = BatchSettings.STATEMENT_BATCH_SIZE, value = "50" ),
+				@Setting( name = BatchSettings.ADAPTIVE_TARGET_LATENCY, value = "1" ),
+				@Setting( name = BatchSettings.ADAPTIVE_MIN_BATCH_SIZE, value = "5" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+		}
+)
+public class AdaptiveBatchSizeTest {
+
+	@Test
+	public void testBatchSizeIsExposedThroughStatistics(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getServiceRegistry().getService( BatchBuilder.class ) )
+				.isInstanceOf( AdaptiveBatchBuilderImpl.class );
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 200; i++ ) {
+				session.persist( new Event( i, "event-" + i ) );
+			}
+		} );
+
+		final Map<String, Integer> batchSizes = scope.getSessionFactory().getStatistics().getJdbcBatchSizes();
+		assertThat( batchSizes ).containsKey( Event.class.getName() + "#INSERT" );
+		assertThat( batchSizes.get( Event.class.getName() + "#INSERT" ) ).isBetween( 5, 50 );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Event", Long.class ).getSingleResult()
+		).isEqualTo( 200L ) );
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Event() {
+		}
+
+		public Event(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the row operations of collections of the same role, but different owners,
+ * are batched together, even when the collections of several roles are updated.
+ */
+@DomainModel( annotatedClasses = CollectionRowBatchingTest.Parent.class )
+@SessionFactory
+@ServiceRegistry(
+		settings = {
+				@Setting( name = BatchSettings.STATEMENT_BATCH_SIZE, value = "50" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+		}
+)
+public class CollectionRowBatchingTest {
+	private static final int PARENT_COUNT = 20;
+
+	@Test
+	public void testCollectionRowsAreBatchedAcrossOwners(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < PARENT_COUNT; i++ ) {
+				final Parent parent = new Parent( i );
+				parent.tags.add( "tag-a" );
+				parent.tags.add( "tag-b" );
+				parent.aliases.add( "alias-a" );
+				session.persist( parent );
+			}
+			statistics.clear();
+		} );
+		// one statement for the parents, and one for each collection role
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 3 );
+
+		scope.inTransaction( session -> {
+			final List<Parent> parents = session.createSelectionQuery(
+					"from Parent p join fetch p.tags join fetch p.aliases",
+					Parent.class
+			).getResultList();
+			assertThat( parents ).hasSize( PARENT_COUNT );
+			for ( Parent parent : parents ) {
+				parent.tags.remove( "tag-a" );
+				parent.tags.add( "tag-c" );
+				parent.aliases.remove( "alias-a" );
+				parent.aliases.add( "alias-b" );
+			}
+			statistics.clear();
+			session.flush();
+			// one statement to delete rows, and one to insert rows, for each collection role
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 4 );
+		} );
+
+		scope.inTransaction( session -> {
+			final Parent parent = session.find( Parent.class, 7 );
+			assertThat( parent.tags ).containsExactlyInAnyOrder( "tag-b", "tag-c" );
+			assertThat( parent.aliases ).containsExactly( "alias-b" );
+		} );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		private Set<String> tags = new HashSet<>();
+
+		@ElementCollection
+		private Set<String> aliases = new HashSet<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id) {
+			this.id = id;
+		}
+	}
+}
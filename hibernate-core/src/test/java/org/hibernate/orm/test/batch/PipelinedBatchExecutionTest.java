@@ -0,0 +1,189 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.exception.ConstraintViolationException;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link BatchSettings#PIPELINED_EXECUTION}
+ */
+@DomainModel(
+		annotatedClasses = {
+				PipelinedBatchExecutionTest.Author.class,
+				PipelinedBatchExecutionTest.Book.class,
+				PipelinedBatchExecutionTest.Review.class
+		}
+)
+@SessionFactory
+@ServiceRegistry(
+		settings = {
+				@Setting( name = BatchSettings.STATEMENT_BATCH_SIZE, value = "5" ),
+				@Setting( name = BatchSettings.ORDER_INSERTS, value = "true" ),
+				@Setting( name = BatchSettings.PIPELINED_EXECUTION, value = "true" ),
+				@Setting( name = AvailableSettings.CHECK_NULLABILITY, value = "false" )
+		}
+)
+public class PipelinedBatchExecutionTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Review" ).executeUpdate();
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsertsAcrossTables(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 12; i++ ) {
+				final Author author = new Author( i, "author-" + i );
+				final Book book = new Book( i, "book-" + i, author );
+				session.persist( author );
+				session.persist( book );
+				session.persist( new Review( i, "review-" + i, book ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Author", Long.class ).getSingleResult() )
+					.isEqualTo( 12L );
+			assertThat( session.createSelectionQuery( "select count(*) from Book", Long.class ).getSingleResult() )
+					.isEqualTo( 12L );
+			assertThat( session.createSelectionQuery( "select count(*) from Review", Long.class ).getSingleResult() )
+					.isEqualTo( 12L );
+		} );
+	}
+
+	@Test
+	public void testFailureOfPipelinedBatchIsReportedByFlush(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				// the Author batch violates a not-null constraint, and is executed
+				// in the background while the Book batch is being bound
+				final Author author = new Author( 1, null );
+				session.persist( author );
+				session.persist( new Book( 1, "book", author ) );
+				assertThrows( ConstraintViolationException.class, session::flush );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+	}
+
+	@Test
+	public void testObserversAreNotifiedOnTheSessionThread(SessionFactoryScope scope) {
+		final List<Thread> notifyingThreads = new ArrayList<>();
+		final int[] executions = new int[2];
+		final BaseSessionEventListener listener = new BaseSessionEventListener() {
+			@Override
+			public void jdbcExecuteBatchStart() {
+				notifyingThreads.add( Thread.currentThread() );
+				executions[0]++;
+			}
+
+			@Override
+			public void jdbcExecuteBatchEnd() {
+				notifyingThreads.add( Thread.currentThread() );
+				executions[1]++;
+			}
+		};
+
+		try ( Session session = scope.getSessionFactory().withOptions().eventListeners( listener ).openSession() ) {
+			session.getTransaction().begin();
+			for ( int i = 0; i < 12; i++ ) {
+				final Author author = new Author( i, "author-" + i );
+				final Book book = new Book( i, "book-" + i, author );
+				session.persist( author );
+				session.persist( book );
+				session.persist( new Review( i, "review-" + i, book ) );
+			}
+			session.getTransaction().commit();
+		}
+
+		assertThat( executions[0] ).isPositive().isEqualTo( executions[1] );
+		assertThat( notifyingThreads ).containsOnly( Thread.currentThread() );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		@Column(nullable = false)
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Review")
+	public static class Review {
+		@Id
+		private Integer id;
+		private String text;
+		@ManyToOne
+		private Book book;
+
+		public Review() {
+		}
+
+		public Review(Integer id, String text, Book book) {
+			this.id = id;
+			this.text = text;
+			this.book = book;
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Session;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.engine.jdbc.batch.internal.BatchBuilderImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a batch which fills up while the previous batch is still being
+ * {@linkplain BatchSettings#PIPELINED_EXECUTION pipelined} waits for it, so
+ * that the rows inserted by the previous batch exist before the rows which
+ * reference them are inserted
+ */
+@DomainModel(
+		annotatedClasses = {
+				PipelinedBatchImplicitExecutionTest.Parent.class,
+				PipelinedBatchImplicitExecutionTest.Child.class
+		}
+)
+@SessionFactory
+@ServiceRegistry(
+		settings = @Setting( name = BatchSettings.ORDER_INSERTS, value = "true" ),
+		settingProviders = @SettingProvider(
+				settingName = BatchSettings.BUILDER,
+				provider = PipelinedBatchImplicitExecutionTest.DelayedPipelineBatchBuilderProvider.class
+		)
+)
+public class PipelinedBatchImplicitExecutionTest {
+	private static final int BATCH_SIZE = 5;
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Child" ).executeUpdate();
+			session.createMutationQuery( "delete from Parent" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testParentInsertsCompleteBeforeFullChildBatch(SessionFactoryScope scope) {
+		final List<String> executions = DelayedPipelineBatchBuilderProvider.INSTANCE.executions;
+		executions.clear();
+		final BaseSessionEventListener listener = new BaseSessionEventListener() {
+			@Override
+			public void jdbcExecuteBatchStart() {
+				executions.add( "session" );
+			}
+		};
+
+		try ( Session session = scope.getSessionFactory().withOptions().eventListeners( listener ).openSession() ) {
+			session.getTransaction().begin();
+			final Parent parent = new Parent( 1, "parent" );
+			session.persist( parent );
+			// the Parent batch is pipelined when the Child batch is started,
+			// and the Child batch then fills up, and is executed implicitly
+			for ( int i = 0; i < BATCH_SIZE; i++ ) {
+				session.persist( new Child( i, "child-" + i, parent ) );
+			}
+			session.getTransaction().commit();
+		}
+
+		assertThat( executions ).isNotEmpty();
+		assertThat( executions.get( 0 ) ).isEqualTo( "pipelined" );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Child", Long.class ).getSingleResult() )
+					.isEqualTo( (long) BATCH_SIZE );
+		} );
+	}
+
+	public static class DelayedPipelineBatchBuilderProvider implements SettingProvider.Provider<DelayedPipelineBatchBuilder> {
+		static final DelayedPipelineBatchBuilder INSTANCE = new DelayedPipelineBatchBuilder();
+
+		@Override
+		public DelayedPipelineBatchBuilder getSetting() {
+			return INSTANCE;
+		}
+	}
+
+	/**
+	 * Delays every pipelined execution, so that the session thread reaches
+	 * the implicit execution of the next batch first, unless it waits
+	 */
+	public static class DelayedPipelineBatchBuilder extends BatchBuilderImpl {
+		private final List<String> executions = Collections.synchronizedList( new ArrayList<>() );
+
+		public DelayedPipelineBatchBuilder() {
+			super( BATCH_SIZE, true );
+		}
+
+		@Override
+		public Executor getPipelineExecutor() {
+			final Executor executor = super.getPipelineExecutor();
+			return command -> executor.execute( () -> {
+				try {
+					TimeUnit.MILLISECONDS.sleep( 200 );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				// recorded before the execution completes the stage the session may wait for
+				executions.add( "pipelined" );
+				command.run();
+			} );
+		}
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Parent() {
+		}
+
+		public Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, String name, Parent parent) {
+			this.id = id;
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+}
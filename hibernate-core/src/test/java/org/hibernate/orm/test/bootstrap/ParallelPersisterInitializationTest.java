@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.metamodel.MappingMetamodel;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistenceSettings#PARALLEL_PERSISTER_INITIALIZATION}
+ */
+@DomainModel(annotatedClasses = {
+		ParallelPersisterInitializationTest.Vehicle.class,
+		ParallelPersisterInitializationTest.Car.class,
+		ParallelPersisterInitializationTest.Truck.class,
+		ParallelPersisterInitializationTest.Garage.class,
+		ParallelPersisterInitializationTest.Owner.class
+})
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.PARALLEL_PERSISTER_INITIALIZATION, value = "true"))
+@SessionFactory
+public class ParallelPersisterInitializationTest {
+
+	@Test
+	public void testPersisters(SessionFactoryScope scope) {
+		final MappingMetamodel metamodel = scope.getSessionFactory().getMappingMetamodel();
+		final Set<String> entityNames = new HashSet<>();
+		metamodel.forEachEntityDescriptor( persister -> entityNames.add( persister.getEntityName() ) );
+		assertThat( entityNames ).contains(
+				Vehicle.class.getName(),
+				Car.class.getName(),
+				Truck.class.getName(),
+				Garage.class.getName(),
+				"CarOwner"
+		);
+		assertThat( metamodel.getEntityDescriptor( Owner.class ).getEntityName() ).isEqualTo( "CarOwner" );
+		assertThat( metamodel.getCollectionDescriptor( Garage.class.getName() + ".vehicles" ) ).isNotNull();
+		assertThat( metamodel.getCollectionDescriptor( Garage.class.getName() + ".openingHours" ) ).isNotNull();
+	}
+
+	@Test
+	public void testUsage(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Owner owner = new Owner();
+			owner.id = 1;
+			session.persist( owner );
+			final Garage garage = new Garage();
+			garage.id = 1;
+			garage.openingHours.add( "9-17" );
+			session.persist( garage );
+			final Car car = new Car();
+			car.id = 1;
+			car.garage = garage;
+			car.owner = owner;
+			session.persist( car );
+			final Truck truck = new Truck();
+			truck.id = 2;
+			truck.garage = garage;
+			session.persist( truck );
+		} );
+		scope.inTransaction( session -> {
+			final Garage garage = session.find( Garage.class, 1 );
+			assertThat( garage.vehicles ).hasSize( 2 );
+			assertThat( garage.openingHours ).containsExactly( "9-17" );
+			final List<Car> cars = session.createSelectionQuery( "from Car c join fetch c.owner", Car.class )
+					.getResultList();
+			assertThat( cars ).hasSize( 1 );
+			session.remove( cars.get( 0 ) );
+		} );
+	}
+
+	@Entity
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		Integer id;
+		@ManyToOne
+		Garage garage;
+	}
+
+	@Entity
+	public static class Car extends Vehicle {
+		@ManyToOne
+		Owner owner;
+	}
+
+	@Entity
+	public static class Truck extends Vehicle {
+		int axles;
+	}
+
+	@Entity
+	public static class Garage {
+		@Id
+		Integer id;
+		@OneToMany(mappedBy = "garage")
+		Set<Vehicle> vehicles = new HashSet<>();
+		@ElementCollection
+		List<String> openingHours = new ArrayList<>();
+	}
+
+	@Entity(name = "CarOwner")
+	public static class Owner {
+		@Id
+		Integer id;
+	}
+}
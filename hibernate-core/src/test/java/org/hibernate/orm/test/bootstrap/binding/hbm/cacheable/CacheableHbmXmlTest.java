@@ -7,7 +7,10 @@
 package org.hibernate.orm.test.bootstrap.binding.hbm.cacheable;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 
 import org.hibernate.boot.MappingException;
 import org.hibernate.boot.MetadataSources;
@@ -22,6 +25,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -117,9 +121,60 @@ public class CacheableHbmXmlTest {
 		new MetadataSources( ssr ).addCacheableFile( hbmXmlFile, binOutputDir ).buildMetadata();
 	}
 
+	@Test
+	public void testStrictlyWithTouchedFile(ServiceRegistryScope serviceRegistryScope, @TempDir File tempDir) throws Exception {
+		final StandardServiceRegistry ssr = serviceRegistryScope.getRegistry();
+		final File copiedHbmXmlFile = copyHbmXmlFile( tempDir );
+		final File binFile = createBinFile( copiedHbmXmlFile, tempDir );
+
+		// the timestamp is newer, but the content did not change
+		assertTrue( copiedHbmXmlFile.setLastModified( binFile.lastModified() + 60000L ) );
+
+		try {
+			new MetadataSources( ssr ).addCacheableFileStrictly( copiedHbmXmlFile, tempDir ).buildMetadata();
+		}
+		catch (MappingException e) {
+			fail( "addCacheableFileStrictly led to MappingException when the mapping file was only touched" );
+		}
+	}
+
+	@Test
+	public void testStrictlyWithChangedFile(ServiceRegistryScope serviceRegistryScope, @TempDir File tempDir) throws Exception {
+		final StandardServiceRegistry ssr = serviceRegistryScope.getRegistry();
+		final File copiedHbmXmlFile = copyHbmXmlFile( tempDir );
+		final File binFile = createBinFile( copiedHbmXmlFile, tempDir );
+
+		// the content changed, but the timestamp is older
+		Files.writeString( copiedHbmXmlFile.toPath(), "<!-- changed -->", StandardOpenOption.APPEND );
+		assertTrue( copiedHbmXmlFile.setLastModified( binFile.lastModified() - 60000L ) );
+
+		try {
+			new MetadataSources( ssr ).addCacheableFileStrictly( copiedHbmXmlFile, tempDir ).buildMetadata();
+			fail( "addCacheableFileStrictly should be led to MappingException when the mapping file changed" );
+		}
+		catch (MappingException ignore) {
+			// this is the expected result
+		}
+
+		// non-strictly, the mapping file is bound again and the bin file is replaced
+		new MetadataSources( ssr ).addCacheableFile( copiedHbmXmlFile, tempDir ).buildMetadata();
+		new MetadataSources( ssr ).addCacheableFileStrictly( copiedHbmXmlFile, tempDir ).buildMetadata();
+	}
+
+	private static File copyHbmXmlFile(File directory) throws IOException {
+		final File file = new File( directory, hbmXmlFile.getName() );
+		Files.copy( hbmXmlFile.toPath(), file.toPath() );
+		return file;
+	}
+
 	private void createBinFile(File binOutputDir) {
-		final String outputName = hbmXmlFile.getName() + ".bin";
+		createBinFile( hbmXmlFile, binOutputDir );
+	}
+
+	private static File createBinFile(File xmlFile, File binOutputDir) {
+		final String outputName = xmlFile.getName() + ".bin";
 		final File file = new File( binOutputDir, outputName );
-		CacheableFileXmlSource.createSerFile( hbmXmlFile, file, binder );
+		CacheableFileXmlSource.createSerFile( xmlFile, file, binder );
+		return file;
 	}
 }
@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bootstrap.scanning;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
+import org.hibernate.boot.archive.scan.internal.JandexIndexScanner;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
+import org.hibernate.boot.archive.scan.internal.StandardScanner;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.internal.ParsedPersistenceXmlDescriptor;
+import org.hibernate.jpa.boot.internal.StandardJpaScanEnvironmentImpl;
+import org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor;
+import org.hibernate.orm.test.jpa.pack.defaultpar.ApplicationServer;
+import org.hibernate.orm.test.jpa.pack.defaultpar.Version;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.shrinkwrap.api.ArchivePaths;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JandexIndexScanner}
+ */
+public class JandexIndexScannerTest extends PackagingTestCase {
+
+	@Test
+	public void testCachedIndex(@TempDir Path cacheDirectory) throws Exception {
+		final File defaultPar = buildDefaultPar();
+		addPackageToClasspath( defaultPar );
+
+		final ScanResult expected = scan( defaultPar, new StandardScanner() );
+
+		final ScanResult indexing = scan( defaultPar, new JandexIndexScanner( StandardArchiveDescriptorFactory.INSTANCE, cacheDirectory ) );
+		assertThat( classNames( indexing ) ).isEqualTo( classNames( expected ) );
+		assertThat( indexing.getLocatedMappingFiles() ).hasSameSizeAs( expected.getLocatedMappingFiles() );
+		assertThat( indexing.getLocatedPackages() ).hasSameSizeAs( expected.getLocatedPackages() );
+		try ( Stream<Path> cachedIndexes = Files.list( cacheDirectory ) ) {
+			assertThat( cachedIndexes ).hasSize( 1 );
+		}
+
+		final ScanResult cached = scan( defaultPar, new JandexIndexScanner( StandardArchiveDescriptorFactory.INSTANCE, cacheDirectory ) );
+		assertThat( classNames( cached ) ).isEqualTo( classNames( expected ) );
+		assertThat( cached.getLocatedMappingFiles() ).hasSameSizeAs( expected.getLocatedMappingFiles() );
+	}
+
+	@Test
+	public void testIndexCacheDirectorySetting(@TempDir Path cacheDirectory) throws Exception {
+		final File defaultPar = buildDefaultPar();
+		addPackageToClasspath( defaultPar );
+
+		final Map<String, Object> integration = ServiceRegistryUtil.createBaseSettings();
+		integration.put( AvailableSettings.SCANNER, JandexIndexScanner.class.getName() );
+		integration.put( AvailableSettings.SCANNER_INDEX_CACHE_DIRECTORY, cacheDirectory.toString() );
+		final EntityManagerFactory emf = Persistence.createEntityManagerFactory( "defaultpar", integration );
+		try {
+			assertThat( emf.getMetamodel().entity( ApplicationServer.class ) ).isNotNull();
+		}
+		finally {
+			emf.close();
+		}
+		try ( Stream<Path> cachedIndexes = Files.list( cacheDirectory ) ) {
+			assertThat( cachedIndexes ).hasSize( 1 );
+		}
+	}
+
+	@Test
+	public void testPrebuiltIndex() throws Exception {
+		final File indexedPar = buildIndexedPar();
+		addPackageToClasspath( indexedPar );
+
+		// the prebuilt index only knows about ApplicationServer, and is trusted
+		final ScanResult scanResult = scan( indexedPar, new JandexIndexScanner() );
+		assertThat( classNames( scanResult ) ).containsExactly( ApplicationServer.class.getName() );
+		assertThat( scanResult.getLocatedMappingFiles() ).isNotEmpty();
+		for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
+			try ( InputStream stream = classDescriptor.getStreamAccess().accessInputStream() ) {
+				assertThat( stream ).isNotNull();
+			}
+		}
+	}
+
+	private static ScanResult scan(File par, Scanner scanner) throws Exception {
+		final PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( par.toURL() );
+		final ScanEnvironment env = new StandardJpaScanEnvironmentImpl( descriptor );
+		final ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+		return scanner.scan( env, options, StandardScanParameters.INSTANCE );
+	}
+
+	private static Set<String> classNames(ScanResult scanResult) {
+		return scanResult.getLocatedClasses().stream()
+				.map( ClassDescriptor::getName )
+				.collect( Collectors.toSet() );
+	}
+
+	private File buildIndexedPar() throws IOException {
+		final String fileName = "indexedpar.par";
+		final JavaArchive archive = ShrinkWrap.create( JavaArchive.class, fileName );
+		archive.addClasses( ApplicationServer.class, Version.class );
+		archive.addAsResource( "defaultpar/META-INF/orm.xml", ArchivePaths.create( "META-INF/orm.xml" ) );
+		archive.addAsResource( "defaultpar/META-INF/persistence.xml", ArchivePaths.create( "META-INF/persistence.xml" ) );
+
+		final ByteArrayOutputStream index = new ByteArrayOutputStream();
+		new IndexWriter( index ).write( Index.of( ApplicationServer.class ) );
+		archive.add( new ByteArrayAsset( index.toByteArray() ), JandexIndexScanner.INDEX_LOCATION );
+
+		final File testPackage = new File( packageTargetDir, fileName );
+		archive.as( ZipExporter.class ).exportTo( testPackage, true );
+		return testPackage;
+	}
+}
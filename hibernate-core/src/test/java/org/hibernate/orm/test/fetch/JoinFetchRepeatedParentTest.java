@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.fetch;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollableResults;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Join fetching a collection repeats the parent for each element, and the
+ * parent initialized for the previous row is reused for the repeated rows
+ */
+@DomainModel(annotatedClasses = {
+		JoinFetchRepeatedParentTest.Parent.class,
+		JoinFetchRepeatedParentTest.Child.class
+})
+@SessionFactory
+public class JoinFetchRepeatedParentTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Parent parent = new Parent( i, "parent-" + i );
+				session.persist( parent );
+				for ( int j = 1; j <= 4; j++ ) {
+					final Child child = new Child( i * 10 + j, parent );
+					parent.children.add( child );
+					session.persist( child );
+				}
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Child" ).executeUpdate();
+			session.createMutationQuery( "delete from Parent" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testList(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Parent> parents = session.createSelectionQuery(
+					"from Parent p join fetch p.children order by p.id",
+					Parent.class
+			).getResultList();
+			assertThat( parents ).hasSize( 3 );
+			for ( Parent parent : parents ) {
+				assertThat( Hibernate.isInitialized( parent.children ) ).isTrue();
+				assertThat( parent.children ).hasSize( 4 );
+				for ( Child child : parent.children ) {
+					assertThat( child.parent ).isSameAs( parent );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testListWithManagedParent(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Parent managed = session.find( Parent.class, 2 );
+			managed.name = "changed";
+			final List<Parent> parents = session.createSelectionQuery(
+					"from Parent p join fetch p.children order by p.id",
+					Parent.class
+			).getResultList();
+			assertThat( parents ).hasSize( 3 );
+			assertThat( parents.get( 1 ) ).isSameAs( managed );
+			assertThat( managed.name ).isEqualTo( "changed" );
+			assertThat( managed.children ).hasSize( 4 );
+		} );
+	}
+
+	@Test
+	public void testScroll(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Set<Parent> parents = new HashSet<>();
+			final List<Integer> childIds = new ArrayList<>();
+			try ( ScrollableResults<Parent> results = session.createSelectionQuery(
+					"from Parent p join fetch p.children order by p.id",
+					Parent.class
+			).scroll() ) {
+				while ( results.next() ) {
+					parents.add( results.get() );
+				}
+			}
+			for ( Parent parent : parents ) {
+				parent.children.forEach( child -> childIds.add( child.id ) );
+			}
+			assertThat( parents ).hasSize( 3 );
+			assertThat( childIds ).hasSize( 12 ).doesNotHaveDuplicates();
+		} );
+	}
+
+	@Test
+	public void testScrollWithClearBetweenRows(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			int rows = 0;
+			try ( ScrollableResults<Object[]> results = session.createSelectionQuery(
+					"select p, c from Parent p join p.children c order by p.id, c.id",
+					Object[].class
+			).scroll() ) {
+				while ( results.next() ) {
+					final Parent parent = (Parent) results.get()[0];
+					final Child child = (Child) results.get()[1];
+					// the parent of the previous row was detached by clear()
+					assertThat( session.contains( parent ) ).isTrue();
+					assertThat( session.contains( child ) ).isTrue();
+					assertThat( child.parent ).isSameAs( parent );
+					session.clear();
+					rows++;
+				}
+			}
+			assertThat( rows ).isEqualTo( 12 );
+		} );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany(mappedBy = "parent")
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
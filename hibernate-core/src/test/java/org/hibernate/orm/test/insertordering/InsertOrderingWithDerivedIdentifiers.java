@@ -0,0 +1,174 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import org.hibernate.engine.internal.EntityInsertOrdering;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that associations which are part of an identifier are dependencies in the
+ * {@link EntityInsertOrdering} of the entity types
+ */
+public class InsertOrderingWithDerivedIdentifiers extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] {
+				Purchase.class,
+				PurchaseLine.class,
+				Shipment.class
+		};
+	}
+
+	@Test
+	public void testEntityInsertOrdering() {
+		final EntityInsertOrdering ordering = sessionFactory().getFastSessionServices().getEntityInsertOrdering();
+
+		final int purchase = ordering.getComponent( "Purchase" );
+		// @IdClass with an @Id @ManyToOne
+		assertThat( ordering.getDependencies( ordering.getComponent( "PurchaseLine" ) ) ).containsExactly( purchase );
+		// @EmbeddedId with @MapsId
+		assertThat( ordering.getDependencies( ordering.getComponent( "Shipment" ) ) ).containsExactly( purchase );
+	}
+
+	@Test
+	public void testBatching() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Purchase purchase = new Purchase( i );
+				session.persist( purchase );
+				session.persist( new PurchaseLine( purchase, 1 ) );
+				session.persist( new Shipment( purchase, 1 ) );
+			}
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches( new Batch( "insert into Purchase (id) values (?)", 3 ) );
+		// one batch for each entity type
+		verifyPreparedStatementCount( 3 );
+	}
+
+	@Entity(name = "Purchase")
+	@Table(name = "Purchase")
+	public static class Purchase {
+		@Id
+		Integer id;
+
+		public Purchase() {
+		}
+
+		public Purchase(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "PurchaseLine")
+	@IdClass(PurchaseLine.PurchaseLineId.class)
+	public static class PurchaseLine {
+		@Id
+		@ManyToOne
+		Purchase purchase;
+
+		@Id
+		Integer lineNumber;
+
+		public PurchaseLine() {
+		}
+
+		public PurchaseLine(Purchase purchase, Integer lineNumber) {
+			this.purchase = purchase;
+			this.lineNumber = lineNumber;
+		}
+
+		public static class PurchaseLineId implements Serializable {
+			Integer purchase;
+			Integer lineNumber;
+
+			@Override
+			public boolean equals(Object o) {
+				if ( this == o ) {
+					return true;
+				}
+				if ( !( o instanceof PurchaseLineId ) ) {
+					return false;
+				}
+				final PurchaseLineId that = (PurchaseLineId) o;
+				return Objects.equals( purchase, that.purchase ) && Objects.equals( lineNumber, that.lineNumber );
+			}
+
+			@Override
+			public int hashCode() {
+				return Objects.hash( purchase, lineNumber );
+			}
+		}
+	}
+
+	@Entity(name = "Shipment")
+	public static class Shipment {
+		@EmbeddedId
+		ShipmentId id;
+
+		@MapsId("purchaseId")
+		@ManyToOne
+		Purchase purchase;
+
+		public Shipment() {
+		}
+
+		public Shipment(Purchase purchase, Integer number) {
+			this.id = new ShipmentId( purchase.id, number );
+			this.purchase = purchase;
+		}
+	}
+
+	@Embeddable
+	public static class ShipmentId implements Serializable {
+		Integer purchaseId;
+		Integer number;
+
+		public ShipmentId() {
+		}
+
+		public ShipmentId(Integer purchaseId, Integer number) {
+			this.purchaseId = purchaseId;
+			this.number = number;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof ShipmentId ) ) {
+				return false;
+			}
+			final ShipmentId that = (ShipmentId) o;
+			return Objects.equals( purchaseId, that.purchaseId ) && Objects.equals( number, that.number );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( purchaseId, number );
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import org.hibernate.engine.internal.EntityInsertOrdering;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the ordering of inserts by the {@link EntityInsertOrdering} of the entity types
+ */
+public class InsertOrderingWithEntityTypeGraph extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] {
+				Author.class,
+				Book.class,
+				Review.class,
+				Department.class,
+				Employee.class
+		};
+	}
+
+	@Test
+	public void testEntityInsertOrdering() {
+		final EntityInsertOrdering ordering = sessionFactory().getFastSessionServices().getEntityInsertOrdering();
+
+		final int author = ordering.getComponent( "Author" );
+		final int book = ordering.getComponent( "Book" );
+		final int review = ordering.getComponent( "Review" );
+		assertThat( author ).isLessThan( book );
+		assertThat( book ).isLessThan( review );
+		assertThat( ordering.getDependencies( review ) ).containsExactly( book );
+		assertThat( ordering.isCyclic( book ) ).isFalse();
+
+		final int department = ordering.getComponent( "Department" );
+		assertThat( ordering.getComponent( "Employee" ) ).isEqualTo( department );
+		assertThat( ordering.isCyclic( department ) ).isTrue();
+	}
+
+	@Test
+	public void testBatching() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( int i = 0; i < 4; i++ ) {
+				final Author author = new Author();
+				session.persist( author );
+				final Book book = new Book();
+				book.author = author;
+				session.persist( book );
+				final Review review = new Review();
+				review.book = book;
+				session.persist( review );
+
+				final Department department = new Department();
+				session.persist( department );
+				final Employee employee = new Employee();
+				employee.department = department;
+				session.persist( employee );
+			}
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Author (id) values (?)", 4 ),
+				new Batch( "insert into Book (author_id,id) values (?,?)", 4 ),
+				new Batch( "insert into Review (book_id,id) values (?,?)", 4 ),
+				new Batch( "insert into Department (manager_id,id) values (?,?)", 4 ),
+				new Batch( "insert into Employee (department_id,id) values (?,?)", 4 )
+		);
+		verifyPreparedStatementCount( 5 );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		@GeneratedValue
+		Integer id;
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		@GeneratedValue
+		Integer id;
+
+		@ManyToOne
+		Author author;
+	}
+
+	@Entity(name = "Review")
+	public static class Review {
+		@Id
+		@GeneratedValue
+		Integer id;
+
+		@ManyToOne
+		Book book;
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		@GeneratedValue
+		Integer id;
+
+		@ManyToOne
+		Employee manager;
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		@GeneratedValue
+		Integer id;
+
+		@ManyToOne
+		Department department;
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.jdbc;
+
+import java.util.List;
+
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.sql.results.jdbc.internal.AdaptiveFetchSize;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JdbcSettings#ADAPTIVE_FETCH_SIZE}
+ */
+@DomainModel( annotatedClasses = AdaptiveFetchSizeTest.Item.class )
+@SessionFactory( useCollectingStatementInspector = true )
+@ServiceRegistry( settings = {
+		@Setting( name = JdbcSettings.ADAPTIVE_FETCH_SIZE, value = "true" ),
+		@Setting( name = JdbcSettings.ADAPTIVE_FETCH_SIZE_MAX, value = "20" )
+} )
+public class AdaptiveFetchSizeTest {
+	private static final int ITEM_COUNT = 30;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < ITEM_COUNT; i++ ) {
+				session.persist( new Item( i, "item-" + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testFetchSizeAdaptsToRowCount(SessionFactoryScope scope) {
+		final AdaptiveFetchSize adaptiveFetchSize = scope.getSessionFactory()
+				.getFastSessionServices().adaptiveFetchSize;
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Item> items = session.createSelectionQuery( "from Item where id < 5", Item.class )
+					.getResultList();
+			assertThat( items ).hasSize( 5 );
+			assertThat( adaptiveFetchSize.getFetchSize( statementInspector.getSqlQueries().get( 0 ) ) )
+					.isEqualTo( 6 );
+
+			statementInspector.clear();
+			final List<String> names = session.createSelectionQuery( "select name from Item", String.class )
+					.getResultList();
+			assertThat( names ).hasSize( ITEM_COUNT );
+			// bounded by the maximum fetch size
+			assertThat( adaptiveFetchSize.getFetchSize( statementInspector.getSqlQueries().get( 0 ) ) )
+					.isEqualTo( 20 );
+		} );
+	}
+
+	@Test
+	public void testFetchSizeIsSmoothedAcrossExecutions(SessionFactoryScope scope) {
+		final AdaptiveFetchSize adaptiveFetchSize = scope.getSessionFactory()
+				.getFastSessionServices().adaptiveFetchSize;
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			session.createSelectionQuery( "from Item where id < :max", Item.class )
+					.setParameter( "max", 12 )
+					.getResultList();
+			final String sql = statementInspector.getSqlQueries().get( 0 );
+			assertThat( adaptiveFetchSize.getFetchSize( sql ) ).isEqualTo( 13 );
+
+			session.createSelectionQuery( "from Item where id < :max", Item.class )
+					.setParameter( "max", 4 )
+					.getResultList();
+			// a single small result only moves the fetch size part of the way: 12 + (4 - 12) / 4 rows
+			assertThat( adaptiveFetchSize.getFetchSize( sql ) ).isEqualTo( 11 );
+		} );
+	}
+
+	@Test
+	public void testExplicitFetchSizeIsNotAdapted(SessionFactoryScope scope) {
+		final AdaptiveFetchSize adaptiveFetchSize = scope.getSessionFactory()
+				.getFastSessionServices().adaptiveFetchSize;
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			session.createSelectionQuery( "select id from Item where id >= 10", Integer.class )
+					.setFetchSize( 50 )
+					.getResultList();
+			assertThat( adaptiveFetchSize.getFetchSize( statementInspector.getSqlQueries().get( 0 ) ) )
+					.isNull();
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
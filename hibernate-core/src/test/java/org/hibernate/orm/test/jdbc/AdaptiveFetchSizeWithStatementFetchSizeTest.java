@@ -0,0 +1,38 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.jdbc;
+
+import org.hibernate.cfg.JdbcSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link JdbcSettings#ADAPTIVE_FETCH_SIZE} never overrides {@link JdbcSettings#STATEMENT_FETCH_SIZE}
+ */
+@DomainModel( annotatedClasses = AdaptiveFetchSizeTest.Item.class )
+@SessionFactory
+@ServiceRegistry( settings = {
+		@Setting( name = JdbcSettings.ADAPTIVE_FETCH_SIZE, value = "true" ),
+		@Setting( name = JdbcSettings.STATEMENT_FETCH_SIZE, value = "64" )
+} )
+public class AdaptiveFetchSizeWithStatementFetchSizeTest {
+
+	@Test
+	public void testConfiguredFetchSizeDisablesAdaptiveFetchSize(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getFastSessionServices().adaptiveFetchSize ).isNull();
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "from Item", AdaptiveFetchSizeTest.Item.class ).getResultList()
+		).isEmpty() );
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.multitenancy.schema;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.internal.TenantSchemaJdbcConnectionAccess;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link TenantSchemaJdbcConnectionAccess} against drivers which
+ * behave in unusual ways
+ */
+public class TenantSchemaJdbcConnectionAccessTest {
+
+	@Test
+	public void testNullDefaultSchemaIsRestored() throws SQLException {
+		final FakeConnection fake = new FakeConnection( null );
+		final TenantSchemaJdbcConnectionAccess access = access( fake, new TenantSchemaJdbcConnectionAccess.SchemaSwitchState( true ) );
+
+		final Connection connection = access.obtainConnection();
+		assertThat( fake.schema ).isEqualTo( "tenant_a" );
+		access.releaseConnection( connection );
+
+		assertThat( fake.schema ).isNull();
+		assertThat( fake.setSchemaCalls ).containsExactly( "tenant_a", null );
+		assertThat( fake.released ).isTrue();
+	}
+
+	@Test
+	public void testDefaultSchemaIsReadOnce() throws SQLException {
+		final FakeConnection fake = new FakeConnection( "public" );
+		final TenantSchemaJdbcConnectionAccess.SchemaSwitchState state = new TenantSchemaJdbcConnectionAccess.SchemaSwitchState( true );
+		for ( int i = 0; i < 3; i++ ) {
+			final TenantSchemaJdbcConnectionAccess access = access( fake, state );
+			access.releaseConnection( access.obtainConnection() );
+		}
+		// once for the default schema, once to verify the first switch
+		assertThat( fake.getSchemaCalls ).isEqualTo( 2 );
+		assertThat( fake.schema ).isEqualTo( "public" );
+	}
+
+	@Test
+	public void testConnectionIsClosedWhenRestoreFails() throws SQLException {
+		final FakeConnection fake = new FakeConnection( "public" );
+		final TenantSchemaJdbcConnectionAccess access = access( fake, new TenantSchemaJdbcConnectionAccess.SchemaSwitchState( false ) );
+
+		final Connection connection = access.obtainConnection();
+		fake.failSetSchema = true;
+		assertThrows( SQLException.class, () -> access.releaseConnection( connection ) );
+		assertThat( fake.closed ).isTrue();
+		assertThat( fake.released ).isTrue();
+	}
+
+	@Test
+	public void testIgnoredSetSchemaIsDetected() {
+		final FakeConnection fake = new FakeConnection( null );
+		fake.ignoreSetSchema = true;
+		final TenantSchemaJdbcConnectionAccess access = access( fake, new TenantSchemaJdbcConnectionAccess.SchemaSwitchState( true ) );
+
+		assertThrows( HibernateException.class, access::obtainConnection );
+		assertThat( fake.released ).isTrue();
+	}
+
+	private static TenantSchemaJdbcConnectionAccess access(
+			FakeConnection fake,
+			TenantSchemaJdbcConnectionAccess.SchemaSwitchState state) {
+		final JdbcConnectionAccess delegate = new JdbcConnectionAccess() {
+			@Override
+			public Connection obtainConnection() {
+				fake.released = false;
+				return fake.proxy;
+			}
+
+			@Override
+			public void releaseConnection(Connection connection) {
+				fake.released = true;
+			}
+
+			@Override
+			public boolean supportsAggressiveRelease() {
+				return false;
+			}
+		};
+		return new TenantSchemaJdbcConnectionAccess( delegate, "tenant_a", state );
+	}
+
+	private static class FakeConnection {
+		private final Connection proxy;
+		private final List<String> setSchemaCalls = new ArrayList<>();
+		private String schema;
+		private int getSchemaCalls;
+		private boolean ignoreSetSchema;
+		private boolean failSetSchema;
+		private boolean closed;
+		private boolean released;
+
+		private FakeConnection(String schema) {
+			this.schema = schema;
+			this.proxy = (Connection) Proxy.newProxyInstance(
+					getClass().getClassLoader(),
+					new Class<?>[] { Connection.class },
+					(p, method, args) -> {
+						switch ( method.getName() ) {
+							case "getSchema":
+								getSchemaCalls++;
+								return this.schema;
+							case "setSchema":
+								if ( failSetSchema ) {
+									throw new SQLException( "cannot set schema" );
+								}
+								setSchemaCalls.add( (String) args[0] );
+								if ( !ignoreSetSchema ) {
+									this.schema = (String) args[0];
+								}
+								return null;
+							case "close":
+								closed = true;
+								return null;
+							default:
+								throw new UnsupportedOperationException( method.getName() );
+						}
+					}
+			);
+		}
+	}
+}
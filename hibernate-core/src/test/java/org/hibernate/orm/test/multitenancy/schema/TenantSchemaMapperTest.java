@@ -0,0 +1,140 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.multitenancy.schema;
+
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.MultiTenancySettings;
+import org.hibernate.context.spi.TenantSchemaMapper;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MultiTenancySettings#MULTI_TENANT_SCHEMA_MAPPER}
+ */
+@RequiresDialect(H2Dialect.class)
+@DomainModel(annotatedClasses = TenantSchemaMapperTest.Book.class)
+@ServiceRegistry(settings = @Setting(
+		name = MultiTenancySettings.MULTI_TENANT_SCHEMA_MAPPER,
+		value = "org.hibernate.orm.test.multitenancy.schema.TenantSchemaMapperTest$Mapper"
+))
+@SessionFactory
+public class TenantSchemaMapperTest {
+	private static final String[] TENANTS = { "a", "b" };
+
+	@BeforeAll
+	public void createTenantSchemas(SessionFactoryScope scope) {
+		scope.inSession( session -> session.doWork( connection -> {
+			try ( Statement statement = connection.createStatement() ) {
+				for ( String tenant : TENANTS ) {
+					final String schema = new Mapper().schemaName( tenant );
+					statement.execute( "create schema if not exists " + schema );
+					statement.execute( "create table " + schema + ".Book (id integer not null, title varchar(255), primary key (id))" );
+				}
+			}
+		} ) );
+	}
+
+	@AfterAll
+	public void dropTenantSchemas(SessionFactoryScope scope) {
+		scope.inSession( session -> session.doWork( connection -> {
+			try ( Statement statement = connection.createStatement() ) {
+				for ( String tenant : TENANTS ) {
+					statement.execute( "drop schema if exists " + new Mapper().schemaName( tenant ) + " cascade" );
+				}
+			}
+		} ) );
+	}
+
+	@AfterEach
+	public void cleanUp(SessionFactoryScope scope) {
+		for ( String tenant : TENANTS ) {
+			inTenantTransaction( scope, tenant, session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+		}
+	}
+
+	@Test
+	public void testTenantsUseTheirOwnSchema(SessionFactoryScope scope) {
+		inTenantTransaction( scope, "a", session -> session.persist( new Book( 1, "Hibernate in Action" ) ) );
+		inTenantTransaction( scope, "b", session -> session.persist( new Book( 1, "Java Persistence with Hibernate" ) ) );
+
+		inTenantTransaction( scope, "a", session ->
+				assertThat( session.find( Book.class, 1 ).title ).isEqualTo( "Hibernate in Action" ) );
+		inTenantTransaction( scope, "b", session ->
+				assertThat( session.find( Book.class, 1 ).title ).isEqualTo( "Java Persistence with Hibernate" ) );
+		// sessions without a tenant keep using the default schema
+		scope.inTransaction( session ->
+				assertThat( session.createSelectionQuery( "select count(*) from Book", Long.class ).getSingleResult() )
+						.isZero() );
+	}
+
+	@Test
+	public void testSchemaIsRestoredOnRelease(SessionFactoryScope scope) {
+		final String[] defaultSchema = new String[1];
+		scope.inSession( session -> session.doWork( connection -> defaultSchema[0] = connection.getSchema() ) );
+
+		inTenantTransaction( scope, "a", session -> session.doWork( connection ->
+				assertThat( connection.getSchema() ).isEqualTo( "TENANT_A" ) ) );
+
+		scope.inSession( session -> session.doWork( connection ->
+				assertThat( connection.getSchema() ).isEqualTo( defaultSchema[0] ) ) );
+	}
+
+	private static void inTenantTransaction(SessionFactoryScope scope, String tenant, Consumer<Session> action) {
+		try ( Session session = scope.getSessionFactory().withOptions().tenantIdentifier( (Object) tenant ).openSession() ) {
+			session.getTransaction().begin();
+			try {
+				action.accept( session );
+				session.getTransaction().commit();
+			}
+			catch (RuntimeException e) {
+				session.getTransaction().rollback();
+				throw e;
+			}
+		}
+	}
+
+	public static class Mapper implements TenantSchemaMapper<String> {
+		@Override
+		public String schemaName(String tenantIdentifier) {
+			return "TENANT_" + tenantIdentifier.toUpperCase( Locale.ROOT );
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.paging.keybased;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.KeyedResultList;
+import org.hibernate.query.Order;
+import org.hibernate.query.Page;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Key-based pagination with a key of several attributes sorted in the same
+ * direction, which is restricted using a row value comparison
+ */
+@SessionFactory(useCollectingStatementInspector = true)
+@DomainModel(annotatedClasses = KeyBasedPagingRowValueTest.Event.class)
+public class KeyBasedPagingRowValueTest {
+	private static final Pattern TUPLE_COMPARISON =
+			Pattern.compile( "\\(\\w+\\.groupNumber,\\w+\\.slotNumber\\)[<>]\\(\\?,\\?\\)" );
+	private static final Pattern LEADING_KEY_SEEK = Pattern.compile( "\\w+\\.groupNumber>=\\?" );
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			int id = 0;
+			for ( int group = 1; group <= 4; group++ ) {
+				for ( int slot = 1; slot <= 5; slot++ ) {
+					final Event event = new Event();
+					event.id = ++id;
+					event.groupNumber = group;
+					event.slotNumber = slot;
+					session.persist( event );
+				}
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Event" ).executeUpdate() );
+	}
+
+	@Test
+	public void testAscending(SessionFactoryScope scope) {
+		final List<Order<? super Event>> key = List.of(
+				Order.asc( Event.class, "groupNumber" ),
+				Order.asc( Event.class, "slotNumber" )
+		);
+		final List<Integer> ids = readAllPages( scope, key );
+		assertThat( ids ).hasSize( 20 );
+		assertThat( ids ).isSorted();
+	}
+
+	@Test
+	public void testDescending(SessionFactoryScope scope) {
+		final List<Order<? super Event>> key = List.of(
+				Order.desc( Event.class, "groupNumber" ),
+				Order.desc( Event.class, "slotNumber" )
+		);
+		final List<Integer> ids = readAllPages( scope, key );
+		assertThat( ids ).hasSize( 20 );
+		assertThat( ids ).isSortedAccordingTo( ( x, y ) -> Integer.compare( y, x ) );
+	}
+
+	@Test
+	@RequiresDialect(H2Dialect.class)
+	@RequiresDialect(PostgreSQLDialect.class)
+	public void testRenderedTupleComparison(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		readAllPages( scope, List.of(
+				Order.asc( Event.class, "groupNumber" ),
+				Order.asc( Event.class, "slotNumber" )
+		) );
+		// the first page is not restricted
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		assertThat( sqlQueries.get( 0 ) ).doesNotContainPattern( TUPLE_COMPARISON );
+		assertThat( sqlQueries.subList( 1, sqlQueries.size() ) ).isNotEmpty()
+				.allSatisfy( sql -> assertThat( sql ).containsPattern( TUPLE_COMPARISON ) );
+	}
+
+	@Test
+	public void testMixedDirections(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		final List<Integer> ids = readAllPages( scope, List.of(
+				Order.asc( Event.class, "groupNumber" ),
+				Order.desc( Event.class, "slotNumber" )
+		) );
+		// ascending groups, with descending slots within each group
+		assertThat( ids ).containsExactly(
+				5, 4, 3, 2, 1,
+				10, 9, 8, 7, 6,
+				15, 14, 13, 12, 11,
+				20, 19, 18, 17, 16
+		);
+		// no row value comparison, but a seek on the leading key
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		assertThat( sqlQueries.subList( 1, sqlQueries.size() ) ).isNotEmpty()
+				.allSatisfy( sql -> assertThat( sql )
+						.doesNotContainPattern( TUPLE_COMPARISON )
+						.containsPattern( LEADING_KEY_SEEK ) );
+	}
+
+	@Test
+	public void testPreviousPage(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final KeyedResultList<Event> first = session.createSelectionQuery( "from Event", Event.class )
+					.getKeyedResultList( Page.first( 6 ).keyedBy( List.of(
+							Order.asc( Event.class, "groupNumber" ),
+							Order.asc( Event.class, "slotNumber" )
+					) ) );
+			final KeyedResultList<Event> second = session.createSelectionQuery( "from Event", Event.class )
+					.getKeyedResultList( first.getNextPage() );
+			assertThat( second.getResultList() ).extracting( event -> event.id )
+					.containsExactly( 7, 8, 9, 10, 11, 12 );
+			final KeyedResultList<Event> previous = session.createSelectionQuery( "from Event", Event.class )
+					.getKeyedResultList( second.getPreviousPage() );
+			assertThat( previous.getResultList() ).extracting( event -> event.id )
+					.containsExactly( 1, 2, 3, 4, 5, 6 );
+		} );
+	}
+
+	private static List<Integer> readAllPages(SessionFactoryScope scope, List<Order<? super Event>> key) {
+		return scope.fromSession( session -> {
+			final List<Integer> ids = new ArrayList<>();
+			KeyedResultList<Event> page = session.createSelectionQuery( "from Event", Event.class )
+					.getKeyedResultList( Page.first( 6 ).keyedBy( key ) );
+			page.getResultList().forEach( event -> ids.add( event.id ) );
+			while ( page.getNextPage() != null ) {
+				page = session.createSelectionQuery( "from Event", Event.class )
+						.getKeyedResultList( page.getNextPage() );
+				page.getResultList().forEach( event -> ids.add( event.id ) );
+			}
+			return ids;
+		} );
+	}
+
+	@Entity(name = "Event")
+	static class Event {
+		@Id
+		Integer id;
+		int groupNumber;
+		int slotNumber;
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.persister.entity;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.loader.ast.spi.SingleIdEntityLoader;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OrderColumn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistenceSettings#LAZY_PERSISTER_INITIALIZATION}
+ */
+@DomainModel(annotatedClasses = {
+		LazyPersisterInitializationTest.Document.class,
+		LazyPersisterInitializationTest.Note.class,
+		LazyPersisterInitializationTest.Folder.class
+})
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.LAZY_PERSISTER_INITIALIZATION, value = "true"))
+@SessionFactory
+public class LazyPersisterInitializationTest {
+
+	@Test
+	public void testLifecycle(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = new Document( 1, "first" );
+			document.tags.add( "a" );
+			document.tags.add( "b" );
+			session.persist( document );
+			session.persist( new Document( 2, "second" ) );
+		} );
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.title ).isEqualTo( "first" );
+			assertThat( document.tags ).containsExactly( "a", "b" );
+			document.title = "changed";
+			document.tags.remove( 0 );
+		} );
+		scope.inTransaction( session -> {
+			final List<Document> documents = session.byMultipleIds( Document.class ).multiLoad( 1, 2 );
+			assertThat( documents ).extracting( document -> document.title ).containsExactly( "changed", "second" );
+			assertThat( documents.get( 0 ).tags ).containsExactly( "b" );
+			documents.forEach( session::remove );
+		} );
+		scope.inTransaction( session -> assertThat( session.find( Document.class, 1 ) ).isNull() );
+	}
+
+	@Test
+	public void testStructuresAreBuiltOnFirstUse(SessionFactoryScope scope) {
+		// Note is not used by any other test
+		final AbstractEntityPersister persister = entityPersister( scope, Note.class );
+		final AbstractCollectionPersister collectionPersister = (AbstractCollectionPersister) scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getCollectionDescriptor( Note.class.getName() + ".lines" );
+		assertThat( field( persister, AbstractEntityPersister.class, "singleIdLoader" ) ).isNull();
+		assertThat( field( persister, AbstractEntityPersister.class, "multiIdLoader" ) ).isNull();
+		assertThat( field( persister, AbstractEntityPersister.class, "lazyLoadPlanByFetchGroup" ) ).isNull();
+		assertThat( field( persister, AbstractEntityPersister.class, "insertCoordinator" ) ).isNull();
+		assertThat( field( persister, AbstractEntityPersister.class, "updateCoordinator" ) ).isNull();
+		assertThat( field( persister, AbstractEntityPersister.class, "deleteCoordinator" ) ).isNull();
+		assertThat( field( persister, AbstractEntityPersister.class, "mergeCoordinator" ) ).isNull();
+		assertThat( field( collectionPersister, AbstractCollectionPersister.class, "collectionLoader" ) ).isNull();
+		assertThat( field( collectionPersister, AbstractCollectionPersister.class, "collectionElementLoaderByIndex" ) )
+				.isNull();
+
+		scope.inTransaction( session -> {
+			final Note note = new Note( 1 );
+			note.lines.add( "first line" );
+			session.persist( note );
+		} );
+		scope.inTransaction( session -> assertThat( session.find( Note.class, 1 ).lines ).containsExactly( "first line" ) );
+
+		assertThat( field( persister, AbstractEntityPersister.class, "insertCoordinator" ) ).isNotNull();
+		assertThat( field( persister, AbstractEntityPersister.class, "singleIdLoader" ) ).isNotNull();
+		assertThat( field( collectionPersister, AbstractCollectionPersister.class, "collectionLoader" ) ).isNotNull();
+		// still not used
+		assertThat( field( persister, AbstractEntityPersister.class, "multiIdLoader" ) ).isNull();
+		assertThat( field( persister, AbstractEntityPersister.class, "deleteCoordinator" ) ).isNull();
+		assertThat( field( persister, AbstractEntityPersister.class, "mergeCoordinator" ) ).isNull();
+
+		scope.inTransaction( session -> session.remove( session.find( Note.class, 1 ) ) );
+		assertThat( field( persister, AbstractEntityPersister.class, "deleteCoordinator" ) ).isNotNull();
+	}
+
+	@Test
+	public void testConcurrentInitialization(SessionFactoryScope scope) throws Exception {
+		// Folder is not used by any other test
+		final AbstractEntityPersister persister = entityPersister( scope, Folder.class );
+		assertThat( field( persister, AbstractEntityPersister.class, "singleIdLoader" ) ).isNull();
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			final List<Callable<SingleIdEntityLoader<?>>> tasks = new ArrayList<>();
+			for ( int i = 0; i < 8; i++ ) {
+				tasks.add( persister::getSingleIdLoader );
+			}
+			final List<Future<SingleIdEntityLoader<?>>> loaders = executor.invokeAll( tasks );
+			final SingleIdEntityLoader<?> loader = persister.getSingleIdLoader();
+			for ( Future<SingleIdEntityLoader<?>> future : loaders ) {
+				assertThat( future.get() ).isSameAs( loader );
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	private static AbstractEntityPersister entityPersister(SessionFactoryScope scope, Class<?> entityClass) {
+		return (AbstractEntityPersister) scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( entityClass );
+	}
+
+	private static Object field(Object persister, Class<?> declaringClass, String name) {
+		try {
+			final Field field = declaringClass.getDeclaredField( name );
+			field.setAccessible( true );
+			return field.get( persister );
+		}
+		catch (ReflectiveOperationException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Integer id;
+		private String title;
+		@ElementCollection
+		@OrderColumn
+		private List<String> tags = new ArrayList<>();
+
+		public Document() {
+		}
+
+		public Document(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Note")
+	public static class Note {
+		@Id
+		private Integer id;
+		@ElementCollection
+		@OrderColumn
+		private List<String> lines = new ArrayList<>();
+
+		public Note() {
+		}
+
+		public Note(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Folder")
+	public static class Folder {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.proxy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.hibernate.Hibernate;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+import org.hibernate.proxy.pojo.bytebuddy.ProxyClassGenerator;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.implementation.FixedValue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The proxy class generated at build time by {@link ProxyClassGenerator} is used
+ * instead of generating a proxy class at runtime, unless it is stale
+ */
+@DomainModel(annotatedClasses = {
+		PregeneratedProxyTest.Book.class,
+		PregeneratedProxyTest.Author.class,
+		PregeneratedProxyTest.Magazine.class
+})
+@SessionFactory
+public class PregeneratedProxyTest {
+
+	static {
+		// simulate the build: the proxy class must be loadable before the SessionFactory is built
+		defineProxyClass( Book.class, Book.class.getClassLoader() );
+		defineStaleProxyClass( Magazine.class );
+	}
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, "Hibernate in Action" ) );
+			session.persist( new Author( 1, "Gavin" ) );
+			session.persist( new Magazine( 1, "Java Magazine" ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+			session.createMutationQuery( "delete from Magazine" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testPregeneratedProxy(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Book book = session.getReference( Book.class, 1 );
+			assertThat( book.getClass().getName() )
+					.isEqualTo( ByteBuddyProxyHelper.pregeneratedProxyName( Book.class.getName() ) );
+			assertThat( Hibernate.isInitialized( book ) ).isFalse();
+			assertThat( book.getTitle() ).isEqualTo( "Hibernate in Action" );
+			assertThat( Hibernate.isInitialized( book ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testRuntimeProxy(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = session.getReference( Author.class, 1 );
+			assertThat( author.getClass().getName() )
+					.startsWith( ByteBuddyProxyHelper.pregeneratedProxyName( Author.class.getName() ) + '$' );
+			assertThat( author.getName() ).isEqualTo( "Gavin" );
+		} );
+	}
+
+	@Test
+	public void testStaleProxyIsIgnored(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Magazine magazine = session.getReference( Magazine.class, 1 );
+			// the proxy class generated at build time exists, but not for this version of the entity class
+			assertThat( magazine.getClass().getName() )
+					.startsWith( ByteBuddyProxyHelper.pregeneratedProxyName( Magazine.class.getName() ) + '$' );
+			assertThat( magazine.getName() ).isEqualTo( "Java Magazine" );
+		} );
+	}
+
+	private static void defineStaleProxyClass(Class<?> entityClass) {
+		// a previous version of the entity class, which had one more method
+		final byte[] previousVersion = new ByteBuddy()
+				.redefine( entityClass )
+				.defineMethod( "getPublisher", String.class, Visibility.PUBLIC )
+				.intercept( FixedValue.nullValue() )
+				.make()
+				.getBytes();
+		final String resourceName = entityClass.getName().replace( '.', '/' ) + ".class";
+		defineProxyClass( entityClass, new ClassLoader( entityClass.getClassLoader() ) {
+			@Override
+			public InputStream getResourceAsStream(String name) {
+				return name.equals( resourceName )
+						? new ByteArrayInputStream( previousVersion )
+						: super.getResourceAsStream( name );
+			}
+		} );
+	}
+
+	private static void defineProxyClass(Class<?> entityClass, ClassLoader classLoader) {
+		try {
+			final Path outputDirectory = Files.createTempDirectory( "hibernate-proxies" );
+			final boolean generated = new ProxyClassGenerator( classLoader )
+					.generateProxy( entityClass.getName(), outputDirectory.toFile() );
+			assertThat( generated ).isTrue();
+			final String proxyClassName = ByteBuddyProxyHelper.pregeneratedProxyName( entityClass.getName() );
+			final byte[] bytes = Files.readAllBytes( outputDirectory.resolve( proxyClassName.replace( '.', '/' ) + ".class" ) );
+			MethodHandles.privateLookupIn( entityClass, MethodHandles.lookup() ).defineClass( bytes );
+		}
+		catch (IOException | IllegalAccessException e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Magazine")
+	public static class Magazine {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Magazine() {
+		}
+
+		public Magazine(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.query.sqm.spi.DelegatingSqmSelectionQueryImplementor;
+import org.hibernate.query.sqm.spi.SqmSelectionQueryImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.query.SelectionQuery#getResultListAsync()} and
+ * {@link org.hibernate.query.MutationQuery#executeUpdateAsync()}
+ */
+@DomainModel( annotatedClasses = AsyncQueryTest.Item.class )
+@SessionFactory
+public class AsyncQueryTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Item( 1, "first" ) );
+			session.persist( new Item( 2, "second" ) );
+			session.persist( new Item( 3, "third" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testGetResultListAsync(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<String> names = session.createSelectionQuery( "select name from Item order by id", String.class )
+					.getResultListAsync()
+					.toCompletableFuture()
+					.orTimeout( 30, TimeUnit.SECONDS )
+					.join();
+			assertThat( names ).containsExactly( "first", "second", "third" );
+		} );
+	}
+
+	@Test
+	public void testGetResultListAsyncWithExecutor(SessionFactoryScope scope) {
+		final AtomicInteger tasks = new AtomicInteger();
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			scope.inTransaction( session -> {
+				final List<Item> items = session.createSelectionQuery( "from Item where id > 1 order by id", Item.class )
+						.getResultListAsync( task -> {
+							tasks.incrementAndGet();
+							executor.execute( task );
+						} )
+						.toCompletableFuture()
+						.orTimeout( 30, TimeUnit.SECONDS )
+						.join();
+				assertThat( items ).extracting( item -> item.name ).containsExactly( "second", "third" );
+			} );
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertThat( tasks ).hasValue( 1 );
+	}
+
+	@Test
+	public void testGetResultListAsyncThroughDelegate(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final SqmSelectionQueryImplementor<String> query = (SqmSelectionQueryImplementor<String>)
+					session.createSelectionQuery( "select name from Item where id = 2", String.class );
+			final DelegatingSqmSelectionQueryImplementor<String> delegating = new DelegatingSqmSelectionQueryImplementor<>() {
+				@Override
+				protected SqmSelectionQueryImplementor<String> getDelegate() {
+					return query;
+				}
+			};
+			final List<String> names = delegating.getResultListAsync()
+					.toCompletableFuture()
+					.orTimeout( 30, TimeUnit.SECONDS )
+					.join();
+			assertThat( names ).containsExactly( "second" );
+		} );
+	}
+
+	@Test
+	public void testExecuteUpdateAsync(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final int updated = session.createMutationQuery( "update Item set name = upper(name) where id < 3" )
+					.executeUpdateAsync()
+					.toCompletableFuture()
+					.orTimeout( 30, TimeUnit.SECONDS )
+					.join();
+			assertThat( updated ).isEqualTo( 2 );
+		} );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select name from Item order by id", String.class ).getResultList()
+		).containsExactly( "FIRST", "SECOND", "third" ) );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.query.QueryBatch}
+ */
+@DomainModel( annotatedClasses = { QueryBatchTest.Author.class, QueryBatchTest.Book.class } )
+@SessionFactory( useCollectingStatementInspector = true )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ) )
+public class QueryBatchTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author tolkien = new Author( 1, "Tolkien" );
+			final Author pratchett = new Author( 2, "Pratchett" );
+			session.persist( tolkien );
+			session.persist( pratchett );
+			session.persist( new Book( 1, "The Hobbit", tolkien ) );
+			session.persist( new Book( 2, "The Silmarillion", tolkien ) );
+			session.persist( new Book( 3, "Mort", pratchett ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testQueryBatch(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			statistics.clear();
+			final List<List<?>> results = session.createQueryBatch()
+					.add( session.createSelectionQuery( "from Book where author.name = :name order by id", Book.class )
+								.setParameter( "name", "Tolkien" ) )
+					.add( session.createSelectionQuery( "select count(*) from Book", Long.class ) )
+					.add( session.createSelectionQuery( "select name from Author where id = :id", String.class )
+								.setParameter( "id", 2 ) )
+					.execute();
+
+			assertThat( results ).hasSize( 3 );
+			assertThat( results.get( 0 ) ).extracting( book -> ( (Book) book ).title )
+					.containsExactly( "The Hobbit", "The Silmarillion" );
+			assertThat( results.get( 1 ) ).containsExactly( 3L );
+			assertThat( results.get( 2 ) ).containsExactly( "Pratchett" );
+
+			final boolean batched = session.getJdbcServices().getDialect().supportsMultipleResultSetsPerStatement();
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( batched ? 1 : 3 );
+			assertThat( session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry()
+					.hasRegisteredResources() ).isFalse();
+		} );
+	}
+
+	@Test
+	@RequiresDialect( PostgreSQLDialect.class )
+	@RequiresDialect( SQLServerDialect.class )
+	public void testQueryBatchIsOneRoundTrip(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<List<?>> results = session.createQueryBatch()
+					.add( session.createSelectionQuery( "select title from Book where author.id = :id order by id", String.class )
+								.setParameter( "id", 1 ) )
+					.add( session.createSelectionQuery( "select name from Author where id = :id", String.class )
+								.setParameter( "id", 2 ) )
+					.add( session.createSelectionQuery( "from Book where id = :id", Book.class )
+								.setParameter( "id", 3 ) )
+					.execute();
+
+			assertThat( results.get( 0 ) ).containsExactly( "The Hobbit", "The Silmarillion" );
+			assertThat( results.get( 1 ) ).containsExactly( "Pratchett" );
+			assertThat( results.get( 2 ) ).extracting( book -> ( (Book) book ).title ).containsExactly( "Mort" );
+
+			// all three selects were sent as one statement
+			statementInspector.assertExecutedCount( 1 );
+			statementInspector.assertNumberOfOccurrenceInQueryNoSpace( 0, ";", 2 );
+		} );
+	}
+
+	@Test
+	public void testQueryBatchWithUnbatchableQuery(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<List<?>> results = session.createQueryBatch()
+					.add( session.createSelectionQuery( "select title from Book order by id", String.class )
+								.setTimeout( 10 ) )
+					.add( session.createSelectionQuery( "select name from Author order by id", String.class ) )
+					.add( session.createSelectionQuery( "select title from Book where id = 3", String.class ) )
+					.execute();
+
+			assertThat( results.get( 0 ) ).containsExactly( "The Hobbit", "The Silmarillion", "Mort" );
+			assertThat( results.get( 1 ) ).containsExactly( "Tolkien", "Pratchett" );
+			assertThat( results.get( 2 ) ).containsExactly( "Mort" );
+
+			// the query with a timeout is executed on its own
+			final boolean batched = session.getJdbcServices().getDialect().supportsMultipleResultSetsPerStatement();
+			statementInspector.assertExecutedCount( batched ? 2 : 3 );
+		} );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
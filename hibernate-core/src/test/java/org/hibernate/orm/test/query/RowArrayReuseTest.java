@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that results are not affected when row arrays are reused by
+ * {@link org.hibernate.sql.results.internal.StandardRowReader}
+ */
+@DomainModel( annotatedClasses = RowArrayReuseTest.Item.class )
+@SessionFactory
+public class RowArrayReuseTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Item( 1, "first" ) );
+			session.persist( new Item( 2, "second" ) );
+			session.persist( new Item( 3, "third" ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testListResults(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			@SuppressWarnings("rawtypes")
+			final List<List> results = session.createSelectionQuery( "select id, name from Item order by id", List.class )
+					.getResultList();
+			assertThat( results ).hasSize( 3 );
+			assertThat( results.get( 0 ) ).containsExactly( 1, "first" );
+			assertThat( results.get( 1 ) ).containsExactly( 2, "second" );
+			assertThat( results.get( 2 ) ).containsExactly( 3, "third" );
+		} );
+	}
+
+	@Test
+	public void testMapResults(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			@SuppressWarnings("rawtypes")
+			final List<Map> results = session.createSelectionQuery( "select id as id, name as name from Item order by id", Map.class )
+					.getResultList();
+			assertThat( results ).hasSize( 3 );
+			assertThat( results.get( 0 ) ).containsEntry( "id", 1 ).containsEntry( "name", "first" );
+			assertThat( results.get( 2 ) ).containsEntry( "id", 3 ).containsEntry( "name", "third" );
+		} );
+	}
+
+	@Test
+	public void testConstructorResults(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Summary> results = session.createSelectionQuery( "select id, name from Item order by id", Summary.class )
+					.getResultList();
+			assertThat( results ).extracting( summary -> summary.name )
+					.containsExactly( "first", "second", "third" );
+			assertThat( results ).extracting( summary -> summary.id )
+					.containsExactly( 1, 2, 3 );
+		} );
+	}
+
+	@Test
+	public void testArrayResults(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Object[]> results = session.createSelectionQuery( "select id, name from Item order by id", Object[].class )
+					.getResultList();
+			assertThat( results ).hasSize( 3 );
+			assertThat( results.get( 0 ) ).containsExactly( 1, "first" );
+			assertThat( results.get( 1 ) ).containsExactly( 2, "second" );
+			assertThat( results.get( 2 ) ).containsExactly( 3, "third" );
+		} );
+	}
+
+	public static class Summary {
+		private final Integer id;
+		private final String name;
+
+		public Summary(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.query;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollableResults;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.internal.AbstractScrollableResults;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.sql.results.internal.SpecializedRowReader;
+import org.hibernate.sql.results.internal.StandardRowReader;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that queries read by generated row readers return the same results as
+ * queries read by the standard row reader.
+ */
+@DomainModel( annotatedClasses = { SpecializedRowReaderTest.Team.class, SpecializedRowReaderTest.Player.class } )
+@SessionFactory
+@ServiceRegistry( settings = @Setting( name = QuerySettings.SPECIALIZED_ROW_READERS, value = "true" ) )
+public class SpecializedRowReaderTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				final Team team = new Team( i, "team-" + i );
+				session.persist( team );
+				for ( int j = 0; j < 4; j++ ) {
+					final Player player = new Player( i * 10 + j, "player-" + i + "-" + j, team );
+					team.players.add( player );
+					session.persist( player );
+				}
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Player" ).executeUpdate();
+			session.createMutationQuery( "delete from Team" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testGeneratorEnabled(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getFastSessionServices().rowReaderGenerator ).isNotNull();
+	}
+
+	@Test
+	public void testRowReadersAreGenerated(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			// entity result
+			assertGeneratedRowReader( session.createSelectionQuery( "from Team", Team.class ) );
+			// single result, returned without a row array
+			assertGeneratedRowReader( session.createSelectionQuery( "select p.name from Player p", String.class ) );
+			// row array kept by the result
+			assertGeneratedRowReader( session.createSelectionQuery( "select p.id, p.name from Player p", Object[].class ) );
+			// row array reused for each row
+			assertGeneratedRowReader( session.createSelectionQuery( "select p.id, p.name from Player p", List.class ) );
+		} );
+	}
+
+	@Test
+	public void testEntityResults(SessionFactoryScope scope) {
+		// run each query twice, so that the second execution reuses the generated class
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Team> teams = session.createSelectionQuery(
+						"from Team t join fetch t.players order by t.id",
+						Team.class
+				).getResultList();
+				assertThat( teams ).extracting( team -> team.name ).containsExactly( "team-0", "team-1", "team-2" );
+				assertThat( teams ).allSatisfy( team -> {
+					assertThat( Hibernate.isInitialized( team.players ) ).isTrue();
+					assertThat( team.players ).hasSize( 4 );
+				} );
+			} );
+		}
+	}
+
+	@Test
+	public void testScalarResults(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Tuple> tuples = session.createSelectionQuery(
+					"select p.id, p.name, p.team from Player p where p.id < 10 order by p.id",
+					Tuple.class
+			).getResultList();
+			assertThat( tuples ).hasSize( 4 );
+			assertThat( tuples.get( 1 ).get( 0 ) ).isEqualTo( 1 );
+			assertThat( tuples.get( 1 ).get( 1 ) ).isEqualTo( "player-0-1" );
+			assertThat( ( (Team) tuples.get( 1 ).get( 2 ) ).name ).isEqualTo( "team-0" );
+
+			final List<String> names = session.createSelectionQuery(
+					"select p.name from Player p where p.team.id = 2 order by p.id",
+					String.class
+			).getResultList();
+			assertThat( names ).containsExactly( "player-2-0", "player-2-1", "player-2-2", "player-2-3" );
+		} );
+	}
+
+	@Test
+	public void testReusedRowArray(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Object[]> arrays = session.createSelectionQuery(
+					"select p.id, p.name from Player p where p.team.id = 1 order by p.id",
+					Object[].class
+			).getResultList();
+			assertThat( arrays ).extracting( row -> row[1] )
+					.containsExactly( "player-1-0", "player-1-1", "player-1-2", "player-1-3" );
+
+			//noinspection rawtypes
+			final List<List> lists = session.createSelectionQuery(
+					"select p.id, p.name from Player p where p.team.id = 1 order by p.id",
+					List.class
+			).getResultList();
+			assertThat( lists ).extracting( row -> row.get( 1 ) )
+					.containsExactly( "player-1-0", "player-1-1", "player-1-2", "player-1-3" );
+		} );
+	}
+
+	@Test
+	public void testHugeShapeIsReadByStandardRowReader(SessionFactoryScope scope) {
+		// 400 assemblers, which would unroll into a method too large to be compiled
+		final StringBuilder hql = new StringBuilder( "select p.id" );
+		for ( int i = 1; i < 400; i++ ) {
+			hql.append( ", p.id + " ).append( i );
+		}
+		hql.append( " from Player p where p.id = 21" );
+		scope.inTransaction( session -> {
+			final SelectionQuery<Object[]> query = session.createSelectionQuery( hql.toString(), Object[].class );
+			assertThat( rowReader( query ) ).isExactlyInstanceOf( StandardRowReader.class );
+			final Object[] row = query.getSingleResult();
+			assertThat( row ).hasSize( 400 );
+			assertThat( row[0] ).isEqualTo( 21 );
+			assertThat( row[399] ).isEqualTo( 420 );
+		} );
+	}
+
+	private static void assertGeneratedRowReader(SelectionQuery<?> query) {
+		assertThat( rowReader( query ) ).isInstanceOf( SpecializedRowReader.class );
+	}
+
+	private static Object rowReader(SelectionQuery<?> query) {
+		try ( ScrollableResults<?> results = query.scroll() ) {
+			final Method getRowReader = AbstractScrollableResults.class.getDeclaredMethod( "getRowReader" );
+			getRowReader.setAccessible( true );
+			return getRowReader.invoke( results );
+		}
+		catch (ReflectiveOperationException e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	@Entity(name = "Team")
+	public static class Team {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany(mappedBy = "team")
+		private List<Player> players = new ArrayList<>();
+
+		public Team() {
+		}
+
+		public Team(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Player")
+	public static class Player {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Team team;
+
+		public Player() {
+		}
+
+		public Player(Integer id, String name, Team team) {
+			this.id = id;
+			this.name = name;
+			this.team = team;
+		}
+	}
+}
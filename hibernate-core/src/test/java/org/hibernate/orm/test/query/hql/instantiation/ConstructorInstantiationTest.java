@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql.instantiation;
+
+import java.util.List;
+
+import org.hibernate.annotations.Imported;
+import org.hibernate.query.sqm.sql.internal.InstantiationException;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for instantiation through a constructor, with primitive and reference
+ * typed parameters, and for the failure of the constructor itself
+ */
+@DomainModel( annotatedClasses = {
+		ConstructorInstantiationTest.Measurement.class,
+		ConstructorInstantiationTest.MeasurementDto.class,
+		ConstructorInstantiationTest.FailingDto.class
+} )
+@SessionFactory
+public class ConstructorInstantiationTest {
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Measurement( i, "sensor-" + i, i * 1.5, i * 100L ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testConstructorInstantiation(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<MeasurementDto> results = session.createQuery(
+					"select new MeasurementDto(m.id, m.sensor, m.reading, m.timestamp) from Measurement m order by m.id",
+					MeasurementDto.class
+			).getResultList();
+			assertThat( results ).hasSize( 10 );
+			final MeasurementDto dto = results.get( 3 );
+			assertThat( dto.id ).isEqualTo( 4 );
+			assertThat( dto.sensor ).isEqualTo( "sensor-4" );
+			assertThat( dto.reading ).isEqualTo( 6.0 );
+			assertThat( dto.timestamp ).isEqualTo( 400L );
+		} );
+	}
+
+	@Test
+	public void testConstructorInstantiationWithOtherSelections(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Object[]> results = session.createQuery(
+					"select m.id, new MeasurementDto(m.id, m.sensor, m.reading, m.timestamp) from Measurement m order by m.id",
+					Object[].class
+			).getResultList();
+			assertThat( results ).hasSize( 10 );
+			assertThat( results.get( 0 )[0] ).isEqualTo( 1 );
+			assertThat( ( (MeasurementDto) results.get( 0 )[1] ).sensor ).isEqualTo( "sensor-1" );
+		} );
+	}
+
+	@Test
+	public void testConstructorFailure(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThatThrownBy(
+				() -> session.createQuery( "select new FailingDto(m.sensor) from Measurement m", FailingDto.class )
+						.getResultList()
+		).isInstanceOf( InstantiationException.class ).hasRootCauseInstanceOf( IllegalStateException.class ) );
+	}
+
+	@Entity( name = "Measurement" )
+	public static class Measurement {
+		@Id
+		private Integer id;
+		private String sensor;
+		private double reading;
+		private long timestamp;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, String sensor, double reading, long timestamp) {
+			this.id = id;
+			this.sensor = sensor;
+			this.reading = reading;
+			this.timestamp = timestamp;
+		}
+	}
+
+	@Imported
+	public static class MeasurementDto {
+		private final int id;
+		private final String sensor;
+		private final double reading;
+		private final long timestamp;
+
+		public MeasurementDto(int id, String sensor, double reading, long timestamp) {
+			this.id = id;
+			this.sensor = sensor;
+			this.reading = reading;
+			this.timestamp = timestamp;
+		}
+	}
+
+	@Imported
+	public static class FailingDto {
+		public FailingDto(String sensor) {
+			throw new IllegalStateException( "Unable to create DTO for " + sensor );
+		}
+	}
+}
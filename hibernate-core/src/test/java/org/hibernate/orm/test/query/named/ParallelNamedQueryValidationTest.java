@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.query.named;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.query.NamedQueryValidationException;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link QuerySettings#QUERY_PARALLEL_STARTUP_CHECKING}
+ */
+@DomainModel(annotatedClasses = ParallelNamedQueryValidationTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = QuerySettings.QUERY_STARTUP_CHECKING, value = "true"),
+		@Setting(name = QuerySettings.QUERY_PARALLEL_STARTUP_CHECKING, value = "true"),
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class ParallelNamedQueryValidationTest {
+
+	@Test
+	public void testValidatedQueriesAreCached(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			session.createNamedQuery( "Book.byTitle", Book.class )
+					.setParameter( "title", "Hibernate in Action" )
+					.getResultList();
+			// the interpretation was cached when the query was validated at startup
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testBrokenQueries() {
+		final StandardServiceRegistry ssr = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( QuerySettings.QUERY_STARTUP_CHECKING, true )
+				.applySetting( QuerySettings.QUERY_PARALLEL_STARTUP_CHECKING, true )
+				.build();
+		try {
+			final MetadataSources metadataSources = new MetadataSources( ssr )
+					.addAnnotatedClass( Book.class )
+					.addAnnotatedClass( BrokenBook.class );
+			assertThatThrownBy( () -> metadataSources.buildMetadata().buildSessionFactory().close() )
+					.isInstanceOf( NamedQueryValidationException.class )
+					.satisfies( e -> assertThat( ( (NamedQueryValidationException) e ).getErrors() )
+							.containsOnlyKeys( "BrokenBook.unknownAttribute", "BrokenBook.unknownEntity" ) );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( ssr );
+		}
+	}
+
+	@Entity(name = "Book")
+	@NamedQuery(name = "Book.byTitle", query = "from Book where title = :title")
+	@NamedQuery(name = "Book.titles", query = "select title from Book order by title")
+	@NamedQuery(name = "Book.count", query = "select count(*) from Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+	}
+
+	@Entity(name = "BrokenBook")
+	@NamedQuery(name = "BrokenBook.valid", query = "from BrokenBook")
+	@NamedQuery(name = "BrokenBook.unknownAttribute", query = "select isbn from BrokenBook")
+	@NamedQuery(name = "BrokenBook.unknownEntity", query = "from Magazine")
+	public static class BrokenBook {
+		@Id
+		Integer id;
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.List;
+
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that temporal values copied by {@link org.hibernate.StatelessSession#bulkInsert(Iterable)}
+ * are stored exactly as the same values inserted by an {@code insert} statement, in the
+ * configured JDBC time zone, and with their fractional seconds
+ */
+@DomainModel( annotatedClasses = BulkInsertTemporalTest.Measurement.class )
+@SessionFactory
+@ServiceRegistry( settings = @Setting( name = JdbcSettings.JDBC_TIME_ZONE, value = "Asia/Kolkata" ) )
+@RequiresDialect(PostgreSQLDialect.class)
+public class BulkInsertTemporalTest {
+
+	@AfterEach
+	public void cleanUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testCopiedRowMatchesInsertedRow(SessionFactoryScope scope) {
+		final LocalTime time = LocalTime.of( 23, 45, 12, 345_000_000 );
+		final LocalDateTime timestamp = LocalDateTime.of( 2024, 3, 31, 1, 30, 15, 123_456_000 );
+		final Date date = new Date( 1_711_848_615_789L );
+
+		scope.inStatelessTransaction( session -> {
+			session.insert( new Measurement( 1, time, timestamp, date ) );
+			session.bulkInsert( List.of( new Measurement( 2, time, timestamp, date ) ) );
+		} );
+
+		scope.inStatelessTransaction( session -> {
+			final List<Object[]> rows = session.createNativeQuery(
+					"select cast(timeValue as varchar), cast(timestampValue as varchar), cast(dateValue as varchar)"
+							+ " from Measurement order by id",
+					Object[].class
+			).getResultList();
+			assertThat( rows ).hasSize( 2 );
+			assertThat( rows.get( 1 ) ).containsExactly( rows.get( 0 ) );
+			assertThat( (String) rows.get( 1 )[0] ).endsWith( ".345" );
+
+			final Measurement copied = session.get( Measurement.class, 2 );
+			assertThat( copied.timeValue ).isEqualTo( time );
+			assertThat( copied.timestampValue ).isEqualTo( timestamp );
+			assertThat( copied.dateValue.getTime() ).isEqualTo( date.getTime() );
+		} );
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		private Integer id;
+		private LocalTime timeValue;
+		private LocalDateTime timestampValue;
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date dateValue;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, LocalTime timeValue, LocalDateTime timestampValue, Date dateValue) {
+			this.id = id;
+			this.timeValue = timeValue;
+			this.timestampValue = timestampValue;
+			this.dateValue = dateValue;
+		}
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.StatelessSession#bulkInsert(Iterable)}
+ */
+@DomainModel( annotatedClasses = { BulkInsertTest.Reading.class, BulkInsertTest.Sensor.class } )
+@SessionFactory(useCollectingStatementInspector = true)
+public class BulkInsertTest {
+
+	@AfterEach
+	public void cleanUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Reading" ).executeUpdate();
+			session.createMutationQuery( "delete from Sensor" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testBulkInsert(SessionFactoryScope scope) {
+		final List<Reading> readings = readings( 250 );
+		scope.inStatelessTransaction( session -> session.bulkInsert( readings ) );
+
+		assertThat( readings ).allSatisfy( reading -> {
+			assertThat( reading.id ).isNotNull();
+			assertThat( reading.version ).isEqualTo( 0 );
+		} );
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Reading", Long.class ).getSingleResult() )
+					.isEqualTo( 250L );
+			final Reading reading = session.get( Reading.class, readings.get( 10 ).id );
+			assertThat( reading.sensor ).isEqualTo( "sensor-3" );
+			assertThat( reading.value ).isEqualTo( 5.0 );
+			assertThat( reading.note ).isEqualTo( "note\t10" );
+			assertThat( session.get( Reading.class, readings.get( 9 ).id ).note ).isNull();
+		} );
+	}
+
+	@Test
+	@RequiresDialect(H2Dialect.class)
+	public void testMultiRowInsertStatements(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Reading> readings = readings( 250 );
+		scope.inStatelessTransaction( session -> {
+			statementInspector.clear();
+			session.bulkInsert( readings );
+			// one statement for the two full chunks of 100 rows, and one for the last 50 rows
+			assertThat( insertStatements( statementInspector ) ).hasSize( 2 );
+		} );
+		scope.inStatelessTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Reading", Long.class ).getSingleResult()
+		).isEqualTo( 250L ) );
+	}
+
+	@Test
+	@RequiresDialect(PostgreSQLDialect.class)
+	public void testCopy(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Reading> readings = readings( 250 );
+		readings.get( 0 ).note = "back\\slash,\ttab\nnew line\rcarriage return";
+		scope.inStatelessTransaction( session -> {
+			statementInspector.clear();
+			session.bulkInsert( readings );
+			// the rows are streamed through the CopyManager, not through prepared statements
+			assertThat( insertStatements( statementInspector ) ).isEmpty();
+		} );
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Reading", Long.class ).getSingleResult() )
+					.isEqualTo( 250L );
+			final Reading first = session.get( Reading.class, readings.get( 0 ).id );
+			assertThat( first.note ).isEqualTo( readings.get( 0 ).note );
+			assertThat( first.version ).isEqualTo( 0 );
+			final Reading reading = session.get( Reading.class, readings.get( 10 ).id );
+			assertThat( reading.sensor ).isEqualTo( "sensor-3" );
+			assertThat( reading.value ).isEqualTo( 5.0 );
+			assertThat( session.get( Reading.class, readings.get( 9 ).id ).note ).isNull();
+		} );
+	}
+
+	@Test
+	public void testBulkInsertWithIdentity(SessionFactoryScope scope) {
+		final List<Sensor> sensors = new ArrayList<>();
+		for ( int i = 0; i < 20; i++ ) {
+			sensors.add( new Sensor( "sensor-" + i ) );
+		}
+		scope.inStatelessTransaction( session -> session.bulkInsert( sensors ) );
+
+		assertThat( sensors ).allSatisfy( sensor -> assertThat( sensor.id ).isNotNull() );
+		scope.inStatelessTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Sensor", Long.class ).getSingleResult()
+		).isEqualTo( 20L ) );
+	}
+
+	@Test
+	public void testBulkInsertNothing(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> session.bulkInsert( List.of() ) );
+	}
+
+	private static List<Reading> readings(int count) {
+		final List<Reading> readings = new ArrayList<>();
+		for ( int i = 0; i < count; i++ ) {
+			readings.add( new Reading( "sensor-" + ( i % 7 ), i * 0.5, i % 3 == 0 ? null : "note\t" + i ) );
+		}
+		return readings;
+	}
+
+	private static List<String> insertStatements(SQLStatementInspector statementInspector) {
+		return statementInspector.getSqlQueries().stream()
+				.filter( sql -> sql.startsWith( "insert" ) )
+				.collect( Collectors.toList() );
+	}
+
+	@Entity(name = "Reading")
+	public static class Reading {
+		@Id
+		@GeneratedValue
+		private Long id;
+		@Version
+		private Integer version;
+		private String sensor;
+		private double value;
+		private String note;
+
+		public Reading() {
+		}
+
+		public Reading(String sensor, double value, String note) {
+			this.sensor = sensor;
+			this.value = value;
+			this.note = note;
+		}
+	}
+
+	@Entity(name = "Sensor")
+	public static class Sensor {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+		private String name;
+
+		public Sensor() {
+		}
+
+		public Sensor(String name) {
+			this.name = name;
+		}
+	}
+}
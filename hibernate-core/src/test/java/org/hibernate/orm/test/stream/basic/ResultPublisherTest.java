@@ -0,0 +1,236 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stream.basic;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.internal.ScrollableResultsPublisher;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.query.SelectionQuery#getResultPublisher()}
+ */
+@DomainModel( annotatedClasses = ResultPublisherTest.Item.class )
+@SessionFactory
+public class ResultPublisherTest {
+	private static final int ITEM_COUNT = 50;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < ITEM_COUNT; i++ ) {
+				session.persist( new Item( i, "item-" + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testPublisherWithBackpressure(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final CollectingSubscriber subscriber = new CollectingSubscriber( 7, Long.MAX_VALUE );
+			session.createSelectionQuery( "select i.name from Item i order by i.id", String.class )
+					.getResultPublisher()
+					.subscribe( subscriber );
+			assertThat( subscriber.future ).isCompleted();
+			assertThat( subscriber.future.join() ).hasSize( ITEM_COUNT ).startsWith( "item-0", "item-1" );
+			assertThat( session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry()
+					.hasRegisteredResources() ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testPublisherOnExecutor(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			scope.inTransaction( session -> {
+				final CollectingSubscriber subscriber = new CollectingSubscriber( 10, Long.MAX_VALUE );
+				session.createSelectionQuery( "from Item i order by i.id", Item.class )
+						.getResultPublisher( executor )
+						.subscribe( subscriber );
+				final List<String> names = subscriber.future.orTimeout( 30, TimeUnit.SECONDS ).join();
+				assertThat( names ).hasSize( ITEM_COUNT );
+			} );
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testCancel(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final CollectingSubscriber subscriber = new CollectingSubscriber( 5, 12 );
+			session.createSelectionQuery( "select i.name from Item i order by i.id", String.class )
+					.getResultPublisher()
+					.subscribe( subscriber );
+			assertThat( subscriber.results ).hasSize( 12 );
+			assertThat( subscriber.future ).isNotDone();
+			assertThat( session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry()
+					.hasRegisteredResources() ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testSubscriberFailureCancelsSubscription(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<String> received = new ArrayList<>();
+			final Flow.Subscription[] subscription = new Flow.Subscription[1];
+			session.createSelectionQuery( "select i.name from Item i order by i.id", String.class )
+					.getResultPublisher()
+					.subscribe( new Flow.Subscriber<>() {
+						@Override
+						public void onSubscribe(Flow.Subscription s) {
+							subscription[0] = s;
+							s.request( 10 );
+						}
+
+						@Override
+						public void onNext(String item) {
+							received.add( item );
+							if ( received.size() == 3 ) {
+								throw new IllegalStateException( "subscriber failure" );
+							}
+						}
+
+						@Override
+						public void onError(Throwable throwable) {
+						}
+
+						@Override
+						public void onComplete() {
+						}
+					} );
+			assertThat( received ).hasSize( 3 );
+			assertThat( session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry()
+					.hasRegisteredResources() ).isFalse();
+
+			// the subscription was cancelled, so no more results are delivered
+			subscription[0].request( 10 );
+			assertThat( received ).hasSize( 3 );
+		} );
+	}
+
+	@Test
+	public void testFetchSizeFollowsLargerDemandOnly() {
+		final List<Integer> fetchSizes = new ArrayList<>();
+		final int[] position = new int[1];
+		final ScrollableResults<?> results = (ScrollableResults<?>) Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class<?>[] { ScrollableResults.class },
+				(proxy, method, args) -> {
+					switch ( method.getName() ) {
+						case "setFetchSize":
+							fetchSizes.add( (Integer) args[0] );
+							return null;
+						case "next":
+							return position[0]++ < ITEM_COUNT;
+						case "get":
+							return "item-" + ( position[0] - 1 );
+						default:
+							return null;
+					}
+				}
+		);
+		final CollectingSubscriber subscriber = new CollectingSubscriber( 1, 3 );
+		new ScrollableResultsPublisher<>( () -> results, Runnable::run, 32, 1000 ).subscribe( subscriber );
+		assertThat( subscriber.results ).hasSize( 3 );
+		// requests for a single result still fetch 32 rows at once
+		assertThat( fetchSizes ).containsExactly( 32 );
+
+		fetchSizes.clear();
+		position[0] = 0;
+		final CollectingSubscriber greedySubscriber = new CollectingSubscriber( 40, Long.MAX_VALUE );
+		new ScrollableResultsPublisher<>( () -> results, Runnable::run, 32, 1000 ).subscribe( greedySubscriber );
+		assertThat( greedySubscriber.future.join() ).hasSize( ITEM_COUNT );
+		assertThat( fetchSizes ).first().isEqualTo( 40 );
+	}
+
+	/**
+	 * Requests results in batches, and cancels after receiving a given number of results
+	 */
+	private static class CollectingSubscriber implements Flow.Subscriber<Object> {
+		private final int batchSize;
+		private final long cancelAfter;
+		private final List<String> results = new ArrayList<>();
+		private final CompletableFuture<List<String>> future = new CompletableFuture<>();
+		private Flow.Subscription subscription;
+		private int outstanding;
+
+		private CollectingSubscriber(int batchSize, long cancelAfter) {
+			this.batchSize = batchSize;
+			this.cancelAfter = cancelAfter;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			outstanding = batchSize;
+			subscription.request( batchSize );
+		}
+
+		@Override
+		public void onNext(Object item) {
+			results.add( item instanceof Item ? ( (Item) item ).name : (String) item );
+			if ( results.size() == cancelAfter ) {
+				subscription.cancel();
+			}
+			else if ( --outstanding == 0 ) {
+				outstanding = batchSize;
+				subscription.request( batchSize );
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			future.completeExceptionally( throwable );
+		}
+
+		@Override
+		public void onComplete() {
+			future.complete( results );
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
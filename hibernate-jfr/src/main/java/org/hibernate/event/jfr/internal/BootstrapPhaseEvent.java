@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(BootstrapPhaseEvent.NAME)
+@Label("Bootstrap Phase")
+@Category("Hibernate ORM")
+@Description("A phase of building the SessionFactory")
+@StackTrace(false)
+@AllowNonPortable
+public class BootstrapPhaseEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.BootstrapPhaseEvent";
+
+	@Label("Phase")
+	public String phase;
+
+	@Label("Phase time")
+	public long executionTime;
+
+	@Label("Allocated Bytes")
+	@Description("Bytes allocated by the bootstrapping thread, or -1 if not supported by the JVM")
+	@DataAmount
+	public long allocatedBytes;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+	public transient long startedAt;
+}
@@ -43,6 +43,7 @@ public class JfrEventManager implements EventManager {
 	private static final EventType flushEventType = EventType.getEventType( FlushEvent.class );
 	private static final EventType partialFlushEventType = EventType.getEventType( PartialFlushEvent.class );
 	private static final EventType dirtyCalculationEventType = EventType.getEventType( DirtyCalculationEvent.class );
+	private static final EventType bootstrapPhaseEventType = EventType.getEventType( BootstrapPhaseEvent.class );
 
 	@Override
 	public SessionOpenEvent beginSessionOpenEvent() {
@@ -528,6 +529,36 @@ public class JfrEventManager implements EventManager {
 		}
 	}
 
+	@Override
+	public BootstrapPhaseEvent beginBootstrapPhaseEvent() {
+		if ( bootstrapPhaseEventType.isEnabled() ) {
+			final BootstrapPhaseEvent bootstrapPhaseEvent = new BootstrapPhaseEvent();
+			bootstrapPhaseEvent.startedAt = System.nanoTime();
+			bootstrapPhaseEvent.begin();
+			return bootstrapPhaseEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeBootstrapPhaseEvent(
+			HibernateMonitoringEvent event,
+			String phase,
+			long allocatedBytes) {
+		if ( event != null ) {
+			final BootstrapPhaseEvent bootstrapPhaseEvent = (BootstrapPhaseEvent) event;
+			bootstrapPhaseEvent.end();
+			if ( bootstrapPhaseEvent.shouldCommit() ) {
+				bootstrapPhaseEvent.executionTime = getExecutionTime( bootstrapPhaseEvent.startedAt );
+				bootstrapPhaseEvent.phase = phase;
+				bootstrapPhaseEvent.allocatedBytes = allocatedBytes;
+				bootstrapPhaseEvent.commit();
+			}
+		}
+	}
+
 	private long getExecutionTime(Long startTime) {
 		return NANOSECONDS.convert( System.nanoTime() - startTime, NANOSECONDS );
 	}
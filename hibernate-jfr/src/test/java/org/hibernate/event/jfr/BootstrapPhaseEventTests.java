@@ -0,0 +1,71 @@
+package org.hibernate.event.jfr;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.spi.BootstrapPhase;
+import org.hibernate.event.jfr.internal.BootstrapPhaseEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.DomainModelScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		BootstrapPhaseEventTests.TestEntity.class,
+})
+public class BootstrapPhaseEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@Test
+	@EnableEvent(BootstrapPhaseEvent.NAME)
+	public void testBootstrapPhaseEvents(DomainModelScope scope) {
+		jfrEvents.reset();
+		try ( SessionFactory sessionFactory = scope.getDomainModel().buildSessionFactory() ) {
+			assertThat( sessionFactory.isOpen() ).isTrue();
+		}
+		List<RecordedEvent> events = jfrEvents.events()
+				.filter(
+						recordedEvent ->
+						{
+							String eventName = recordedEvent.getEventType().getName();
+							return eventName.equals( BootstrapPhaseEvent.NAME );
+						}
+				).toList();
+		assertThat( events ).isNotEmpty();
+
+		Set<String> phases = events.stream()
+				.map( event -> event.getString( "phase" ) )
+				.collect( Collectors.toSet() );
+		assertThat( phases ).contains(
+				BootstrapPhase.PERSISTER_CREATION.getLabel(),
+				BootstrapPhase.MAPPING_MODEL_CREATION.getLabel(),
+				BootstrapPhase.LOADER_PREPARATION.getLabel(),
+				BootstrapPhase.NAMED_QUERY_VALIDATION.getLabel(),
+				BootstrapPhase.SCHEMA_TOOLING.getLabel()
+		);
+		for ( RecordedEvent event : events ) {
+			assertThat( event.getLong( "executionTime" ) ).isGreaterThanOrEqualTo( 0 );
+		}
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+	}
+
+}
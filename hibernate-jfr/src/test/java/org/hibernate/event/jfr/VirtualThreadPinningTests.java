@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs a load, flush and query workload on virtual threads, and fails if
+ * any virtual thread is pinned to its carrier thread while blocked.
+ */
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		VirtualThreadPinningTests.Author.class,
+		VirtualThreadPinningTests.Book.class
+})
+@SessionFactory
+public class VirtualThreadPinningTests {
+	private static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+	// no more than the size of the connection pool used by the tests
+	private static final int THREADS = 2;
+
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@Test
+	@EnableEvent(value = VIRTUAL_THREAD_PINNED, threshold = 0)
+	public void testWorkloadDoesNotPin(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executor = newVirtualThreadExecutor();
+		assumeTrue( executor != null, "Virtual threads require Java 21" );
+		try {
+			final Future<?>[] futures = new Future<?>[THREADS];
+			for ( int i = 0; i < THREADS; i++ ) {
+				final String name = "author-" + i;
+				futures[i] = executor.submit( () -> workload( scope, name ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 60, TimeUnit.SECONDS );
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		jfrEvents.awaitEvents();
+		final List<RecordedEvent> pinnedEvents = jfrEvents.events()
+				.filter( event -> event.getEventType().getName().equals( VIRTUAL_THREAD_PINNED ) )
+				.collect( Collectors.toList() );
+		assertThat( pinnedEvents )
+				.as( () -> "Virtual threads were pinned:\n" + describe( pinnedEvents ) )
+				.isEmpty();
+	}
+
+	private static void workload(SessionFactoryScope scope, String name) {
+		final Long authorId = scope.fromTransaction( session -> {
+			final Author author = new Author( name );
+			session.persist( author );
+			for ( int i = 0; i < 5; i++ ) {
+				session.persist( new Book( name + "-book-" + i, author ) );
+			}
+			return author.id;
+		} );
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, authorId );
+			author.name = name.toUpperCase();
+			final List<Book> books = session.createSelectionQuery( "from Book where author = :author", Book.class )
+					.setParameter( "author", author )
+					.getResultList();
+			assertThat( books ).hasSize( 5 );
+			session.flush();
+		} );
+	}
+
+	private static String describe(List<RecordedEvent> events) {
+		final StringBuilder description = new StringBuilder();
+		for ( RecordedEvent event : events ) {
+			description.append( event.getDuration() ).append( '\n' );
+			if ( event.getStackTrace() != null ) {
+				for ( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+					description.append( "\tat " )
+							.append( frame.getMethod().getType().getName() )
+							.append( '.' )
+							.append( frame.getMethod().getName() )
+							.append( '\n' );
+				}
+			}
+		}
+		return description.toString();
+	}
+
+	private static ExecutorService newVirtualThreadExecutor() {
+		try {
+			// the tests are compiled for Java 17
+			return (ExecutorService) MethodHandles.publicLookup()
+					.findStatic( Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType( ExecutorService.class ) )
+					.invokeExact();
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+		catch (Throwable t) {
+			throw new IllegalStateException( t );
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		@GeneratedValue
+		private Long id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		@GeneratedValue
+		private Long id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(String title, Author author) {
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
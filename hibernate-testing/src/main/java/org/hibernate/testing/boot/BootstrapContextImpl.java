@@ -21,6 +21,7 @@ import org.hibernate.boot.model.relational.AuxiliaryDatabaseObject;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.boot.spi.BootstrapPhaseTracker;
 import org.hibernate.boot.spi.ClassLoaderAccess;
 import org.hibernate.boot.spi.MetadataBuildingOptions;
 import org.hibernate.jpa.spi.MutableJpaCompliance;
@@ -158,6 +159,11 @@ public class BootstrapContextImpl implements BootstrapContext {
 		return ManagedTypeRepresentationResolverStandard.INSTANCE;
 	}
 
+	@Override
+	public BootstrapPhaseTracker getBootstrapPhaseTracker() {
+		return delegate.getBootstrapPhaseTracker();
+	}
+
 	@Override
 	public void registerAdHocBasicType(BasicType<?> basicType) {
 	}
@@ -39,6 +39,7 @@ import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
 import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.proxy.pojo.bytebuddy.ProxyClassGenerator;
 
 import org.sonatype.plexus.build.incremental.BuildContext;
 
@@ -82,7 +83,14 @@ public class MavenEnhancePlugin extends AbstractMojo {
 	@Parameter(property = "enableExtendedEnhancement", defaultValue = "false")
 	private boolean enableExtendedEnhancement;
 
+	@Parameter(property = "enableProxyGeneration", defaultValue = "false")
+	private boolean enableProxyGeneration;
+
 	private boolean shouldApply() {
+		return shouldEnhance() || enableProxyGeneration;
+	}
+
+	private boolean shouldEnhance() {
 		return enableLazyInitialization || enableDirtyTracking || enableAssociationManagement || enableExtendedEnhancement;
 	}
 
@@ -145,38 +153,51 @@ public class MavenEnhancePlugin extends AbstractMojo {
 			}
 		};
 
-		if ( !enableLazyInitialization ) {
-			log.warn( "The 'enableLazyInitialization' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
-		}
-		if ( !enableDirtyTracking ) {
-			log.warn( "The 'enableDirtyTracking' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
-		}
-		if ( enableExtendedEnhancement ) {
-			log.warn( "Extended enhancement is enabled. Classes other than entities may be modified. You should consider access the entities using getter/setter methods and disable this property. Use at your own risk." );
+		if ( shouldEnhance() ) {
+			if ( !enableLazyInitialization ) {
+				log.warn( "The 'enableLazyInitialization' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
+			}
+			if ( !enableDirtyTracking ) {
+				log.warn( "The 'enableDirtyTracking' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
+			}
+			if ( enableExtendedEnhancement ) {
+				log.warn( "Extended enhancement is enabled. Classes other than entities may be modified. You should consider access the entities using getter/setter methods and disable this property. Use at your own risk." );
+			}
 		}
 
 		//TODO allow the Maven plugin to configure the bytecode enhancer?
 		final BytecodeProvider bytecodeProvider = buildDefaultBytecodeProvider();
 		try {
-			final Enhancer enhancer = bytecodeProvider.getEnhancer( enhancementContext );
+			if ( shouldEnhance() ) {
+				final Enhancer enhancer = bytecodeProvider.getEnhancer( enhancementContext );
 
-			for ( File file : sourceSet ) {
-				discoverTypes( file, enhancer );
-				if ( log.isDebugEnabled() ) {
-					log.debug( "Successfully discovered types for class [" + file + "]" );
+				for ( File file : sourceSet ) {
+					discoverTypes( file, enhancer );
+					if ( log.isDebugEnabled() ) {
+						log.debug( "Successfully discovered types for class [" + file + "]" );
+					}
 				}
-			}
-			for ( File file : sourceSet ) {
+				for ( File file : sourceSet ) {
 
-				final byte[] enhancedBytecode = doEnhancement( file, enhancer );
+					final byte[] enhancedBytecode = doEnhancement( file, enhancer );
 
-				if ( enhancedBytecode == null ) {
-					continue;
-				}
+					if ( enhancedBytecode == null ) {
+						continue;
+					}
 
-				writeOutEnhancedClass( enhancedBytecode, file );
-				if ( log.isDebugEnabled() ) {
-					log.debug( "Successfully enhanced class [" + file + "]" );
+					writeOutEnhancedClass( enhancedBytecode, file );
+					if ( log.isDebugEnabled() ) {
+						log.debug( "Successfully enhanced class [" + file + "]" );
+					}
+				}
+			}
+			// proxies are generated from the enhanced classes, if any
+			if ( enableProxyGeneration ) {
+				final ProxyClassGenerator proxyGenerator = new ProxyClassGenerator( classLoader );
+				for ( File file : sourceSet ) {
+					if ( generateProxy( file, proxyGenerator ) && log.isDebugEnabled() ) {
+						log.debug( "Successfully generated proxy for class [" + file + "]" );
+					}
 				}
 			}
 		}
@@ -258,6 +279,24 @@ public class MavenEnhancePlugin extends AbstractMojo {
 		}
 	}
 
+	private boolean generateProxy(File javaClassFile, ProxyClassGenerator proxyGenerator) throws MojoExecutionException {
+		try {
+			String className = javaClassFile.getAbsolutePath().substring(
+					base.length() + 1,
+					javaClassFile.getAbsolutePath().length() - ".class".length()
+			).replace( File.separatorChar, '.' );
+			return proxyGenerator.generateProxy( className, new File( base ) );
+		}
+		catch (Exception e) {
+			String msg = "Unable to generate proxy for class: " + javaClassFile.getName();
+			if ( failOnError ) {
+				throw new MojoExecutionException( msg, e );
+			}
+			buildContext.addMessage( javaClassFile, 0, 0, msg, BuildContext.SEVERITY_WARNING, e );
+			return false;
+		}
+	}
+
 	private void discoverTypes(File javaClassFile, Enhancer enhancer) throws MojoExecutionException {
 		try {
 			String className = javaClassFile.getAbsolutePath().substring(
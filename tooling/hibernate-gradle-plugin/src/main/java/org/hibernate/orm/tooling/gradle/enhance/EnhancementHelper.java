@@ -23,6 +23,7 @@ import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
 import org.hibernate.orm.tooling.gradle.HibernateOrmSpec;
+import org.hibernate.proxy.pojo.bytebuddy.ProxyClassGenerator;
 
 import static org.hibernate.bytecode.internal.BytecodeProviderInitiator.buildDefaultBytecodeProvider;
 import static org.hibernate.orm.tooling.gradle.Helper.determineClassName;
@@ -40,16 +41,24 @@ public class EnhancementHelper {
 		final File classesDir = classesDirectory.getAsFile();
 
 		final EnhancementSpec enhancementDsl = ormDsl.getEnhancement();
-		if ( !enhancementDsl.getEnableLazyInitialization().get() ) {
-			project.getLogger().warn( "The 'enableLazyInitialization' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
-		}
-		if ( !enhancementDsl.getEnableDirtyTracking().get() ) {
-			project.getLogger().warn( "The 'enableDirtyTracking' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
+		if ( enhancementDsl.hasEnhancementToDo() ) {
+			if ( !enhancementDsl.getEnableLazyInitialization().get() ) {
+				project.getLogger().warn( "The 'enableLazyInitialization' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
+			}
+			if ( !enhancementDsl.getEnableDirtyTracking().get() ) {
+				project.getLogger().warn( "The 'enableDirtyTracking' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
+			}
+			final Enhancer enhancer = generateEnhancer( classLoader, ormDsl );
+
+			discoverTypes( classesDir, classesDir, enhancer, project );
+			doEnhancement( classesDir, classesDir, enhancer, project );
 		}
-		final Enhancer enhancer = generateEnhancer( classLoader, ormDsl );
 
-		discoverTypes( classesDir, classesDir, enhancer, project );
-		doEnhancement( classesDir, classesDir, enhancer, project );
+		// proxies are generated from the enhanced classes, if any
+		if ( enhancementDsl.getEnableProxyGeneration().get() ) {
+			final ProxyClassGenerator proxyGenerator = new ProxyClassGenerator( classLoader );
+			generateProxies( classesDir, classesDir, proxyGenerator, project );
+		}
 	}
 
 	private static void discoverTypes(File classesDir, File dir, Enhancer enhancer, Project project) {
@@ -92,6 +101,25 @@ public class EnhancementHelper {
 		}
 	}
 
+	private static void generateProxies(File classesDir, File dir, ProxyClassGenerator proxyGenerator, Project project) {
+		for ( File subLocation : dir.listFiles() ) {
+			if ( subLocation.isDirectory() ) {
+				generateProxies( classesDir, subLocation, proxyGenerator, project );
+			}
+			else if ( subLocation.isFile() && subLocation.getName().endsWith( ".class" ) ) {
+				final String className = determineClassName( classesDir, subLocation );
+				try {
+					if ( proxyGenerator.generateProxy( className, classesDir ) ) {
+						project.getLogger().info( "Successfully generated proxy for class : " + className );
+					}
+				}
+				catch (Exception e) {
+					throw new GradleException( "Unable to generate proxy for class : " + className, e );
+				}
+			}
+		}
+	}
+
 	private static void discoverTypes(
 			File javaClassFile,
 			String className,
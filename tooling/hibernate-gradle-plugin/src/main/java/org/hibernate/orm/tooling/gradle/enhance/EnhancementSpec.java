@@ -28,7 +28,7 @@ public class EnhancementSpec {
 	private final Property<Boolean> enableDirtyTracking;
 	private final Property<Boolean> enableAssociationManagement;
 	private final Property<Boolean> enableExtendedEnhancement;
-
+	private final Property<Boolean> enableProxyGeneration;
 
 	@Inject
 	public EnhancementSpec(HibernateOrmSpec ormDsl, Project project) {
@@ -38,6 +38,7 @@ public class EnhancementSpec {
 		enableDirtyTracking = makeProperty( project ).convention( true );
 		enableAssociationManagement = makeProperty( project ).convention( false );
 		enableExtendedEnhancement = makeProperty( project ).convention( false );
+		enableProxyGeneration = makeProperty( project ).convention( false );
 	}
 
 	@SuppressWarnings( "UnstableApiUsage" )
@@ -49,6 +50,15 @@ public class EnhancementSpec {
 	 * Whether any property values indicate work to be done.
 	 */
 	public boolean hasAnythingToDo() {
+		return hasEnhancementToDo()
+				|| enableProxyGeneration.get();
+	}
+
+	/**
+	 * Whether any property values indicate that classes should be enhanced.
+	 * Proxy generation does not imply enhancement.
+	 */
+	public boolean hasEnhancementToDo() {
 		return enableLazyInitialization.get()
 				|| enableDirtyTracking.get()
 				|| enableAssociationManagement.get()
@@ -83,6 +93,13 @@ public class EnhancementSpec {
 		return enableExtendedEnhancement;
 	}
 
+	/**
+	 * Whether the proxy classes of entities should be generated, instead of generating them at runtime
+	 */
+	public Property<Boolean> getEnableProxyGeneration() {
+		return enableProxyGeneration;
+	}
+
 
 	/**
 	 * @deprecated See the Gradle property naming <a href="https://docs.gradle.org/current/userguide/lazy_configuration.html#lazy_configuration_faqs">guidelines</a>